@@ -0,0 +1,107 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.daw.ColorQuantizer;
+import de.mossgrabers.framework.daw.DAWColors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the lookup of the DAW color of a track or clip color, with and without the cache.
+ * Like in a project, only a few different colors are used.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ColorBenchmark
+{
+    private double [] []   colors;
+    private ColorQuantizer quantizer;
+    private int            index;
+
+
+    /**
+     * Create the colors and a quantizer with the DAW palette.
+     */
+    @Setup
+    public void setup ()
+    {
+        final double [] [] palette = new double [DAWColors.DAW_COLORS.length] [];
+        for (int i = 0; i < palette.length; i++)
+            palette[i] = DAWColors.getColorEntry (DAWColors.DAW_COLORS[i]);
+        this.quantizer = new ColorQuantizer (palette, 1.0);
+
+        // Slightly off the palette like the colors reported by the DAW
+        this.colors = new double [8] [];
+        for (int i = 0; i < this.colors.length; i++)
+        {
+            final double [] entry = palette[(3 * i + 1) % palette.length];
+            this.colors[i] = new double [] { entry[0] * 0.98, entry[1] * 0.98, entry[2] * 0.98 };
+        }
+    }
+
+
+    /**
+     * Lookup a color with the cache.
+     *
+     * @return The index of the palette entry
+     */
+    @Benchmark
+    public int quantize ()
+    {
+        final double [] color = this.nextColor ();
+        return this.quantizer.quantize (color[0], color[1], color[2]);
+    }
+
+
+    /**
+     * Search a color without the cache.
+     *
+     * @return The index of the palette entry
+     */
+    @Benchmark
+    public int findNearest ()
+    {
+        final double [] color = this.nextColor ();
+        return this.quantizer.findNearest (color[0], color[1], color[2]);
+    }
+
+
+    /**
+     * Lookup the color ID, which is used by the views.
+     *
+     * @return The color ID
+     */
+    @Benchmark
+    public String colorIndex ()
+    {
+        return DAWColors.getColorIndex (this.nextColor ());
+    }
+
+
+    private double [] nextColor ()
+    {
+        this.index = (this.index + 1) % this.colors.length;
+        return this.colors[this.index];
+    }
+}
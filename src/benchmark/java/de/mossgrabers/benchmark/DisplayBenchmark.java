@@ -0,0 +1,113 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.benchmark.headless.HeadlessMidiOutput;
+import de.mossgrabers.controller.push.controller.DisplayMessage;
+import de.mossgrabers.controller.push.controller.PushDisplay;
+import de.mossgrabers.framework.controller.display.Format;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the rendering of the Push 1 text display and the creation of the messages for the Push
+ * 2 display process. The frame rate limits are disabled, so every flush renders.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DisplayBenchmark
+{
+    private static final String [] NAMES = { "Bass", "Drums", "Keys", "Pad", "Lead", "Vocals", "FX", "Master" };
+
+    /** The number of cells or columns which change between two flushes. */
+    @Param({ "1", "8" })
+    public int                     changedColumns;
+
+    /** Send only the changed grid elements to the Push 2 display process. */
+    @Param({ "false", "true" })
+    public boolean                 partialUpdates;
+
+    private PushDisplay            push1Display;
+    private PushDisplay            push2Display;
+    private int                    frame;
+
+
+    /**
+     * Create the displays.
+     */
+    @Setup
+    public void setup ()
+    {
+        final HeadlessHost host = new HeadlessHost ();
+        final HeadlessMidiOutput output = new HeadlessMidiOutput ();
+
+        this.push1Display = new PushDisplay (host, false, 1024, output);
+        this.push1Display.setMaxFrameRate (0);
+
+        this.push2Display = new PushDisplay (host, true, 1024, output);
+        this.push2Display.setCommunicationPort (7000);
+        this.push2Display.setPartialUpdates (this.partialUpdates);
+        this.push2Display.getMessageScheduler ().setMaxFrameRate (0);
+    }
+
+
+    /**
+     * Fill the cells of the Push 1 display with track data, of which some changed, and render
+     * the display.
+     */
+    @Benchmark
+    public void renderText ()
+    {
+        this.frame++;
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = i < this.changedColumns ? this.frame & 1023 : 512;
+            this.push1Display.setCell (0, i, NAMES[i]);
+            this.push1Display.setCell (1, i, value, Format.FORMAT_VALUE);
+            this.push1Display.setCell (2, i, Integer.toString (value));
+            this.push1Display.setCell (3, i, NAMES[i]);
+        }
+        this.push1Display.allDone ();
+        this.push1Display.flush ();
+    }
+
+
+    /**
+     * Create a grid message with 8 parameters, of which some changed, and send it to the Push 2
+     * display process.
+     */
+    @Benchmark
+    public void sendGrid ()
+    {
+        this.frame++;
+        final DisplayMessage message = this.push2Display.createMessage ();
+        for (int i = 0; i < 8; i++)
+        {
+            final int value = i < this.changedColumns ? this.frame & 1023 : 512;
+            message.addParameterElement (NAMES[i], value, Integer.toString (value), true, -1);
+        }
+        this.push2Display.send (message);
+    }
+}
@@ -0,0 +1,159 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.framework.command.Commands;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.controller.DummyControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.view.AbstractView;
+import de.mossgrabers.framework.view.ViewManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the dispatch of a burst of 10000 encoder CCs, e.g. from turning all 8 encoders of a
+ * controller quickly. The CCs are sent through the midi handling of a DummyControlSurface to the
+ * continuous commands of the active view. The commands only sum up the values, so the benchmark
+ * measures the lookup of the commands.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EncoderBurstBenchmark
+{
+    private static final int     BURST_SIZE       = 10000;
+    private static final int     NUM_ENCODERS     = 8;
+    // The CC of the first encoder, the others follow
+    private static final int     FIRST_ENCODER_CC = 71;
+    private static final Integer VIEW_ENCODERS    = Integer.valueOf (0);
+
+    private EncoderSurface       surface;
+    private int                  sum;
+
+
+    /**
+     * Create the surface and assign the encoders to the knob commands.
+     */
+    @Setup
+    public void setup ()
+    {
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (128, 1, 0.5);
+        this.surface = new EncoderSurface (new HeadlessHost (), new ColorManager (), new OSCConfiguration (valueChanger));
+
+        final ViewManager viewManager = this.surface.getViewManager ();
+        viewManager.registerView (VIEW_ENCODERS, new EncoderView (this.surface));
+        for (int i = 0; i < NUM_ENCODERS; i++)
+        {
+            final Integer commandID = Integer.valueOf (Commands.CONT_COMMAND_KNOB1.intValue () + i);
+            viewManager.registerContinuousCommand (commandID, value -> this.sum += value);
+            this.surface.assignContinuousCommand (FIRST_ENCODER_CC + i, commandID);
+        }
+        viewManager.setActiveView (VIEW_ENCODERS);
+    }
+
+
+    /**
+     * Send the burst of encoder CCs. The encoders are turned alternately up and down, encoded as
+     * relative values.
+     *
+     * @return The sum of all values
+     */
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public int encoderBurst ()
+    {
+        this.sum = 0;
+        for (int i = 0; i < BURST_SIZE; i++)
+            this.surface.receive (0xB0, FIRST_ENCODER_CC + i % NUM_ENCODERS, (i & 1) == 0 ? 1 : 127);
+        return this.sum;
+    }
+
+
+    /**
+     * A dummy control surface which receives midi directly instead of from a midi input.
+     */
+    private static class EncoderSurface extends DummyControlSurface<OSCConfiguration>
+    {
+        /**
+         * Constructor.
+         *
+         * @param host The host
+         * @param colorManager The color manager
+         * @param configuration The configuration
+         */
+        EncoderSurface (final IHost host, final ColorManager colorManager, final OSCConfiguration configuration)
+        {
+            super (host, colorManager, configuration);
+        }
+
+
+        /**
+         * Handle a midi message like it would have been received from the midi input.
+         *
+         * @param status The midi status byte
+         * @param data1 The midi data byte 1
+         * @param data2 The midi data byte 2
+         */
+        void receive (final int status, final int data1, final int data2)
+        {
+            this.handleMidi (status, data1, data2);
+        }
+    }
+
+
+    /**
+     * A view which only executes the registered commands.
+     */
+    private static class EncoderView extends AbstractView<EncoderSurface, OSCConfiguration>
+    {
+        /**
+         * Constructor.
+         *
+         * @param surface The surface
+         */
+        EncoderView (final EncoderSurface surface)
+        {
+            super ("Encoders", surface, null);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void drawGrid ()
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void onGridNote (final int note, final int velocity)
+        {
+            // Intentionally empty
+        }
+    }
+}
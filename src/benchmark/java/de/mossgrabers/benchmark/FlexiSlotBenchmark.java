@@ -0,0 +1,128 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessSettingsUI;
+import de.mossgrabers.controller.generic.CommandSlot;
+import de.mossgrabers.controller.generic.GenericFlexiConfiguration;
+import de.mossgrabers.controller.generic.controller.FlexiCommand;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the lookup of the Generic Flexi command slots for received midi CCs. Compares the
+ * lookup table with the linear scan over all slots, which was used before. The CCs 0-127 on midi
+ * channel 1 are looked up, the slots which are not configured cause misses.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FlexiSlotBenchmark
+{
+    /** The number of configured slots. */
+    @Param({ "8", "64", "200" })
+    public int                        usedSlots;
+
+    private GenericFlexiConfiguration configuration;
+
+
+    /**
+     * Create the configuration and assign the used slots to the CCs on midi channel 1 and 2.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.configuration = new GenericFlexiConfiguration (new DefaultValueChanger (128, 1, 0.5));
+        this.configuration.init (new HeadlessSettingsUI ());
+
+        final CommandSlot [] slots = this.configuration.getCommandSlots ();
+        final FlexiCommand [] commands = FlexiCommand.values ();
+        for (int i = 0; i < this.usedSlots; i++)
+        {
+            slots[i].set (CommandSlot.TYPE_CC, i % 128, i / 128);
+            slots[i].setCommand (commands[1 + i % (commands.length - 1)].getName ());
+        }
+    }
+
+
+    /**
+     * Look up the slots with the lookup table.
+     *
+     * @return The sum of the found slot indices
+     */
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int lookupTable ()
+    {
+        int sum = 0;
+        for (int cc = 0; cc < 128; cc++)
+        {
+            for (final int slot: this.configuration.getSlotCommands (CommandSlot.TYPE_CC, cc, 0))
+                sum += slot;
+        }
+        return sum;
+    }
+
+
+    /**
+     * Look up the slots with the linear scan.
+     *
+     * @return The sum of the found slot indices
+     */
+    @Benchmark
+    @OperationsPerInvocation(128)
+    public int linearScan ()
+    {
+        int sum = 0;
+        for (int cc = 0; cc < 128; cc++)
+        {
+            final int slot = this.getSlotCommand (CommandSlot.TYPE_CC, cc, 0);
+            if (slot >= 0)
+                sum += slot;
+        }
+        return sum;
+    }
+
+
+    /**
+     * The slot lookup before the lookup table was added.
+     *
+     * @param type The type
+     * @param number The number
+     * @param midiChannel The midi channel
+     * @return The slot index or -1 if not found
+     */
+    private int getSlotCommand (final int type, final int number, final int midiChannel)
+    {
+        final CommandSlot [] commandSlots = this.configuration.getCommandSlots ();
+        for (int i = 0; i < commandSlots.length; i++)
+        {
+            final CommandSlot slot = commandSlots[i];
+            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && slot.getNumber () == number)
+                return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,69 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.utils.NumberFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the formatting of the transport values, which are updated on each flush while the
+ * transport is playing.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormatBenchmark
+{
+    private final char [] buffer = new char [64];
+    private double        time;
+
+
+    /**
+     * Format the tempo with 2 fraction digits.
+     *
+     * @return The length of the formatted tempo
+     */
+    @Benchmark
+    public int formatTempo ()
+    {
+        return NumberFormatter.formatTempo (this.nextTime () + 20, this.buffer, 0);
+    }
+
+
+    /**
+     * Format the play position as measure.quarters.eights.
+     *
+     * @return The length of the formatted position
+     */
+    @Benchmark
+    public int formatMeasures ()
+    {
+        return NumberFormatter.formatMeasures (4, this.nextTime (), 1, this.buffer, 0);
+    }
+
+
+    private double nextTime ()
+    {
+        this.time = (this.time + 0.0625) % 512;
+        return this.time;
+    }
+}
@@ -0,0 +1,116 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.benchmark.headless.HeadlessMidiInput;
+import de.mossgrabers.benchmark.headless.HeadlessMidiOutput;
+import de.mossgrabers.benchmark.headless.HeadlessModel;
+import de.mossgrabers.controller.launchpad.LaunchpadConfiguration;
+import de.mossgrabers.controller.launchpad.command.trigger.LaunchpadCursorCommand;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadColors;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
+import de.mossgrabers.controller.launchpad.controller.LaunchpadScales;
+import de.mossgrabers.controller.launchpad.view.PlayView;
+import de.mossgrabers.controller.launchpad.view.Views;
+import de.mossgrabers.framework.command.Commands;
+import de.mossgrabers.framework.command.trigger.CursorCommand.Direction;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.display.DummyDisplay;
+import de.mossgrabers.framework.view.ViewManager;
+
+
+/**
+ * A Launchpad Pro surface with the play view, set up like in the LaunchpadControllerSetup but
+ * connected to the headless stand-ins.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LaunchpadFixture
+{
+    private final HeadlessHost            host   = new HeadlessHost ();
+    private final HeadlessMidiOutput      output = new HeadlessMidiOutput ();
+    private final HeadlessMidiInput       input  = new HeadlessMidiInput ();
+    private final HeadlessModel           model;
+    private final LaunchpadControlSurface surface;
+
+
+    /**
+     * Constructor.
+     */
+    public LaunchpadFixture ()
+    {
+        final ColorManager colorManager = new ColorManager ();
+        LaunchpadColors.addColors (colorManager);
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (128, 1, 0.5);
+        final LaunchpadScales scales = new LaunchpadScales (valueChanger, 36, 100, 8, 8);
+        this.model = new HeadlessModel (this.host, colorManager, valueChanger, scales, 8, 8, 8);
+
+        this.surface = new LaunchpadControlSurface (this.host, colorManager, new LaunchpadConfiguration (valueChanger, true), this.output, this.input, true);
+        this.surface.setDisplay (new DummyDisplay (this.host));
+
+        final ViewManager viewManager = this.surface.getViewManager ();
+        viewManager.registerView (Views.VIEW_PLAY, new PlayView (this.surface, this.model));
+        viewManager.registerTriggerCommand (Commands.COMMAND_ARROW_UP, new LaunchpadCursorCommand (Direction.UP, this.model, this.surface));
+        this.surface.assignTriggerCommand (this.surface.getUpButtonId (), Commands.COMMAND_ARROW_UP);
+        viewManager.setActiveView (Views.VIEW_PLAY);
+    }
+
+
+    /**
+     * Get the host.
+     *
+     * @return The host
+     */
+    public HeadlessHost getHost ()
+    {
+        return this.host;
+    }
+
+
+    /**
+     * Get the midi output of the surface.
+     *
+     * @return The output
+     */
+    public HeadlessMidiOutput getOutput ()
+    {
+        return this.output;
+    }
+
+
+    /**
+     * Get the midi input of the surface.
+     *
+     * @return The input
+     */
+    public HeadlessMidiInput getInput ()
+    {
+        return this.input;
+    }
+
+
+    /**
+     * Get the model.
+     *
+     * @return The model
+     */
+    public HeadlessModel getModel ()
+    {
+        return this.model;
+    }
+
+
+    /**
+     * Get the surface.
+     *
+     * @return The surface
+     */
+    public LaunchpadControlSurface getSurface ()
+    {
+        return this.surface;
+    }
+}
@@ -0,0 +1,82 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessMidiInput;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the dispatch of received midi messages from the midi callback to the active view and
+ * the commands of a Launchpad.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MidiInputBenchmark
+{
+    // The notes of the top row of the Launchpad grid
+    private static final int [] PAD_NOTES = { 81, 82, 83, 84, 85, 86, 87, 88 };
+
+    private HeadlessMidiInput   input;
+    private int                 upButton;
+
+
+    /**
+     * Create the surface.
+     */
+    @Setup
+    public void setup ()
+    {
+        final LaunchpadFixture fixture = new LaunchpadFixture ();
+        this.input = fixture.getInput ();
+        this.upButton = fixture.getSurface ().getUpButtonId ();
+    }
+
+
+    /**
+     * Press and release all pads of a row. The notes are sent to the play view.
+     */
+    @Benchmark
+    @OperationsPerInvocation(16)
+    public void gridNotes ()
+    {
+        for (final int note: PAD_NOTES)
+        {
+            this.input.receive (0x90, note, 127);
+            this.input.receive (0x90, note, 0);
+        }
+    }
+
+
+    /**
+     * Press and release a button which is bound to a command.
+     */
+    @Benchmark
+    @OperationsPerInvocation(2)
+    public void buttonCommand ()
+    {
+        this.input.receive (0xB0, this.upButton, 127);
+        this.input.receive (0xB0, this.upButton, 0);
+    }
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.benchmark.headless.HeadlessHost;
+import de.mossgrabers.benchmark.headless.HeadlessMidiInput;
+import de.mossgrabers.benchmark.headless.HeadlessModel;
+import de.mossgrabers.benchmark.headless.HeadlessOpenSoundControlMessage;
+import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.controller.osc.protocol.KeyManager;
+import de.mossgrabers.controller.osc.protocol.OSCParser;
+import de.mossgrabers.controller.osc.protocol.OSCWriter;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.scale.Scales;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the OSC protocol: a full dump and an incremental flush of the writer and the handling
+ * of received messages by the parser. The fader messages are dispatched by the router, the others
+ * are parsed.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OpenSoundControlBenchmark
+{
+    /**
+     * The messages to parse.
+     */
+    @State(Scope.Thread)
+    public static class Messages
+    {
+        /** The address of the message. */
+        @Param({ "/track/3/volume", "/track/3/send/2/volume", "/device/param/5/value", "/track/3/mute", "/tempo/raw" })
+        public String                          address;
+
+        private HeadlessOpenSoundControlMessage message;
+
+
+        /**
+         * Create the message.
+         */
+        @Setup
+        public void setup ()
+        {
+            this.message = new HeadlessOpenSoundControlMessage (this.address, Integer.valueOf (64));
+        }
+    }
+
+
+    private OSCWriter writer;
+    private OSCParser parser;
+
+
+    /**
+     * Create the writer and the parser.
+     */
+    @Setup
+    public void setup ()
+    {
+        final HeadlessHost host = new HeadlessHost ();
+        final ColorManager colorManager = new ColorManager ();
+        final DefaultValueChanger valueChanger = new DefaultValueChanger (128, 1, 0.5);
+        final Scales scales = new Scales (valueChanger, 0, 128, 128, 1);
+        scales.setChromatic (true);
+        final HeadlessModel model = new HeadlessModel (host, colorManager, valueChanger, scales, 8, 8, 8);
+        final OSCConfiguration configuration = new OSCConfiguration (valueChanger);
+        final KeyManager keyManager = new KeyManager (model);
+
+        this.writer = new OSCWriter (host, model, host.connectToOSCServer ("127.0.0.1", 9000), keyManager, configuration);
+        this.parser = new OSCParser (host, model, configuration, this.writer, new HeadlessMidiInput (), keyManager);
+
+        this.writer.flush (true);
+        this.drain ();
+    }
+
+
+    /**
+     * Send all values, e.g. after a client requested a refresh.
+     */
+    @Benchmark
+    public void flushDump ()
+    {
+        this.writer.flush (true);
+        this.drain ();
+    }
+
+
+    /**
+     * Send the changed values, which is done on every flush of the DAW. Nothing has changed.
+     */
+    @Benchmark
+    public void flushChanges ()
+    {
+        this.writer.flush (false);
+    }
+
+
+    /**
+     * Handle a received message.
+     *
+     * @param messages The message to handle
+     */
+    @Benchmark
+    public void parse (final Messages messages)
+    {
+        this.parser.handle (messages.message);
+    }
+
+
+    // A flush only sends a limited number of packets, send the rest as well
+    private void drain ()
+    {
+        while (this.writer.getPendingMessages () > 0)
+            this.writer.flush ();
+    }
+}
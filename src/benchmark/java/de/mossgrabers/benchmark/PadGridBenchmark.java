@@ -0,0 +1,93 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.launchpad.controller.LaunchpadColors;
+import de.mossgrabers.framework.controller.grid.PadGrid;
+import de.mossgrabers.framework.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the flush of the pad grid of a Launchpad, which sends the changed pads in batches.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PadGridBenchmark
+{
+    /**
+     * The number of pads which change between two flushes.
+     */
+    @State(Scope.Thread)
+    public static class Changes
+    {
+        /** The number of changed pads. */
+        @Param({ "0", "1", "8", "64" })
+        public int changedPads;
+    }
+
+
+    private PadGrid pads;
+    private View    view;
+    private int     color = LaunchpadColors.LAUNCHPAD_COLOR_RED;
+
+
+    /**
+     * Create the surface and send the initial state of the pads.
+     */
+    @Setup
+    public void setup ()
+    {
+        final LaunchpadFixture fixture = new LaunchpadFixture ();
+        this.pads = fixture.getSurface ().getPadGrid ();
+        this.view = fixture.getSurface ().getViewManager ().getActiveView ();
+        this.pads.flush ();
+    }
+
+
+    /**
+     * Change the color of some pads and flush the grid.
+     *
+     * @param changes The number of pads to change
+     */
+    @Benchmark
+    public void flush (final Changes changes)
+    {
+        this.color = this.color == LaunchpadColors.LAUNCHPAD_COLOR_RED ? LaunchpadColors.LAUNCHPAD_COLOR_GREEN : LaunchpadColors.LAUNCHPAD_COLOR_RED;
+        for (int i = 0; i < changes.changedPads; i++)
+            this.pads.light (36 + i, this.color);
+        this.pads.flush ();
+    }
+
+
+    /**
+     * Draw the grid of the play view and flush it, like it is done on every flush of the surface.
+     */
+    @Benchmark
+    public void drawGridAndFlush ()
+    {
+        this.view.drawGrid ();
+        this.pads.flush ();
+    }
+}
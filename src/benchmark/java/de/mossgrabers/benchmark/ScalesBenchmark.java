@@ -0,0 +1,95 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.controller.launchpad.controller.LaunchpadScales;
+import de.mossgrabers.framework.controller.DefaultValueChanger;
+import de.mossgrabers.framework.scale.ScaleLayout;
+import de.mossgrabers.framework.scale.Scales;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the generation of the note matrices, which is done when the scale settings change,
+ * and the creation of the note maps of the play and sequencer views, which is done when a view is
+ * activated or the octave changes.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScalesBenchmark
+{
+    /** The layout of the scale. */
+    @Param({ "FOURTH_UP", "SEQUENT_RIGHT", "EIGHT_UP_CENTER" })
+    public String  layout;
+
+    private Scales scales;
+
+
+    /**
+     * Create the scales.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.scales = new LaunchpadScales (new DefaultValueChanger (128, 1, 0.5), 36, 100, 8, 8);
+        this.scales.setScaleLayout (ScaleLayout.valueOf (this.layout));
+    }
+
+
+    /**
+     * Generate all matrices by changing the scale layout.
+     *
+     * @return The note matrix
+     */
+    @Benchmark
+    public int [] generateMatrices ()
+    {
+        this.scales.setScaleLayout (ScaleLayout.valueOf (this.layout));
+        return this.scales.getNoteMatrix ();
+    }
+
+
+    /**
+     * Create the key translation table of a play view.
+     *
+     * @return The table
+     */
+    @Benchmark
+    public int [] keyTranslationTable ()
+    {
+        return this.scales.translateMatrixToGrid (this.scales.getNoteMatrix ());
+    }
+
+
+    /**
+     * Create the note rows of a sequencer view.
+     *
+     * @return The note map
+     */
+    @Benchmark
+    public int [] sequencerMatrix ()
+    {
+        return this.scales.getSequencerMatrix (8, 36);
+    }
+}
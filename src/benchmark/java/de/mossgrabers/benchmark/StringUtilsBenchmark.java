@@ -0,0 +1,92 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the shortening of names for the displays. Like in a project, the same few names are
+ * shortened on each display update. The churn benchmark uses more different names than fit into
+ * the cache.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StringUtilsBenchmark
+{
+    private static final String [] NAMES =
+    {
+        "Audio Track 1",
+        "Instrument Track",
+        "Polysynth Pad",
+        "Drum Machine",
+        "Grüne Sonne",
+        "Bass Überschall",
+        "Reverb Send",
+        "Master Compressor"
+    };
+
+    private String []              names;
+    private String []              churnNames;
+    private int                    index;
+
+
+    /**
+     * Create the names.
+     */
+    @Setup
+    public void setup ()
+    {
+        this.names = NAMES.clone ();
+        this.churnNames = new String [4 * StringUtils.NAME_CACHE_SIZE];
+        for (int i = 0; i < this.churnNames.length; i++)
+            this.churnNames[i] = NAMES[i % NAMES.length] + " " + i;
+    }
+
+
+    /**
+     * Shorten a name which was shortened before.
+     *
+     * @return The shortened name
+     */
+    @Benchmark
+    public String shortenAndFixASCII ()
+    {
+        this.index = (this.index + 1) % this.names.length;
+        return StringUtils.shortenAndFixASCII (this.names[this.index], 8);
+    }
+
+
+    /**
+     * Shorten a name which is not cached.
+     *
+     * @return The shortened name
+     */
+    @Benchmark
+    public String shortenAndFixASCIIChurn ()
+    {
+        this.index = (this.index + 1) % this.churnNames.length;
+        return StringUtils.shortenAndFixASCII (this.churnNames[this.index], 8);
+    }
+}
@@ -0,0 +1,69 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark;
+
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.StringUtils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares building a sysex message (a line of the Push 1 display) with the SysExBuilder to the
+ * former way of formatting it as a hex string, which then had to be parsed again by the host.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SysExBenchmark
+{
+    private static final String LINE  = "Volume    Pan       Send 1   Send 2    Bass     Drums    Keys    Pad";
+
+    private final SysExBuilder  sysex = new SysExBuilder (4 + 68, 0x47, 0x7F, 0x15);
+
+
+    /**
+     * Build the message with the builder.
+     *
+     * @return The message
+     */
+    @Benchmark
+    public byte [] builder ()
+    {
+        return this.sysex.start ().add (0x18).add (0).add (LINE.length () + 1).add (0).addASCII (LINE).build ();
+    }
+
+
+    /**
+     * Format the message as a hex string and convert it to bytes.
+     *
+     * @return The message
+     */
+    @Benchmark
+    public byte [] hexString ()
+    {
+        final StringBuilder sb = new StringBuilder ("F0 47 7F 15 18 00 ");
+        sb.append (StringUtils.toHexStr (LINE.length () + 1)).append (" 00 ");
+        for (int i = 0; i < LINE.length (); i++)
+            sb.append (StringUtils.toHexStr (LINE.charAt (i))).append (' ');
+        sb.append ("F7");
+        return SysExBuilder.toBytes (sb.toString ());
+    }
+}
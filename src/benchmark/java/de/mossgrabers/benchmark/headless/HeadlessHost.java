@@ -0,0 +1,200 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.osc.IOpenSoundControlCallback;
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.util.List;
+
+
+/**
+ * A host which runs without the DAW. Scheduled tasks are not executed but only counted, since the
+ * benchmarks call the code which is driven by them directly. Logging and notifications are
+ * dropped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessHost implements IHost
+{
+    private final HeadlessOpenSoundControlServer oscServer = new HeadlessOpenSoundControlServer ();
+    private IOpenSoundControlCallback            oscCallback;
+    private long                                 scheduledTasks;
+    private long                                 sentDatagramBytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getName ()
+    {
+        return "Headless";
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasClips ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasPinning ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasCrossfader ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasDrumDevice ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean hasRepeat ()
+    {
+        return true;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void scheduleTask (final Runnable task, final long delay)
+    {
+        this.scheduledTasks++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void error (final String text, final Throwable ex)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void println (final String text)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void showNotification (final String message)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlServer connectToOSCServer (final String serverAddress, final int serverPort)
+    {
+        return this.oscServer;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createOSCServer (final IOpenSoundControlCallback callback, final int port)
+    {
+        this.oscCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IOpenSoundControlMessage createOSCMessage (final String address, final List<Object> values)
+    {
+        return new HeadlessOpenSoundControlMessage (address, values.toArray ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void releaseOSC ()
+    {
+        this.oscCallback = null;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendDatagramPacket (final String hostAddress, final int port, final byte [] data)
+    {
+        this.sentDatagramBytes += data.length;
+    }
+
+
+    /**
+     * Get the OSC server which is returned for all connections.
+     *
+     * @return The server
+     */
+    public HeadlessOpenSoundControlServer getOSCServer ()
+    {
+        return this.oscServer;
+    }
+
+
+    /**
+     * Get the callback which was registered to receive OSC messages.
+     *
+     * @return The callback or null if no server was created
+     */
+    public IOpenSoundControlCallback getOSCCallback ()
+    {
+        return this.oscCallback;
+    }
+
+
+    /**
+     * Get the number of tasks which were scheduled (and dropped).
+     *
+     * @return The number of tasks
+     */
+    public long getScheduledTasks ()
+    {
+        return this.scheduledTasks;
+    }
+
+
+    /**
+     * Get the number of bytes sent with datagram packets.
+     *
+     * @return The number of bytes
+     */
+    public long getSentDatagramBytes ()
+    {
+        return this.sentDatagramBytes;
+    }
+}
@@ -0,0 +1,139 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.midi.IMidiInput;
+import de.mossgrabers.framework.daw.midi.MidiShortCallback;
+import de.mossgrabers.framework.daw.midi.MidiSysExCallback;
+
+
+/**
+ * A midi input which is fed by the benchmarks instead of a device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiInput implements IMidiInput
+{
+    private MidiShortCallback midiCallback;
+    private MidiSysExCallback sysexCallback;
+    private int []            keyTable;
+    private int []            velocityTable;
+    private long              rawMidiEvents;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setMidiCallback (final MidiShortCallback callback)
+    {
+        this.midiCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setSysexCallback (final MidiSysExCallback callback)
+    {
+        this.sysexCallback = callback;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setKeyTranslationTable (final int [] table)
+    {
+        this.keyTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void setVelocityTranslationTable (final int [] table)
+    {
+        this.velocityTable = table;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void createNoteInput (final String name, final String... filters)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendRawMidiEvent (final int status, final int data1, final int data2)
+    {
+        this.rawMidiEvents++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleRepeat ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Simulate a midi short message received from the device.
+     *
+     * @param status The midi status byte
+     * @param data1 The midi data byte 1
+     * @param data2 The midi data byte 2
+     */
+    public void receive (final int status, final int data1, final int data2)
+    {
+        if (this.midiCallback != null)
+            this.midiCallback.handleMidi (status, data1, data2);
+    }
+
+
+    /**
+     * Simulate a sysex message received from the device.
+     *
+     * @param data The sysex formatted in hex
+     */
+    public void receiveSysex (final String data)
+    {
+        if (this.sysexCallback != null)
+            this.sysexCallback.handleMidi (data);
+    }
+
+
+    /**
+     * Get the last key translation table.
+     *
+     * @return The table, null if none was set
+     */
+    public int [] getKeyTranslationTable ()
+    {
+        return this.keyTable;
+    }
+
+
+    /**
+     * Get the last velocity translation table.
+     *
+     * @return The table, null if none was set
+     */
+    public int [] getVelocityTranslationTable ()
+    {
+        return this.velocityTable;
+    }
+
+
+    /**
+     * Get the number of midi events which were sent to the DAW.
+     *
+     * @return The number of events
+     */
+    public long getRawMidiEvents ()
+    {
+        return this.rawMidiEvents;
+    }
+}
@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.daw.midi.IMidiOutput;
+
+
+/**
+ * A midi output which drops all messages but counts them and the number of bytes which would have
+ * been sent to the device.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessMidiOutput implements IMidiOutput
+{
+    private long sentMessages;
+    private long sentBytes;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCC (final int cc, final int value)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendCCEx (final int channel, final int cc, final int value)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNote (final int note, final int velocity)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendNoteEx (final int channel, final int note, final int velocity)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int data1, final int data2)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendChannelAftertouch (final int channel, final int data1, final int data2)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int data1, final int data2)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendPitchbend (final int channel, final int data1, final int data2)
+    {
+        this.sendShort ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final byte [] data)
+    {
+        this.sentMessages++;
+        this.sentBytes += data.length;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendSysex (final String data)
+    {
+        // The hex string contains 2 characters per byte separated by spaces
+        this.sentMessages++;
+        this.sentBytes += (data.length () + 1) / 3;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendIdentityRequest ()
+    {
+        this.sendSysex (new byte [6]);
+    }
+
+
+    /**
+     * Get the number of sent messages.
+     *
+     * @return The number of messages
+     */
+    public long getSentMessages ()
+    {
+        return this.sentMessages;
+    }
+
+
+    /**
+     * Get the number of sent bytes.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        return this.sentBytes;
+    }
+
+
+    private void sendShort ()
+    {
+        this.sentMessages++;
+        this.sentBytes += 3;
+    }
+}
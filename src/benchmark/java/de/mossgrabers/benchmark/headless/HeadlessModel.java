@@ -0,0 +1,145 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.daw.AbstractModel;
+import de.mossgrabers.framework.daw.IApplication;
+import de.mossgrabers.framework.daw.IArranger;
+import de.mossgrabers.framework.daw.IBrowser;
+import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.ICursorClip;
+import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.IGroove;
+import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.IMixer;
+import de.mossgrabers.framework.daw.IProject;
+import de.mossgrabers.framework.daw.ITrackBank;
+import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.scale.Scales;
+
+
+/**
+ * A model with the dimensions of a real one, but its tracks, devices, etc. are stand-ins which
+ * report existing and empty data, see HeadlessObjects. The track and the device banks are fully
+ * populated and the selected track can hold notes, so that the code paths which are driven by the
+ * model are not skipped.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessModel extends AbstractModel
+{
+    private static final int      NUM_FILTER_COLUMNS = 8;
+
+    private final HeadlessObjects objects            = new HeadlessObjects ();
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host
+     * @param colorManager The color manager
+     * @param valueChanger The value changer
+     * @param scales The scales object
+     * @param numTracks The number of track to monitor (per track bank)
+     * @param numScenes The number of scenes to monitor (per scene bank)
+     * @param numSends The number of sends to monitor
+     */
+    public HeadlessModel (final IHost host, final ColorManager colorManager, final IValueChanger valueChanger, final Scales scales, final int numTracks, final int numScenes, final int numSends)
+    {
+        super (colorManager, valueChanger, scales, numTracks, numScenes, numSends, -1, -1, true, -1, -1, -1, -1);
+
+        this.host = host;
+
+        this.objects.answer ("doesExist", Boolean.TRUE);
+        this.objects.answer ("canHoldNotes", Boolean.TRUE);
+        this.objects.answer ("getNumTracks", Integer.valueOf (this.numTracks));
+        this.objects.answer ("getNumScenes", Integer.valueOf (this.numScenes));
+        this.objects.answer ("getNumSlots", Integer.valueOf (this.numScenes));
+        this.objects.answer ("getNumSends", Integer.valueOf (this.numSends));
+        this.objects.answer ("getNumParameters", Integer.valueOf (this.numParams));
+        this.objects.answer ("getNumDevices", Integer.valueOf (this.numDevicesInBank));
+        this.objects.answer ("getNumLayers", Integer.valueOf (this.numDeviceLayers));
+        this.objects.answer ("getNumDrumPads", Integer.valueOf (this.numDrumPadLayers));
+        this.objects.answer ("getFilterColumnCount", Integer.valueOf (NUM_FILTER_COLUMNS));
+        this.objects.answer ("getNumFilterColumnEntries", Integer.valueOf (this.numFilterColumnEntries));
+        this.objects.answer ("getNumResults", Integer.valueOf (this.numResults));
+        this.objects.answer ("getItems", this.objects.array (IBrowserColumnItem.class, this.numFilterColumnEntries));
+        this.objects.answer ("getResultColumnItems", this.objects.array (IBrowserColumnItem.class, this.numResults));
+        this.objects.answer ("getNumerator", Integer.valueOf (4));
+        this.objects.answer ("getDenominator", Integer.valueOf (4));
+        this.objects.answer ("getQuartersPerMeasure", Integer.valueOf (4));
+
+        this.application = this.objects.get (IApplication.class);
+        this.project = this.objects.get (IProject.class);
+        this.arranger = this.objects.get (IArranger.class);
+        this.mixer = this.objects.get (IMixer.class);
+        this.transport = this.objects.get (ITransport.class);
+        this.groove = this.objects.get (IGroove.class);
+        this.masterTrack = this.objects.get (IMasterTrack.class);
+        this.trackBank = this.objects.get (ITrackBank.class);
+        this.effectTrackBank = this.objects.get (IChannelBank.class);
+        this.primaryDevice = this.objects.get (ICursorDevice.class);
+        this.cursorDevice = this.primaryDevice;
+        this.drumDevice64 = this.primaryDevice;
+        this.browser = this.objects.get (IBrowser.class);
+
+        this.currentTrackBank = this.trackBank;
+    }
+
+
+    /**
+     * Get the factory of the stand-ins, e.g. to change the results of their methods.
+     *
+     * @return The factory
+     */
+    public HeadlessObjects getObjects ()
+    {
+        return this.objects;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ITrackBank createSceneViewTrackBank (final int numTracks, final int numScenes)
+    {
+        return this.trackBank;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ICursorClip getCursorClip (final int cols, final int rows)
+    {
+        return this.cursorClips.computeIfAbsent (cols + "-" + rows, k -> this.objects.get (ICursorClip.class));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorTrackPinned ()
+    {
+        return false;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void toggleCursorTrackPinned ()
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean isCursorDeviceOnMasterTrack ()
+    {
+        return false;
+    }
+}
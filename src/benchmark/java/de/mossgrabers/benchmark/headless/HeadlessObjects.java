@@ -0,0 +1,149 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Creates stand-ins for the DAW interfaces (tracks, devices, transport, browser, ...) which are
+ * implemented on top of the Bitwig API in the extension. Each method returns a default for its
+ * type: false, 0, the method name without 'get' for strings, the first constant of an enum, an
+ * empty array (3 components for colors) and a shared stand-in for interfaces. The result of a
+ * method can be set by its name, e.g. the number of tracks of a bank. All other methods do
+ * nothing.
+ *
+ * The stand-ins are dynamic proxies. Their call overhead is constant, therefore it does not hide
+ * regressions but adds to the absolute numbers of the benchmarks which read a lot of data.
+ *
+ * Only the DAW interfaces are covered, since there are no dummy implementations for them. Surfaces
+ * and displays which are not measured themselves use DummyControlSurface and DummyDisplay.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessObjects implements InvocationHandler
+{
+    private static final double []      COLOR     = new double [3];
+
+    private final Map<String, Object>   answers   = new HashMap<> ();
+    private final Map<Method, Object>   defaults  = new HashMap<> ();
+    private final Map<Class<?>, Object> instances = new HashMap<> ();
+
+
+    /**
+     * Set the result of all methods with the given name.
+     *
+     * @param methodName The name of the method
+     * @param value The value to return, must match the return type of the method
+     * @return This for chaining
+     */
+    public HeadlessObjects answer (final String methodName, final Object value)
+    {
+        this.answers.put (methodName, value);
+        return this;
+    }
+
+
+    /**
+     * Get the shared stand-in for an interface.
+     *
+     * @param clazz The interface
+     * @param <T> The type of the interface
+     * @return The stand-in
+     */
+    public <T> T get (final Class<T> clazz)
+    {
+        Object instance = this.instances.get (clazz);
+        if (instance == null)
+        {
+            instance = Proxy.newProxyInstance (clazz.getClassLoader (), new Class<?> [] { clazz }, this);
+            this.instances.put (clazz, instance);
+        }
+        return clazz.cast (instance);
+    }
+
+
+    /**
+     * Create an array which is filled with the shared stand-in of an interface.
+     *
+     * @param clazz The interface
+     * @param length The length of the array
+     * @param <T> The type of the interface
+     * @return The array
+     */
+    public <T> T [] array (final Class<T> clazz, final int length)
+    {
+        @SuppressWarnings("unchecked")
+        final T [] array = (T []) Array.newInstance (clazz, length);
+        for (int i = 0; i < length; i++)
+            array[i] = this.get (clazz);
+        return array;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object invoke (final Object proxy, final Method method, final Object [] args)
+    {
+        final String name = method.getName ();
+        if (method.getDeclaringClass () == Object.class)
+        {
+            switch (name)
+            {
+                case "equals":
+                    return Boolean.valueOf (proxy == args[0]);
+                case "hashCode":
+                    return Integer.valueOf (System.identityHashCode (proxy));
+                default:
+                    return "Headless " + proxy.getClass ().getInterfaces ()[0].getSimpleName ();
+            }
+        }
+
+        final Object answer = this.answers.get (name);
+        if (answer != null)
+            return answer;
+
+        Object value = this.defaults.get (method);
+        if (value == null && !this.defaults.containsKey (method))
+        {
+            value = this.createDefault (method.getReturnType (), name);
+            this.defaults.put (method, value);
+        }
+        return value;
+    }
+
+
+    private Object createDefault (final Class<?> type, final String name)
+    {
+        if (type == void.class)
+            return null;
+        if (type == boolean.class)
+            return Boolean.FALSE;
+        if (type == int.class)
+            return Integer.valueOf (0);
+        if (type == double.class)
+            return Double.valueOf (0);
+        if (type == long.class)
+            return Long.valueOf (0);
+        if (type == float.class)
+            return Float.valueOf (0);
+        if (type == String.class)
+            return name.startsWith ("get") ? name.substring (3) : "";
+        if (type.isEnum ())
+            return type.getEnumConstants ()[0];
+        if (type == double [].class)
+            return COLOR;
+        if (type.isArray ())
+            return Array.newInstance (type.getComponentType (), 0);
+        if (type.isInterface ())
+            return this.get (type);
+        return null;
+    }
+}
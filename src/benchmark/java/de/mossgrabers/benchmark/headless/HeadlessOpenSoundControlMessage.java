@@ -0,0 +1,48 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+
+
+/**
+ * An OSC message which only stores its address and values.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOpenSoundControlMessage implements IOpenSoundControlMessage
+{
+    private final String    address;
+    private final Object [] values;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The OSC address
+     * @param values The values of the message
+     */
+    public HeadlessOpenSoundControlMessage (final String address, final Object... values)
+    {
+        this.address = address;
+        this.values = values;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public Object [] getValues ()
+    {
+        return this.values;
+    }
+}
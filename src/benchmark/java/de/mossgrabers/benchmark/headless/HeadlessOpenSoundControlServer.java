@@ -0,0 +1,61 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
+import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+
+import java.util.List;
+
+
+/**
+ * An OSC server which drops all messages but counts them.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessOpenSoundControlServer implements IOpenSoundControlServer
+{
+    private long sentMessages;
+    private long sentBundles;
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMessage (final IOpenSoundControlMessage message)
+    {
+        this.sentMessages++;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendBundle (final List<IOpenSoundControlMessage> messages)
+    {
+        this.sentMessages += messages.size ();
+        this.sentBundles++;
+    }
+
+
+    /**
+     * Get the number of sent messages, including the ones in bundles.
+     *
+     * @return The number of messages
+     */
+    public long getSentMessages ()
+    {
+        return this.sentMessages;
+    }
+
+
+    /**
+     * Get the number of sent bundles.
+     *
+     * @return The number of bundles
+     */
+    public long getSentBundles ()
+    {
+        return this.sentBundles;
+    }
+}
@@ -0,0 +1,266 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.benchmark.headless;
+
+import de.mossgrabers.framework.configuration.IBooleanSetting;
+import de.mossgrabers.framework.configuration.IColorSetting;
+import de.mossgrabers.framework.configuration.IDoubleSetting;
+import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
+import de.mossgrabers.framework.configuration.ISetting;
+import de.mossgrabers.framework.configuration.ISettingsUI;
+import de.mossgrabers.framework.configuration.ISignalSetting;
+import de.mossgrabers.framework.configuration.IStringSetting;
+import de.mossgrabers.framework.configuration.IValueObserver;
+import de.mossgrabers.framework.controller.color.ColorEx;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Settings which run without the DAW. The settings store their value and notify their observers
+ * when it is set, like the settings of the DAW do. A new observer is notified with the current
+ * value.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class HeadlessSettingsUI implements ISettingsUI
+{
+    /** {@inheritDoc} */
+    @Override
+    public IEnumSetting getEnumSetting (final String label, final String category, final String [] options, final String initialValue)
+    {
+        return new EnumSetting (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IBooleanSetting getBooleanSetting (final String label, final String category, final boolean initialValue)
+    {
+        return new BooleanSetting (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IStringSetting getStringSetting (final String label, final String category, final int numChars, final String initialText)
+    {
+        return new StringSetting (initialText);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IIntegerSetting getRangeSetting (final String label, final String category, final int minValue, final int maxValue, final int stepResolution, final String unit, final int initialValue)
+    {
+        return new IntegerSetting (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IDoubleSetting getNumberSetting (final String label, final String category, final double minValue, final double maxValue, final double stepResolution, final String unit, final double initialValue)
+    {
+        return new DoubleSetting (initialValue);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ISignalSetting getSignalSetting (final String label, final String category, final String title)
+    {
+        return new SignalSetting ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public IColorSetting getColorSetting (final String label, final String category, final ColorEx defaultColor)
+    {
+        return new ColorSetting (new double []
+        {
+            defaultColor.getRed (),
+            defaultColor.getGreen (),
+            defaultColor.getBlue ()
+        });
+    }
+
+
+    /**
+     * Stores the value of a setting and notifies the observers.
+     *
+     * @param <T> The type of the value
+     */
+    private static class HeadlessSetting<T> implements ISetting<T>
+    {
+        protected final List<IValueObserver<T>> observers = new ArrayList<> ();
+        private T                               value;
+
+
+        /**
+         * Constructor.
+         *
+         * @param value The initial value
+         */
+        HeadlessSetting (final T value)
+        {
+            this.value = value;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addValueObserver (final IValueObserver<T> observer)
+        {
+            this.observers.add (observer);
+            observer.update (this.value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final T value)
+        {
+            this.value = value;
+            for (final IValueObserver<T> observer: this.observers)
+                observer.update (value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setEnabled (final boolean enable)
+        {
+            // Intentionally empty
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void setVisible (final boolean visible)
+        {
+            // Intentionally empty
+        }
+    }
+
+
+    private static class EnumSetting extends HeadlessSetting<String> implements IEnumSetting
+    {
+        EnumSetting (final String value)
+        {
+            super (value);
+        }
+    }
+
+
+    private static class StringSetting extends HeadlessSetting<String> implements IStringSetting
+    {
+        StringSetting (final String value)
+        {
+            super (value);
+        }
+    }
+
+
+    private static class SignalSetting extends HeadlessSetting<Void> implements ISignalSetting
+    {
+        SignalSetting ()
+        {
+            super (null);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void addValueObserver (final IValueObserver<Void> observer)
+        {
+            // Signals are only sent when triggered
+            this.observers.add (observer);
+        }
+    }
+
+
+    private static class BooleanSetting extends HeadlessSetting<Boolean> implements IBooleanSetting
+    {
+        BooleanSetting (final boolean value)
+        {
+            super (Boolean.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final boolean value)
+        {
+            this.set (Boolean.valueOf (value));
+        }
+    }
+
+
+    private static class IntegerSetting extends HeadlessSetting<Integer> implements IIntegerSetting
+    {
+        IntegerSetting (final int value)
+        {
+            super (Integer.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final int value)
+        {
+            this.set (Integer.valueOf (value));
+        }
+    }
+
+
+    private static class DoubleSetting extends HeadlessSetting<Double> implements IDoubleSetting
+    {
+        DoubleSetting (final double value)
+        {
+            super (Double.valueOf (value));
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double value)
+        {
+            this.set (Double.valueOf (value));
+        }
+    }
+
+
+    private static class ColorSetting extends HeadlessSetting<double []> implements IColorSetting
+    {
+        ColorSetting (final double [] value)
+        {
+            super (value);
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final double red, final double green, final double blue)
+        {
+            this.set (new double []
+            {
+                red,
+                green,
+                blue
+            });
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public void set (final ColorEx color)
+        {
+            this.set (color.getRed (), color.getGreen (), color.getBlue ());
+        }
+    }
+}
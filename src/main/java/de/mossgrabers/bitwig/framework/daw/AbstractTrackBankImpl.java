@@ -7,6 +7,7 @@ package de.mossgrabers.bitwig.framework.daw;
 import de.mossgrabers.bitwig.framework.daw.data.TrackImpl;
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.AbstractChannelBank;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ITrack;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlotBank;
@@ -22,7 +23,11 @@ import com.bitwig.extension.controller.api.TrackBank;
  */
 public abstract class AbstractTrackBankImpl extends AbstractChannelBank
 {
-    protected TrackBank trackBank;
+    protected TrackBank   trackBank;
+
+    private int           selectedIndex = -1;
+    private final long [] notes         = new long [2];
+    private final int []  velocities    = new int [128];
 
 
     /**
@@ -51,9 +56,11 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
             final int index = i;
             final Track t = this.trackBank.getItemAt (i);
             t.playingNotes ().addValueObserver (value -> this.handleNotes (index, value));
+            this.tracks[i].addValueChangeObserver (this.notifier::notifyObservers);
         }
 
         this.trackBank.cursorIndex ().addValueObserver (index -> {
+            this.selectedIndex = index >= 0 && index < this.numTracks ? index : -1;
             for (int i = 0; i < this.numTracks; i++)
             {
                 final boolean isSelected = index == i;
@@ -62,12 +69,16 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
             }
         });
 
-        this.trackBank.channelCount ().markInterested ();
-        this.trackBank.scrollPosition ().markInterested ();
-        this.trackBank.canScrollChannelsUp ().markInterested ();
-        this.trackBank.canScrollChannelsDown ().markInterested ();
+        this.trackBank.channelCount ().addValueObserver (channelCount -> this.notifier.notifyObservers ());
+        this.trackBank.scrollPosition ().addValueObserver (scrollPosition -> this.notifier.notifyObservers ());
+        this.trackBank.canScrollChannelsUp ().addValueObserver (canScroll -> this.notifier.notifyObservers ());
+        this.trackBank.canScrollChannelsDown ().addValueObserver (canScroll -> this.notifier.notifyObservers ());
         if (this.numScenes > 0)
+        {
             this.sceneBank = new SceneBankImpl (this.trackBank.sceneBank (), this.numScenes);
+            for (int i = 0; i < this.numScenes; i++)
+                this.sceneBank.getScene (i).addValueChangeObserver (this.notifier::notifyObservers);
+        }
     }
 
 
@@ -90,6 +101,23 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        for (final ITrack track: this.tracks)
+            track.enableObservers (data, enable);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public ITrack getSelectedTrack ()
+    {
+        return this.selectedIndex < 0 ? null : this.tracks[this.selectedIndex];
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getTrackCount ()
@@ -222,40 +250,26 @@ public abstract class AbstractTrackBankImpl extends AbstractChannelBank
 
 
     /**
-     * Handles the updates on all playing notes. Translates the note array into individual note
-     * observer updates of start and stopped notes.
+     * Handles the updates on all playing notes of the selected track. Translates the note array
+     * into a bit set and notifies the note observers about started and stopped notes.
      *
      * @param index The index of a track
      * @param notes The currently playing notes
      */
     private void handleNotes (final int index, final PlayingNote [] notes)
     {
-        final ITrack sel = this.getSelectedTrack ();
-        if (sel == null || sel.getIndex () != index)
+        if (index != this.selectedIndex)
             return;
 
-        final int [] nc = this.noteCache[index];
-        synchronized (nc)
+        this.notes[0] = 0;
+        this.notes[1] = 0;
+        for (final PlayingNote note: notes)
         {
-            // Send the new notes
-            for (final PlayingNote note: notes)
-            {
-                final int pitch = note.pitch ();
-                nc[pitch] = NOTE_ON_NEW;
-                this.notifyNoteObservers (pitch, note.velocity ());
-            }
-            // Send note offs
-            for (int i = 0; i < nc.length; i++)
-            {
-                if (nc[i] == NOTE_ON_NEW)
-                    nc[i] = NOTE_ON;
-                else if (nc[i] == NOTE_ON)
-                {
-                    nc[i] = NOTE_OFF;
-                    this.notifyNoteObservers (i, 0);
-                }
-            }
+            final int pitch = note.pitch ();
+            this.notes[pitch >> 6] |= 1L << (pitch & 63);
+            this.velocities[pitch] = note.velocity ();
         }
+        this.updatePlayingNotes (index, this.notes, this.velocities);
     }
 
 
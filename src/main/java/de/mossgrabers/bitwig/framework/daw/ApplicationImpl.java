@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.daw.IApplication;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 
 import com.bitwig.extension.controller.api.Action;
 import com.bitwig.extension.controller.api.ActionCategory;
@@ -18,7 +20,8 @@ import com.bitwig.extension.controller.api.Application;
  */
 public class ApplicationImpl implements IApplication
 {
-    private Application application;
+    private Application               application;
+    private final ValueChangeNotifier notifier = new ValueChangeNotifier ();
 
 
     /**
@@ -30,8 +33,24 @@ public class ApplicationImpl implements IApplication
     {
         this.application = application;
 
-        this.application.hasActiveEngine ().markInterested ();
-        this.application.panelLayout ().markInterested ();
+        this.application.hasActiveEngine ().addValueObserver (isActive -> this.notifier.notifyObservers ());
+        this.application.panelLayout ().addValueObserver (panelLayout -> this.notifier.notifyObservers ());
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
     }
 
 
@@ -8,6 +8,7 @@ import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnImpl;
 import de.mossgrabers.bitwig.framework.daw.data.BrowserColumnItemImpl;
 import de.mossgrabers.framework.daw.AbstractBrowser;
 import de.mossgrabers.framework.daw.ICursorDevice;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 
@@ -95,6 +96,28 @@ public class BrowserImpl extends AbstractBrowser
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        if (data != ObservedData.BROWSER)
+            return;
+
+        // The existence of the browser is still required to detect if it gets opened
+        this.browser.selectedContentTypeIndex ().setIsSubscribed (enable);
+        this.browser.selectedContentTypeName ().setIsSubscribed (enable);
+        this.browser.contentTypeNames ().setIsSubscribed (enable);
+
+        for (final IBrowserColumn column: this.columnData)
+            column.enableObservers (enable);
+
+        this.cursorResult.name ().setIsSubscribed (enable);
+
+        for (final IBrowserColumnItem item: this.resultData)
+            item.enableObservers (enable);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isPresetContentType ()
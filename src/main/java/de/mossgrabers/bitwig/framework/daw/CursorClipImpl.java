@@ -21,14 +21,19 @@ import java.util.Arrays;
  */
 public class CursorClipImpl implements ICursorClip
 {
-    private int             numSteps;
-    private int             numRows;
+    private int              numSteps;
+    private int              numRows;
 
-    private final int [] [] data;
-    private Clip            clip;
-    private IValueChanger   valueChanger;
-    private int             editPage = 0;
-    private double          stepLength;
+    private final int [] []  data;
+    // One bit per step which contains data, indexed by row
+    private final long [] [] rowSteps;
+    private final int []     rowStepCounts;
+    // One bit per row which contains data
+    private final long []    occupiedRows;
+    private Clip             clip;
+    private IValueChanger    valueChanger;
+    private int              editPage = 0;
+    private double           stepLength;
 
 
     /**
@@ -54,6 +59,10 @@ public class CursorClipImpl implements ICursorClip
             Arrays.fill (this.data[step], 0);
         }
 
+        this.rowSteps = new long [this.numRows] [(this.numSteps + 63) / 64];
+        this.rowStepCounts = new int [this.numRows];
+        this.occupiedRows = new long [(this.numRows + 63) / 64];
+
         // TODO Bugfix required: We need the old method back to monitor both launcher and arranger
         this.clip = host.createLauncherCursorClip (this.numSteps, this.numRows);
 
@@ -361,10 +370,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public boolean hasRowData (final int row)
     {
-        for (int step = 0; step < this.numSteps; step++)
-            if (this.data[step][row] > 0)
-                return true;
-        return false;
+        return this.rowStepCounts[row] > 0;
     }
 
 
@@ -372,10 +378,7 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public int getLowerRowWithData ()
     {
-        for (int row = 0; row < this.numRows; row++)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return nextSetBit (this.occupiedRows, 0);
     }
 
 
@@ -383,10 +386,27 @@ public class CursorClipImpl implements ICursorClip
     @Override
     public int getUpperRowWithData ()
     {
-        for (int row = this.numRows - 1; row >= 0; row--)
-            if (this.hasRowData (row))
-                return row;
-        return -1;
+        return previousSetBit (this.occupiedRows, this.numRows - 1);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getNextStepWithData (final int row, final int fromStep)
+    {
+        if (row < 0 || row >= this.numRows || fromStep >= this.numSteps)
+            return -1;
+        return nextSetBit (this.rowSteps[row], Math.max (0, fromStep));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getPreviousStepWithData (final int row, final int fromStep)
+    {
+        if (row < 0 || row >= this.numRows || fromStep < 0)
+            return -1;
+        return previousSetBit (this.rowSteps[row], Math.min (this.numSteps - 1, fromStep));
     }
 
 
@@ -508,6 +528,71 @@ public class CursorClipImpl implements ICursorClip
     private void handleStepData (final int col, final int row, final int state)
     {
         // state: step is empty (0) or a note continues playing (1) or starts playing (2)
+        final boolean hadData = this.data[col][row] > 0;
         this.data[col][row] = state;
+
+        final boolean hasData = state > 0;
+        if (hadData == hasData)
+            return;
+        final long [] steps = this.rowSteps[row];
+        final long rowBit = 1L << (row & 63);
+        if (hasData)
+        {
+            steps[col >>> 6] |= 1L << (col & 63);
+            if (this.rowStepCounts[row]++ == 0)
+                this.occupiedRows[row >>> 6] |= rowBit;
+        }
+        else
+        {
+            steps[col >>> 6] &= ~(1L << (col & 63));
+            if (--this.rowStepCounts[row] == 0)
+                this.occupiedRows[row >>> 6] &= ~rowBit;
+        }
+    }
+
+
+    /**
+     * Get the index of the first set bit at or after the given index.
+     *
+     * @param bits The bits
+     * @param fromIndex The index to start the search
+     * @return The index or -1 if no bit is set
+     */
+    private static int nextSetBit (final long [] bits, final int fromIndex)
+    {
+        int word = fromIndex >>> 6;
+        if (word >= bits.length)
+            return -1;
+        long value = bits[word] & -1L << (fromIndex & 63);
+        while (value == 0)
+        {
+            if (++word == bits.length)
+                return -1;
+            value = bits[word];
+        }
+        return word * 64 + Long.numberOfTrailingZeros (value);
+    }
+
+
+    /**
+     * Get the index of the last set bit at or before the given index.
+     *
+     * @param bits The bits
+     * @param fromIndex The index to start the search
+     * @return The index or -1 if no bit is set
+     */
+    private static int previousSetBit (final long [] bits, final int fromIndex)
+    {
+        if (fromIndex < 0)
+            return -1;
+        int word = fromIndex >>> 6;
+        long value = bits[word] & -1L >>> 63 - (fromIndex & 63);
+        while (value == 0)
+        {
+            if (--word < 0)
+                return -1;
+            value = bits[word];
+        }
+        return word * 64 + 63 - Long.numberOfLeadingZeros (value);
     }
 }
\ No newline at end of file
@@ -11,6 +11,9 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
+import de.mossgrabers.framework.daw.ObservedData;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IDrumPad;
 import de.mossgrabers.framework.daw.data.IParameter;
@@ -36,26 +39,27 @@ import com.bitwig.extension.controller.api.SettableIntegerValue;
  */
 public class CursorDeviceImpl implements ICursorDevice
 {
-    private IHost                    host;
-    private PinnableCursorDevice     cursorDevice;
-    private DeviceBank               siblings;
-    private CursorRemoteControlsPage remoteControls;
-    private CursorDeviceLayer        cursorDeviceLayer;
-    private IValueChanger            valueChanger;
-
-    private int                      numParams;
-    private int                      numDevicesInBank;
-    private int                      numDeviceLayers;
-    private int                      numDrumPadLayers;
-
-    private String []                parameterPageNames = new String [0];
-    private IParameter []            fxparams;
-    private DeviceLayerBank          layerBank;
-    private IChannel []              deviceLayers;
-    private IDrumPad []              drumPadLayers;
-    private DeviceBank []            deviceBanks;
-    private DrumPadBank              drumPadBank;
-    private DeviceBank []            drumPadBanks;
+    private IHost                     host;
+    private PinnableCursorDevice      cursorDevice;
+    private DeviceBank                siblings;
+    private CursorRemoteControlsPage  remoteControls;
+    private CursorDeviceLayer         cursorDeviceLayer;
+    private IValueChanger             valueChanger;
+
+    private int                       numParams;
+    private int                       numDevicesInBank;
+    private int                       numDeviceLayers;
+    private int                       numDrumPadLayers;
+
+    private String []                 parameterPageNames = new String [0];
+    private IParameter []             fxparams;
+    private DeviceLayerBank           layerBank;
+    private IChannel []               deviceLayers;
+    private IDrumPad []               drumPadLayers;
+    private DeviceBank []             deviceBanks;
+    private DrumPadBank               drumPadBank;
+    private DeviceBank []             drumPadBanks;
+    private final ValueChangeNotifier notifier           = new ValueChangeNotifier ();
 
 
     /**
@@ -81,16 +85,16 @@ public class CursorDeviceImpl implements ICursorDevice
         this.numDeviceLayers = numDeviceLayers >= 0 ? numDeviceLayers : 8;
         this.numDrumPadLayers = numDrumPadLayers >= 0 ? numDrumPadLayers : 16;
 
-        this.cursorDevice.exists ().markInterested ();
-        this.cursorDevice.isEnabled ().markInterested ();
-        this.cursorDevice.name ().markInterested ();
+        this.cursorDevice.exists ().addValueObserver (exists -> this.notifier.notifyObservers ());
+        this.cursorDevice.isEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.cursorDevice.name ().addValueObserver (name -> this.notifier.notifyObservers ());
         this.cursorDevice.isPlugin ().markInterested ();
         this.cursorDevice.position ().markInterested ();
         this.cursorDevice.hasPrevious ().markInterested ();
         this.cursorDevice.hasNext ().markInterested ();
-        this.cursorDevice.isExpanded ().markInterested ();
+        this.cursorDevice.isExpanded ().addValueObserver (isExpanded -> this.notifier.notifyObservers ());
         this.cursorDevice.isRemoteControlsSectionVisible ().markInterested ();
-        this.cursorDevice.isWindowOpen ().markInterested ();
+        this.cursorDevice.isWindowOpen ().addValueObserver (isWindowOpen -> this.notifier.notifyObservers ());
         this.cursorDevice.isNested ().markInterested ();
         this.cursorDevice.hasDrumPads ().markInterested ();
         this.cursorDevice.hasLayers ().markInterested ();
@@ -213,6 +217,56 @@ public class CursorDeviceImpl implements ICursorDevice
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        switch (data)
+        {
+            case DEVICE_PARAMETERS:
+                if (this.remoteControls != null)
+                {
+                    this.remoteControls.hasPrevious ().setIsSubscribed (enable);
+                    this.remoteControls.hasNext ().setIsSubscribed (enable);
+                    this.remoteControls.selectedPageIndex ().setIsSubscribed (enable);
+                    this.remoteControls.pageNames ().setIsSubscribed (enable);
+                }
+                for (int i = 0; i < this.numParams; i++)
+                    this.fxparams[i].enableObservers (enable);
+                break;
+
+            case DEVICE_LAYERS:
+                this.cursorDeviceLayer.hasPrevious ().setIsSubscribed (enable);
+                this.cursorDeviceLayer.hasNext ().setIsSubscribed (enable);
+                for (int i = 0; i < this.numDeviceLayers; i++)
+                    this.deviceLayers[i].enableObservers (enable);
+                for (int i = 0; i < this.numDrumPadLayers; i++)
+                    this.drumPadLayers[i].enableObservers (enable);
+                break;
+
+            default:
+                // Not contained
+                break;
+        }
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void browseToReplaceDevice ()
@@ -6,6 +6,9 @@ package de.mossgrabers.bitwig.framework.daw;
 
 import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
+import de.mossgrabers.framework.utils.NumberFormatter;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import com.bitwig.extension.controller.api.ControllerHost;
@@ -13,8 +16,6 @@ import com.bitwig.extension.controller.api.SettableRangedValue;
 import com.bitwig.extension.controller.api.TimeSignatureValue;
 import com.bitwig.extension.controller.api.Transport;
 
-import java.text.DecimalFormat;
-
 
 /**
  * Encapsulates the Transport instance.
@@ -24,19 +25,20 @@ import java.text.DecimalFormat;
 public class TransportImpl implements ITransport
 {
     /** 1 beat. */
-    private static final double INC_FRACTION_TIME      = 1.0;
+    private static final double       INC_FRACTION_TIME      = 1.0;
     /** 1/20th of a beat. */
-    private static final double INC_FRACTION_TIME_SLOW = 1.0 / 20;
-    private static final int    TEMPO_MIN              = 20;
-    private static final int    TEMPO_MAX              = 666;
+    private static final double       INC_FRACTION_TIME_SLOW = 1.0 / 20;
+    private static final int          TEMPO_MIN              = 20;
+    private static final int          TEMPO_MAX              = 666;
 
-    private ControllerHost      host;
-    private IValueChanger       valueChanger;
-    private Transport           transport;
+    private ControllerHost            host;
+    private IValueChanger             valueChanger;
+    private Transport                 transport;
+    private final ValueChangeNotifier notifier               = new ValueChangeNotifier ();
 
-    private int                 crossfade              = 0;
-    private double              tempo;
-    private int                 metronomeValue;
+    private int                       crossfade              = 0;
+    private double                    tempo;
+    private int                       metronomeValue;
 
 
     /**
@@ -51,20 +53,20 @@ public class TransportImpl implements ITransport
         this.valueChanger = valueChanger;
         this.transport = host.createTransport ();
 
-        this.transport.isPlaying ().markInterested ();
-        this.transport.isArrangerRecordEnabled ().markInterested ();
-        this.transport.isArrangerOverdubEnabled ().markInterested ();
-        this.transport.isClipLauncherAutomationWriteEnabled ().markInterested ();
-        this.transport.isClipLauncherOverdubEnabled ().markInterested ();
-        this.transport.isArrangerAutomationWriteEnabled ().markInterested ();
-        this.transport.automationWriteMode ().markInterested ();
-        this.transport.isArrangerLoopEnabled ().markInterested ();
-        this.transport.isPunchInEnabled ().markInterested ();
-        this.transport.isPunchOutEnabled ().markInterested ();
-        this.transport.isMetronomeEnabled ().markInterested ();
-        this.transport.isMetronomeTickPlaybackEnabled ().markInterested ();
-        this.transport.isMetronomeAudibleDuringPreRoll ().markInterested ();
-        this.transport.preRoll ().markInterested ();
+        this.transport.isPlaying ().addValueObserver (isPlaying -> this.notifier.notifyObservers ());
+        this.transport.isArrangerRecordEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isArrangerOverdubEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isClipLauncherAutomationWriteEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isClipLauncherOverdubEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isArrangerAutomationWriteEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.automationWriteMode ().addValueObserver (mode -> this.notifier.notifyObservers ());
+        this.transport.isArrangerLoopEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isPunchInEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isPunchOutEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isMetronomeEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isMetronomeTickPlaybackEnabled ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.isMetronomeAudibleDuringPreRoll ().addValueObserver (isEnabled -> this.notifier.notifyObservers ());
+        this.transport.preRoll ().addValueObserver (preRoll -> this.notifier.notifyObservers ());
         this.transport.tempo ().value ().addRawValueObserver (this::handleTempo);
         this.transport.getPosition ().markInterested ();
         this.transport.crossfade ().value ().addValueObserver (valueChanger.getUpperBound (), this::handleCrossfade);
@@ -112,6 +114,22 @@ public class TransportImpl implements ITransport
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void play ()
@@ -515,7 +533,8 @@ public class TransportImpl implements ITransport
     @Override
     public String formatTempo (final double tempo)
     {
-        return new DecimalFormat ("#.00").format (tempo);
+        final char [] buffer = new char [16];
+        return new String (buffer, 0, NumberFormatter.formatTempo (tempo, buffer, 0));
     }
 
 
@@ -523,7 +542,8 @@ public class TransportImpl implements ITransport
     @Override
     public String formatTempoNoFraction (final double tempo)
     {
-        return new DecimalFormat ("###").format (tempo);
+        final char [] buffer = new char [16];
+        return new String (buffer, 0, NumberFormatter.formatTempoNoFraction (tempo, 1, buffer, 0));
     }
 
 
@@ -648,17 +668,20 @@ public class TransportImpl implements ITransport
     private void handleTempo (final double value)
     {
         this.tempo = Math.min (TransportImpl.TEMPO_MAX, Math.max (TransportImpl.TEMPO_MIN, value));
+        this.notifier.notifyObservers ();
     }
 
 
     private void handleCrossfade (final int value)
     {
         this.crossfade = value;
+        this.notifier.notifyObservers ();
     }
 
 
     private void handleMetronomeValue (final int value)
     {
         this.metronomeValue = value;
+        this.notifier.notifyObservers ();
     }
 }
\ No newline at end of file
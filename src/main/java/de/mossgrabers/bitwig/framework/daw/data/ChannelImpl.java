@@ -5,6 +5,9 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ObservedData;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -22,17 +25,18 @@ import com.bitwig.extension.controller.api.SettableColorValue;
  */
 public class ChannelImpl implements IChannel
 {
-    protected IValueChanger valueChanger;
-    protected Channel       channel;
+    protected IValueChanger             valueChanger;
+    protected Channel                   channel;
+    protected final ValueChangeNotifier notifier = new ValueChangeNotifier ();
 
-    private ISend []        sends;
-    private int             index;
-    private boolean         selected;
-    private int             vu;
-    private int             vuLeft;
-    private int             vuRight;
-    private IParameter      volumeParameter;
-    private IParameter      panParameter;
+    private ISend []                    sends;
+    private int                         index;
+    private boolean                     selected;
+    private int                         vu;
+    private int                         vuLeft;
+    private int                         vuRight;
+    private IParameter                  volumeParameter;
+    private IParameter                  panParameter;
 
 
     /**
@@ -52,17 +56,19 @@ public class ChannelImpl implements IChannel
         if (channel == null)
             return;
 
-        channel.exists ().markInterested ();
-        channel.name ().markInterested ();
-        channel.isActivated ().markInterested ();
-        channel.mute ().markInterested ();
-        channel.solo ().markInterested ();
-        channel.color ().markInterested ();
+        channel.exists ().addValueObserver (exists -> this.notifier.notifyObservers ());
+        channel.name ().addValueObserver (name -> this.notifier.notifyObservers ());
+        channel.isActivated ().addValueObserver (isActivated -> this.notifier.notifyObservers ());
+        channel.mute ().addValueObserver (isMuted -> this.notifier.notifyObservers ());
+        channel.solo ().addValueObserver (isSoloed -> this.notifier.notifyObservers ());
+        channel.color ().addValueObserver ( (red, green, blue) -> this.notifier.notifyObservers ());
 
         final int maxParameterValue = valueChanger.getUpperBound ();
 
         this.volumeParameter = new ParameterImpl (valueChanger, channel.volume (), maxParameterValue);
+        this.volumeParameter.addValueChangeObserver (this.notifier::notifyObservers);
         this.panParameter = new ParameterImpl (valueChanger, channel.pan (), maxParameterValue);
+        this.panParameter.addValueChangeObserver (this.notifier::notifyObservers);
 
         channel.addVuMeterObserver (maxParameterValue, -1, true, value -> this.handleVUMeters (maxParameterValue, value));
         channel.addVuMeterObserver (maxParameterValue, 0, true, value -> this.handleVULeftMeter (maxParameterValue, value));
@@ -73,7 +79,10 @@ public class ChannelImpl implements IChannel
             return;
         final SendBank sendBank = channel.sendBank ();
         for (int i = 0; i < numSends; i++)
+        {
             this.sends[i] = new SendImpl (valueChanger, sendBank.getItemAt (i), maxParameterValue, i);
+            this.sends[i].addValueChangeObserver (this.notifier::notifyObservers);
+        }
     }
 
 
@@ -96,6 +105,33 @@ public class ChannelImpl implements IChannel
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        if (data != ObservedData.TRACK_SENDS)
+            return;
+        for (final ISend send: this.sends)
+            send.enableObservers (enable);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public int getIndex ()
@@ -116,7 +152,10 @@ public class ChannelImpl implements IChannel
     @Override
     public void setSelected (final boolean isSelected)
     {
+        if (this.selected == isSelected)
+            return;
         this.selected = isSelected;
+        this.notifier.notifyObservers ();
     }
 
 
@@ -5,6 +5,8 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.data.IParameter;
 
 import com.bitwig.extension.controller.api.Parameter;
@@ -17,12 +19,13 @@ import com.bitwig.extension.controller.api.Parameter;
  */
 public class ParameterImpl implements IParameter
 {
-    private IValueChanger   valueChanger;
-    private final Parameter parameter;
-    private final int       maxParameterValue;
+    private IValueChanger             valueChanger;
+    private final Parameter           parameter;
+    private final int                 maxParameterValue;
+    private final ValueChangeNotifier notifier = new ValueChangeNotifier ();
 
-    private int             value;
-    private int             modulatedValue;
+    private int                       value;
+    private int                       modulatedValue;
 
 
     /**
@@ -38,9 +41,9 @@ public class ParameterImpl implements IParameter
         this.parameter = parameter;
         this.maxParameterValue = maxParameterValue;
 
-        parameter.exists ().markInterested ();
-        parameter.name ().markInterested ();
-        parameter.displayedValue ().markInterested ();
+        parameter.exists ().addValueObserver (exists -> this.notifier.notifyObservers ());
+        parameter.name ().addValueObserver (name -> this.notifier.notifyObservers ());
+        parameter.displayedValue ().addValueObserver (displayedValue -> this.notifier.notifyObservers ());
         parameter.value ().addValueObserver (maxParameterValue, this::handleValue);
         parameter.modulatedValue ().addValueObserver (maxParameterValue, this::handleModulatedValue);
     }
@@ -58,6 +61,22 @@ public class ParameterImpl implements IParameter
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void inc (final double increment)
@@ -165,11 +184,13 @@ public class ParameterImpl implements IParameter
     private void handleValue (final int value)
     {
         this.value = value;
+        this.notifier.notifyObservers ();
     }
 
 
     private void handleModulatedValue (final int modulatedValue)
     {
         this.modulatedValue = modulatedValue;
+        this.notifier.notifyObservers ();
     }
 }
@@ -4,6 +4,8 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.data.IScene;
 
 import com.bitwig.extension.controller.api.Scene;
@@ -16,9 +18,10 @@ import com.bitwig.extension.controller.api.Scene;
  */
 public class SceneImpl implements IScene
 {
-    private final int   index;
-    private final Scene scene;
-    private boolean     isSelected;
+    private final int                 index;
+    private final Scene               scene;
+    private final ValueChangeNotifier notifier = new ValueChangeNotifier ();
+    private boolean                   isSelected;
 
 
     /**
@@ -32,10 +35,10 @@ public class SceneImpl implements IScene
         this.index = index;
         this.scene = scene;
 
-        scene.exists ().markInterested ();
-        scene.name ().markInterested ();
-        scene.sceneIndex ().markInterested ();
-        scene.addIsSelectedInEditorObserver (value -> this.isSelected = value);
+        scene.exists ().addValueObserver (exists -> this.notifier.notifyObservers ());
+        scene.name ().addValueObserver (name -> this.notifier.notifyObservers ());
+        scene.sceneIndex ().addValueObserver (sceneIndex -> this.notifier.notifyObservers ());
+        scene.addIsSelectedInEditorObserver (this::handleIsSelected);
     }
 
 
@@ -87,4 +90,27 @@ public class SceneImpl implements IScene
     {
         return this.isSelected;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
+
+
+    private void handleIsSelected (final boolean isSelected)
+    {
+        this.isSelected = isSelected;
+        this.notifier.notifyObservers ();
+    }
 }
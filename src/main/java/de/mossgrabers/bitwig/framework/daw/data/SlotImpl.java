@@ -4,6 +4,8 @@
 
 package de.mossgrabers.bitwig.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.data.ISlot;
 
 import com.bitwig.extension.controller.api.ClipLauncherSlot;
@@ -21,6 +23,7 @@ public class SlotImpl implements ISlot
     private final int                  index;
     private final ClipLauncherSlot     slot;
     private final ClipLauncherSlotBank csBank;
+    private final ValueChangeNotifier  notifier = new ValueChangeNotifier ();
 
 
     /**
@@ -37,18 +40,18 @@ public class SlotImpl implements ISlot
         this.index = index;
         this.slot = slot;
 
-        slot.exists ().markInterested ();
-        slot.name ().markInterested ();
-        slot.hasContent ().markInterested ();
-        slot.color ().markInterested ();
+        slot.exists ().addValueObserver (exists -> this.notifier.notifyObservers ());
+        slot.name ().addValueObserver (name -> this.notifier.notifyObservers ());
+        slot.hasContent ().addValueObserver (hasContent -> this.notifier.notifyObservers ());
+        slot.color ().addValueObserver ( (red, green, blue) -> this.notifier.notifyObservers ());
 
         // States
-        slot.isPlaying ().markInterested ();
-        slot.isPlaybackQueued ().markInterested ();
-        slot.isRecording ().markInterested ();
-        slot.isRecordingQueued ().markInterested ();
-        slot.isStopQueued ().markInterested ();
-        slot.isSelected ().markInterested ();
+        slot.isPlaying ().addValueObserver (isPlaying -> this.notifier.notifyObservers ());
+        slot.isPlaybackQueued ().addValueObserver (isQueued -> this.notifier.notifyObservers ());
+        slot.isRecording ().addValueObserver (isRecording -> this.notifier.notifyObservers ());
+        slot.isRecordingQueued ().addValueObserver (isQueued -> this.notifier.notifyObservers ());
+        slot.isStopQueued ().addValueObserver (isQueued -> this.notifier.notifyObservers ());
+        slot.isSelected ().addValueObserver (isSelected -> this.notifier.notifyObservers ());
     }
 
 
@@ -234,4 +237,20 @@ public class SlotImpl implements ISlot
     {
         this.slot.browseToInsertClip ();
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        this.notifier.addObserver (observer);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
+    }
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.daw.data;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
@@ -45,21 +46,24 @@ public class TrackImpl extends ChannelImpl implements ITrack
         if (track == null)
             return;
 
-        track.trackType ().markInterested ();
-        track.position ().markInterested ();
-        track.isGroup ().markInterested ();
-        track.arm ().markInterested ();
-        track.monitor ().markInterested ();
-        track.autoMonitor ().markInterested ();
-        track.crossFadeMode ().markInterested ();
-        track.canHoldNoteData ().markInterested ();
-        track.canHoldAudioData ().markInterested ();
-        track.isStopped ().markInterested ();
+        track.trackType ().addValueObserver (trackType -> this.notifier.notifyObservers ());
+        track.position ().addValueObserver (position -> this.notifier.notifyObservers ());
+        track.isGroup ().addValueObserver (isGroup -> this.notifier.notifyObservers ());
+        track.arm ().addValueObserver (isArmed -> this.notifier.notifyObservers ());
+        track.monitor ().addValueObserver (isMonitor -> this.notifier.notifyObservers ());
+        track.autoMonitor ().addValueObserver (isAutoMonitor -> this.notifier.notifyObservers ());
+        track.crossFadeMode ().addValueObserver (crossFadeMode -> this.notifier.notifyObservers ());
+        track.canHoldNoteData ().addValueObserver (canHoldNotes -> this.notifier.notifyObservers ());
+        track.canHoldAudioData ().addValueObserver (canHoldAudio -> this.notifier.notifyObservers ());
+        track.isStopped ().addValueObserver (isStopped -> this.notifier.notifyObservers ());
 
         this.slots = new SlotImpl [numScenes];
         final ClipLauncherSlotBank cs = track.clipLauncherSlotBank ();
         for (int i = 0; i < numScenes; i++)
+        {
             this.slots[i] = new SlotImpl (cs, cs.getItemAt (i), i);
+            this.slots[i].addValueChangeObserver (this.notifier::notifyObservers);
+        }
     }
 
 
@@ -85,6 +89,19 @@ public class TrackImpl extends ChannelImpl implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        super.enableObservers (data, enable);
+
+        if (data != ObservedData.TRACK_SLOTS)
+            return;
+        for (final ISlot slot: this.slots)
+            slot.enableObservers (enable);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public ChannelType getType ()
@@ -12,6 +12,8 @@ import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.MidiIn;
 import com.bitwig.extension.controller.api.NoteInput;
 
+import java.util.Arrays;
+
 
 /**
  * A midi input.
@@ -23,6 +25,8 @@ class MidiInputImpl implements IMidiInput
     private final int portNumber;
     private MidiIn    port;
     private NoteInput noteInput;
+    private int []    keyTable;
+    private int []    velocityTable;
 
 
     /**
@@ -100,19 +104,23 @@ class MidiInputImpl implements IMidiInput
 
     /** {@inheritDoc} */
     @Override
-    public void setKeyTranslationTable (final Integer [] table)
+    public void setKeyTranslationTable (final int [] table)
     {
-        if (this.noteInput != null)
-            this.noteInput.setKeyTranslationTable (table);
+        if (this.noteInput == null || Arrays.equals (this.keyTable, table))
+            return;
+        this.keyTable = table.clone ();
+        this.noteInput.setKeyTranslationTable (toObjectArray (table));
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void setVelocityTranslationTable (final Integer [] table)
+    public void setVelocityTranslationTable (final int [] table)
     {
-        if (this.noteInput != null)
-            this.noteInput.setVelocityTranslationTable (table);
+        if (this.noteInput == null || Arrays.equals (this.velocityTable, table))
+            return;
+        this.velocityTable = table.clone ();
+        this.noteInput.setVelocityTranslationTable (toObjectArray (table));
     }
 
 
@@ -131,4 +139,20 @@ class MidiInputImpl implements IMidiInput
     {
         // TODO API extension required
     }
+
+
+    /**
+     * The Bitwig API expects the translation tables as object arrays. Only done if a table changed
+     * and the values 0-127 are cached by Integer.valueOf.
+     *
+     * @param table The table to convert
+     * @return The converted table
+     */
+    private static Integer [] toObjectArray (final int [] table)
+    {
+        final Integer [] t = new Integer [table.length];
+        for (int i = 0; i < table.length; i++)
+            t[i] = Integer.valueOf (table[i]);
+        return t;
+    }
 }
@@ -5,6 +5,7 @@
 package de.mossgrabers.bitwig.framework.midi;
 
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import com.bitwig.extension.controller.api.ControllerHost;
 import com.bitwig.extension.controller.api.MidiOut;
@@ -17,7 +18,9 @@ import com.bitwig.extension.controller.api.MidiOut;
  */
 class MidiOutputImpl implements IMidiOutput
 {
-    private MidiOut port;
+    private static final byte [] IDENTITY_REQUEST = SysExBuilder.toBytes ("F0 7E 7F 06 01 F7");
+
+    private MidiOut              port;
 
 
     /**
@@ -127,6 +130,6 @@ class MidiOutputImpl implements IMidiOutput
     @Override
     public void sendIdentityRequest ()
     {
-        this.sendSysex ("F0 7E 7F 06 01 F7");
+        this.sendSysex (IDENTITY_REQUEST);
     }
 }
\ No newline at end of file
@@ -48,19 +48,9 @@ public class OpenSoundControlServerImpl implements IOpenSoundControlServer
     @Override
     public void sendBundle (final List<IOpenSoundControlMessage> messages) throws IOException
     {
-        int pos = 0;
         this.connection.startBundle ();
         for (final IOpenSoundControlMessage message: messages)
-        {
             this.sendMessage (message);
-            pos++;
-            if (pos > 1000)
-            {
-                pos = 0;
-                this.connection.endBundle ();
-                this.connection.startBundle ();
-            }
-        }
         this.connection.endBundle ();
     }
 }
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.View;
 
@@ -186,10 +187,10 @@ public class APCControlSurface extends AbstractControlSurface<APCConfiguration>
         APC_BUTTON_UPDATE[APC_BUTTON_BANK] = false;
     }
 
-    private static final String ID_APC_40      = "73";
-    private static final String ID_APC_40_MKII = "29";
+    private static final int ID_APC_40      = 0x73;
+    private static final int ID_APC_40_MKII = 0x29;
 
-    private boolean             isMkII;
+    private boolean          isMkII;
 
 
     /**
@@ -217,7 +218,7 @@ public class APCControlSurface extends AbstractControlSurface<APCConfiguration>
         this.pads = new APCPadGrid (colorManager, this);
 
         // Set Mode 2
-        this.output.sendSysex ("F0 47 7F " + (isMkII ? ID_APC_40_MKII : ID_APC_40) + " 60 00 04 41 08 02 01 F7");
+        new SysExBuilder (8, 0x47, 0x7F, isMkII ? ID_APC_40_MKII : ID_APC_40).add (0x60, 0x00, 0x04, 0x41, 0x08, 0x02, 0x01).send (this.output);
     }
 
 
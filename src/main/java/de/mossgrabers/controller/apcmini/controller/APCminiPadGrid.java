@@ -5,6 +5,7 @@
 package de.mossgrabers.controller.apcmini.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.NoteTranslation;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 
 
@@ -15,6 +16,10 @@ import de.mossgrabers.framework.controller.grid.PadGridImpl;
  */
 public class APCminiPadGrid extends PadGridImpl
 {
+    /** Translates the note range 36-100 to the APCmini grid (0-63) and back. */
+    static final NoteTranslation TRANSLATION = NoteTranslation.createShifted (36, 0, 64);
+
+
     /**
      * Constructor.
      *
@@ -23,7 +28,7 @@ public class APCminiPadGrid extends PadGridImpl
      */
     public APCminiPadGrid (final ColorManager colorManager, final APCminiControlSurface surface)
     {
-        super (colorManager, surface.getOutput ());
+        super (colorManager, surface.getOutput (), TRANSLATION);
     }
 
 
@@ -41,20 +46,4 @@ public class APCminiPadGrid extends PadGridImpl
     {
         // Intentionally empty
     }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int translateToGrid (final int note)
-    {
-        return note + 36;
-    }
-
-
-    /** {@inheritDoc} */
-    @Override
-    public int translateToController (final int note)
-    {
-        return note - 36;
-    }
 }
\ No newline at end of file
@@ -34,9 +34,6 @@ public class APCminiScales extends Scales
     @Override
     public int [] translateMatrixToGrid (final int [] matrix)
     {
-        final int [] gridMatrix = Scales.getEmptyMatrix ();
-        for (int i = 36; i < 100; i++)
-            gridMatrix[i - 36] = matrix[i];
-        return gridMatrix;
+        return APCminiPadGrid.TRANSLATION.translateMatrix (matrix);
     }
 }
\ No newline at end of file
@@ -35,9 +35,9 @@ public class DrumView extends AbstractDrumView<APCminiControlSurface, APCminiCon
 
     /** {@inheritDoc} */
     @Override
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return AbstractDrumView.COLOR_PAD_HAS_CONTENT;
+        return AbstractDrumView.COLOR_PAD_HAS_CONTENT_HANDLE;
     }
 
 
@@ -35,6 +35,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.ViewManager;
 
@@ -46,7 +47,10 @@ import de.mossgrabers.framework.view.ViewManager;
  */
 public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepControlSurface, BeatstepConfiguration>
 {
-    private static final int [] DRUM_MATRIX =
+    // Enables the Shift button to send Midi Note 07
+    private static final byte [] SYSEX_SHIFT_NOTE = SysExBuilder.toBytes ("F0 00 20 6B 7F 42 02 00 01 5E 09 F7");
+
+    private static final int []  DRUM_MATRIX      =
     {
         0,
         1,
@@ -114,7 +118,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
         -1
     };
 
-    private final boolean       isPro;
+    private final boolean        isPro;
 
 
     /**
@@ -256,7 +260,7 @@ public class BeatstepControllerSetup extends AbstractControllerSetup<BeatstepCon
     {
         // Enable Shift button to send Midi Note 07
         final BeatstepControlSurface surface = this.getSurface ();
-        surface.getOutput ().sendSysex ("F0 00 20 6B 7F 42 02 00 01 5E 09 F7");
+        surface.getOutput ().sendSysex (SYSEX_SHIFT_NOTE);
         surface.getViewManager ().setActiveView (Views.VIEW_TRACK);
     }
 
@@ -93,8 +93,17 @@ public class BeatstepControlSurface extends AbstractControlSurface<BeatstepConfi
         BEATSTEP_PRO_STEP16
     };
 
-    static final String         SYSEX_HEADER         = "F0 00 20 6B 7F 42 02 00 10 ";
-    static final String         SYSEX_END            = "F7";
+    static final int []         SYSEX_HEADER         =
+    {
+        0x00,
+        0x20,
+        0x6B,
+        0x7F,
+        0x42,
+        0x02,
+        0x00,
+        0x10
+    };
 
     private boolean             isPro;
     private boolean             isShift;
@@ -125,6 +125,6 @@ public class PlayView extends AbstractPlayView<BeatstepControlSurface, BeatstepC
         final PadGrid padGrid = this.surface.getPadGrid ();
         final ColorManager colorManager = this.model.getColorManager ();
         for (int i = 36; i < 52; i++)
-            padGrid.light (i, isKeyboardEnabled ? this.pressedKeys[i] > 0 ? BeatstepColors.BEATSTEP_BUTTON_STATE_PINK : colorManager.getColor (this.scales.getColor (this.noteMap, i)) : BeatstepColors.BEATSTEP_BUTTON_STATE_OFF);
+            padGrid.light (i, isKeyboardEnabled ? this.pressedKeys[i] > 0 ? BeatstepColors.BEATSTEP_BUTTON_STATE_PINK : colorManager.getColorByHandle (this.scales.getColorHandle (this.noteMap, i)) : BeatstepColors.BEATSTEP_BUTTON_STATE_OFF);
     }
 }
\ No newline at end of file
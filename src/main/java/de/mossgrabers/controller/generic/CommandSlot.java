@@ -201,6 +201,50 @@ public class CommandSlot
     }
 
 
+    /**
+     * Add a number observer.
+     *
+     * @param observer The observer
+     */
+    public void addNumberValueObserver (final IValueObserver<String> observer)
+    {
+        this.numberSetting.addValueObserver (observer);
+    }
+
+
+    /**
+     * Add a midi channel observer.
+     *
+     * @param observer The observer
+     */
+    public void addMidiChannelValueObserver (final IValueObserver<String> observer)
+    {
+        this.midiChannelSetting.addValueObserver (observer);
+    }
+
+
+    /**
+     * Add a command (function) observer.
+     *
+     * @param observer The observer
+     */
+    public void addCommandValueObserver (final IValueObserver<String> observer)
+    {
+        this.functionSetting.addValueObserver (observer);
+    }
+
+
+    /**
+     * Add a send value observer.
+     *
+     * @param observer The observer
+     */
+    public void addSendValueObserver (final IValueObserver<String> observer)
+    {
+        this.sendValueSetting.addValueObserver (observer);
+    }
+
+
     /**
      * Should the value send back to the device?
      *
@@ -35,10 +35,14 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
     public static final Integer BUTTON_EXPORT = Integer.valueOf (50);
     /** Import signal. */
     public static final Integer BUTTON_IMPORT = Integer.valueOf (51);
+    /** One of the command slots has changed. */
+    public static final Integer SLOT_CHANGE   = Integer.valueOf (52);
 
     /** The number of command slots. */
     public static final int     NUM_SLOTS     = 200;
 
+    private static final int [] NO_SLOTS      = new int [0];
+
     private IStringSetting      fileSetting;
     private IEnumSetting        addTypeSetting;
     private IEnumSetting        addNumberSetting;
@@ -53,6 +57,7 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
     private Object              syncMapUpdate = new Object ();
     private int []              keyMap;
+    private int [] []           slotMap;
 
 
     /**
@@ -113,14 +118,29 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
         for (int i = 0; i < NUM_SLOTS; i++)
         {
-            this.commandSlots[i] = new CommandSlot ("Slot " + (i + 1), settingsUI);
-            this.commandSlots[i].addTypeValueObserver (v -> {
-                synchronized (this.syncMapUpdate)
-                {
-                    this.keyMap = null;
-                }
-            });
+            final CommandSlot slot = new CommandSlot ("Slot " + (i + 1), settingsUI);
+            this.commandSlots[i] = slot;
+            slot.addTypeValueObserver (v -> this.handleSlotChange ());
+            slot.addNumberValueObserver (v -> this.handleSlotChange ());
+            slot.addMidiChannelValueObserver (v -> this.handleSlotChange ());
+            slot.addCommandValueObserver (v -> this.handleSlotChange ());
+            slot.addSendValueObserver (v -> this.handleSlotChange ());
+        }
+    }
+
+
+    /**
+     * Invalidate the key translation and slot lookup maps. They are rebuilt on their next use.
+     * Notifies the slot change observers.
+     */
+    private void handleSlotChange ()
+    {
+        synchronized (this.syncMapUpdate)
+        {
+            this.keyMap = null;
+            this.slotMap = null;
         }
+        this.notifyObservers (SLOT_CHANGE);
     }
 
 
@@ -151,22 +171,69 @@ public class GenericFlexiConfiguration extends AbstractConfiguration
 
 
     /**
-     * Get a matching configured slot command, if available.
+     * Get all matching configured slot commands. Uses a lookup table indexed by type, midi channel
+     * and number, which is rebuilt after a slot was changed.
      *
      * @param type The type
      * @param number The number
      * @param midiChannel The midi channel
-     * @return The slot index or -1 if not found
+     * @return The indices of the matching slots, an empty array if none is found
+     */
+    public int [] getSlotCommands (final int type, final int number, final int midiChannel)
+    {
+        if (type < 0 || type >= CommandSlot.OPTIONS_TYPE.length || number < 0 || number > 127 || midiChannel < 0 || midiChannel > 15)
+            return NO_SLOTS;
+
+        synchronized (this.syncMapUpdate)
+        {
+            if (this.slotMap == null)
+                this.slotMap = this.createSlotMap ();
+            return this.slotMap[getSlotMapIndex (type, number, midiChannel)];
+        }
+    }
+
+
+    /**
+     * Create the lookup table from (type, midi channel, number) to the indices of all slots, which
+     * are configured for it.
+     *
+     * @return The lookup table
      */
-    public int getSlotCommand (final int type, final int number, final int midiChannel)
+    private int [] [] createSlotMap ()
     {
+        final int [] [] map = new int [CommandSlot.OPTIONS_TYPE.length * 16 * 128] [];
+        final int [] counts = new int [map.length];
+        final int [] indices = new int [this.commandSlots.length];
         for (int i = 0; i < this.commandSlots.length; i++)
         {
             final CommandSlot slot = this.commandSlots[i];
-            if (slot.getCommand () != FlexiCommand.OFF && slot.getType () == type && slot.getMidiChannel () == midiChannel && slot.getNumber () == number)
-                return i;
+            if (slot.getCommand () == FlexiCommand.OFF)
+            {
+                indices[i] = -1;
+                continue;
+            }
+            indices[i] = getSlotMapIndex (slot.getType (), slot.getNumber (), slot.getMidiChannel ());
+            counts[indices[i]]++;
+        }
+
+        for (int i = 0; i < map.length; i++)
+        {
+            map[i] = counts[i] == 0 ? NO_SLOTS : new int [counts[i]];
+            counts[i] = 0;
+        }
+
+        for (int i = 0; i < indices.length; i++)
+        {
+            if (indices[i] >= 0)
+                map[indices[i]][counts[indices[i]]++] = i;
         }
-        return -1;
+        return map;
+    }
+
+
+    private static int getSlotMapIndex (final int type, final int number, final int midiChannel)
+    {
+        return (type * 16 + midiChannel) * 128 + number;
     }
 
 
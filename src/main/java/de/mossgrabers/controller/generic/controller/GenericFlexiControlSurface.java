@@ -14,6 +14,7 @@ import de.mossgrabers.framework.controller.Relative3ValueChanger;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IChannelBank;
+import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -54,6 +55,10 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
     private IValueChanger      relative3ValueChanger  = new Relative3ValueChanger (128, 1, 0.5);
 
     private int []             valueCache             = new int [GenericFlexiConfiguration.NUM_SLOTS];
+    private final boolean []   dirtyCommands          = new boolean [FlexiCommand.values ().length];
+    private boolean            hasDirtyCommands       = true;
+    private int []             feedbackSlots;
+    private boolean            hasPolledSlots;
 
     private boolean            isUpdatingValue        = false;
 
@@ -73,8 +78,12 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         super (host, configuration, colorManager, output, input, new int [0]);
 
         Arrays.fill (this.valueCache, -1);
+        Arrays.fill (this.dirtyCommands, true);
         this.model = model;
 
+        this.configuration.addSettingObserver (GenericFlexiConfiguration.SLOT_CHANGE, this::handleSlotChange);
+        this.registerValueChangeObservers ();
+
         this.configuration.addSettingObserver (GenericFlexiConfiguration.BUTTON_EXPORT, () -> {
             final String filename = this.configuration.getFilename ();
             if (filename == null || filename.trim ().isEmpty ())
@@ -129,12 +138,18 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             return;
 
         final CommandSlot [] slots = this.configuration.getCommandSlots ();
-        for (int i = 0; i < slots.length; i++)
+        if (this.feedbackSlots == null)
+            this.feedbackSlots = this.createFeedbackSlots (slots);
+
+        // Only the commands with changed model values (and the ones which cannot be observed)
+        // need to be checked
+        if (!this.hasDirtyCommands && !this.hasPolledSlots)
+            return;
+
+        for (final int i: this.feedbackSlots)
         {
-            if (slots[i].getType () != CommandSlot.TYPE_CC)
-                continue;
             final FlexiCommand command = slots[i].getCommand ();
-            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+            if (!this.dirtyCommands[command.ordinal ()] && !isPolled (command))
                 continue;
             final int value = this.getCommandValue (command);
             if (this.valueCache[i] == value)
@@ -143,6 +158,178 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             if (value >= 0 && value <= 127)
                 this.getOutput ().sendCC (slots[i].getNumber (), value);
         }
+
+        Arrays.fill (this.dirtyCommands, false);
+        this.hasDirtyCommands = false;
+    }
+
+
+    /**
+     * Get the indices of all slots which send their value back to the device.
+     *
+     * @param slots All command slots
+     * @return The indices of the CC slots with an active command and enabled value sending
+     */
+    private int [] createFeedbackSlots (final CommandSlot [] slots)
+    {
+        final int [] indices = new int [slots.length];
+        int count = 0;
+        this.hasPolledSlots = false;
+        for (int i = 0; i < slots.length; i++)
+        {
+            if (slots[i].getType () != CommandSlot.TYPE_CC)
+                continue;
+            final FlexiCommand command = slots[i].getCommand ();
+            if (command == FlexiCommand.OFF || !slots[i].isSendValue ())
+                continue;
+            indices[count++] = i;
+            if (isPolled (command))
+                this.hasPolledSlots = true;
+        }
+        return Arrays.copyOf (indices, count);
+    }
+
+
+    /**
+     * A slot has been re-configured. Send all values again.
+     */
+    private void handleSlotChange ()
+    {
+        this.feedbackSlots = null;
+        Arrays.fill (this.valueCache, -1);
+        Arrays.fill (this.dirtyCommands, true);
+        this.hasDirtyCommands = true;
+    }
+
+
+    /**
+     * Register for value changes of all model objects which are read by the commands. Flush only
+     * sends the values of commands, which have been marked dirty by these observers.
+     */
+    private void registerValueChangeObservers ()
+    {
+        final FlexiCommand [] commands = FlexiCommand.values ();
+
+        this.model.getApplication ().addValueChangeObserver ( () -> this.markDirty (FlexiCommand.GLOBAL_TOGGLE_AUDIO_ENGINE));
+
+        final FlexiCommand [] transportCommands = Arrays.copyOfRange (commands, FlexiCommand.TRANSPORT_PLAY.ordinal (), FlexiCommand.TRANSPORT_MOVE_PLAY_CURSOR.ordinal () + 1);
+        this.model.getTransport ().addValueChangeObserver ( () -> this.markDirty (transportCommands));
+
+        final FlexiCommand [] selectedTrackCommands = new FlexiCommand []
+        {
+            FlexiCommand.TRACK_SELECTED_TOGGLE_ACTIVE,
+            FlexiCommand.TRACK_SELECTED_SET_VOLUME_TRACK,
+            FlexiCommand.TRACK_SELECTED_SET_PANORAMA,
+            FlexiCommand.TRACK_SELECTED_TOGGLE_MUTE,
+            FlexiCommand.TRACK_SELECTED_TOGGLE_SOLO,
+            FlexiCommand.TRACK_SELECTED_TOGGLE_ARM,
+            FlexiCommand.TRACK_SELECTED_TOGGLE_MONITOR,
+            FlexiCommand.TRACK_SELECTED_TOGGLE_AUTO_MONITOR,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_1,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_2,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_3,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_4,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_5,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_6,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_7,
+            FlexiCommand.TRACK_SELECTED_SET_SEND_8
+        };
+        final FlexiCommand [] firstTrackCommands = new FlexiCommand []
+        {
+            FlexiCommand.TRACK_1_SELECT,
+            FlexiCommand.TRACK_1_TOGGLE_ACTIVE,
+            FlexiCommand.TRACK_1_SET_VOLUME,
+            FlexiCommand.TRACK_1_SET_PANORAMA,
+            FlexiCommand.TRACK_1_TOGGLE_MUTE,
+            FlexiCommand.TRACK_1_TOGGLE_SOLO,
+            FlexiCommand.TRACK_1_TOGGLE_ARM,
+            FlexiCommand.TRACK_1_TOGGLE_MONITOR,
+            FlexiCommand.TRACK_1_TOGGLE_AUTO_MONITOR,
+            FlexiCommand.TRACK_1_SET_SEND_1,
+            FlexiCommand.TRACK_1_SET_SEND_2,
+            FlexiCommand.TRACK_1_SET_SEND_3,
+            FlexiCommand.TRACK_1_SET_SEND_4,
+            FlexiCommand.TRACK_1_SET_SEND_5,
+            FlexiCommand.TRACK_1_SET_SEND_6,
+            FlexiCommand.TRACK_1_SET_SEND_7,
+            FlexiCommand.TRACK_1_SET_SEND_8
+        };
+
+        final ITrackBank trackBank = this.model.getTrackBank ();
+        for (int i = 0; i < Math.min (8, trackBank.getNumTracks ()); i++)
+        {
+            final FlexiCommand [] trackCommands = new FlexiCommand [firstTrackCommands.length];
+            for (int j = 0; j < firstTrackCommands.length; j++)
+                trackCommands[j] = commands[firstTrackCommands[j].ordinal () + i];
+            trackBank.getTrack (i).addValueChangeObserver ( () -> {
+                this.markDirty (trackCommands);
+                this.markDirty (selectedTrackCommands);
+            });
+        }
+        trackBank.addTrackSelectionObserver ( (index, isSelected) -> this.markDirty (selectedTrackCommands));
+
+        final IChannelBank effectTrackBank = this.model.getEffectTrackBank ();
+        if (effectTrackBank != null)
+        {
+            for (int i = 0; i < effectTrackBank.getNumTracks (); i++)
+                effectTrackBank.getTrack (i).addValueChangeObserver ( () -> this.markDirty (selectedTrackCommands));
+            effectTrackBank.addTrackSelectionObserver ( (index, isSelected) -> this.markDirty (selectedTrackCommands));
+        }
+
+        final FlexiCommand [] masterCommands = Arrays.copyOfRange (commands, FlexiCommand.MASTER_SET_VOLUME.ordinal (), FlexiCommand.MASTER_TOGGLE_ARM.ordinal () + 1);
+        this.model.getMasterTrack ().addValueChangeObserver ( () -> this.markDirty (masterCommands));
+
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        final FlexiCommand [] deviceCommands = new FlexiCommand []
+        {
+            FlexiCommand.DEVICE_TOGGLE_WINDOW,
+            FlexiCommand.DEVICE_BYPASS,
+            FlexiCommand.DEVICE_EXPAND
+        };
+        cursorDevice.addValueChangeObserver ( () -> this.markDirty (deviceCommands));
+        for (int i = 0; i < Math.min (8, cursorDevice.getNumParameters ()); i++)
+        {
+            final FlexiCommand parameterCommand = commands[FlexiCommand.DEVICE_SET_PARAMETER_1.ordinal () + i];
+            cursorDevice.getFXParam (i).addValueChangeObserver ( () -> this.markDirty (parameterCommand));
+        }
+    }
+
+
+    /**
+     * Mark a command as dirty. Its value is sent with the next flush.
+     *
+     * @param command The command
+     */
+    private void markDirty (final FlexiCommand command)
+    {
+        this.dirtyCommands[command.ordinal ()] = true;
+        this.hasDirtyCommands = true;
+    }
+
+
+    /**
+     * Mark several commands as dirty. Their values are sent with the next flush.
+     *
+     * @param commands The commands
+     */
+    private void markDirty (final FlexiCommand [] commands)
+    {
+        for (final FlexiCommand command: commands)
+            this.dirtyCommands[command.ordinal ()] = true;
+        this.hasDirtyCommands = true;
+    }
+
+
+    /**
+     * Commands which read the state of the selected clip cannot be observed, since the selected
+     * slot changes with the track and the slot selection. Their values are checked on each flush.
+     *
+     * @param command The command
+     * @return True if the command needs to be polled
+     */
+    private static boolean isPolled (final FlexiCommand command)
+    {
+        return command == FlexiCommand.CLIP_PLAY || command == FlexiCommand.CLIP_STOP || command == FlexiCommand.CLIP_RECORD;
     }
 
 
@@ -570,7 +757,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
         final int code = status & 0xF0;
         final int channel = status & 0xF;
 
-        int slotIndex = -1;
+        int [] slotIndices = null;
         int value = data2;
 
         switch (code)
@@ -578,13 +765,13 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             // Note on/off
             case 0x90:
                 this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_NOTE], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_NOTE, data1, channel);
+                slotIndices = this.configuration.getSlotCommands (CommandSlot.TYPE_NOTE, data1, channel);
                 break;
 
             // Program Change
             case 0xC0:
                 this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_PROGRAM_CHANGE], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
+                slotIndices = this.configuration.getSlotCommands (CommandSlot.TYPE_PROGRAM_CHANGE, data1, channel);
                 value = 127;
                 this.updateKeyTranslation ();
                 break;
@@ -592,7 +779,7 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
             // CC
             case 0xB0:
                 this.configuration.setAddValues (CommandSlot.OPTIONS_TYPE[CommandSlot.TYPE_CC], data1, channel);
-                slotIndex = this.configuration.getSlotCommand (CommandSlot.TYPE_CC, data1, channel);
+                slotIndices = this.configuration.getSlotCommands (CommandSlot.TYPE_CC, data1, channel);
                 break;
 
             default:
@@ -600,8 +787,11 @@ public class GenericFlexiControlSurface extends AbstractControlSurface<GenericFl
                 break;
         }
 
-        if (slotIndex != -1)
-            this.handleCommand (slotIndex, value);
+        if (slotIndices != null)
+        {
+            for (final int slotIndex: slotIndices)
+                this.handleCommand (slotIndex, value);
+        }
     }
 
 
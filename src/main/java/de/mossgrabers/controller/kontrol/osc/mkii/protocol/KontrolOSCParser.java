@@ -17,6 +17,7 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
 import java.util.Collections;
@@ -37,6 +38,7 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
     };
 
     private final String                                 daw;
+    private final OpenSoundControlRouter                 router      = new OpenSoundControlRouter (0);
     private boolean                                      is16;
 
     private DummyControlSurface<KontrolOSCConfiguration> surface;
@@ -61,6 +63,13 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
         this.daw = is16 ? "dawctrl" : "live";
 
         this.model.getCurrentTrackBank ().setIndication (true);
+
+        // Dispatch the volume and pan messages, which are sent with a high rate, without parsing
+        final String dawAddress = "/" + this.daw;
+        this.router.addRoute (dawAddress + "/volume", (numbers, values) -> this.parseTrackCommands ("volume", values));
+        this.router.addRoute (dawAddress + "/pan", (numbers, values) -> this.parseTrackCommands ("pan", values));
+        this.router.addRoute (dawAddress + "/track/volume", (numbers, values) -> this.parseTrackCommands ("volume", values));
+        this.router.addRoute (dawAddress + "/track/pan", (numbers, values) -> this.parseTrackCommands ("pan", values));
     }
 
 
@@ -68,12 +77,19 @@ public class KontrolOSCParser extends AbstractOpenSoundControlParser
     @Override
     public void handle (final IOpenSoundControlMessage message)
     {
-        final LinkedList<String> oscParts = parseAddress (message.getAddress ());
-        if (oscParts.isEmpty ())
+        final String address = message.getAddress ();
+        if (address == null || address.length () < 2)
             return;
 
         this.logMessage (message);
 
+        if (this.router.route (address, message.getValues ()))
+            return;
+
+        final LinkedList<String> oscParts = parseAddress (address);
+        if (oscParts.isEmpty ())
+            return;
+
         final String command = oscParts.removeFirst ();
         if ("script".equals (command))
             this.parseHostCommands (oscParts);
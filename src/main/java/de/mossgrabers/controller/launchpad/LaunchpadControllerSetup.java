@@ -77,7 +77,6 @@ import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.ModeManager;
-import de.mossgrabers.framework.utils.StringUtils;
 import de.mossgrabers.framework.view.SceneView;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
@@ -341,10 +340,10 @@ public class LaunchpadControllerSetup extends AbstractControllerSetup<LaunchpadC
 
         // Update the front LED with the color of the current track
         final ITrack track = index == -1 ? null : this.model.getCurrentTrackBank ().getTrack (index);
-        final int color = track != null && track.doesExist () ? this.colorManager.getColor (DAWColors.getColorIndex (track.getColor ())) : 0;
+        final int color = track != null && track.doesExist () ? this.colorManager.getColor (track.getColor ()) : 0;
         if (color != this.frontColor)
         {
-            surface.sendLaunchpadSysEx ("0A 63 " + StringUtils.toHexStr (color));
+            surface.sendLaunchpadSysEx (0x0A, 0x63, color);
             this.frontColor = color;
         }
     }
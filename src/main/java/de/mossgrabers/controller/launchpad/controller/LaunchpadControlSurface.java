@@ -10,7 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -161,17 +161,55 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public static final int     CONTROL_MODE_SOLO             = 4;
     public static final int     CONTROL_MODE_STOP_CLIP        = 5;
 
-    public static final String  LAUNCHPAD_PRO_SYSEX_HEADER    = "F0 00 20 29 02 10 ";
-    public static final String  LAUNCHPAD_PRO_PRG_MODE        = "2C 03";
-    public static final String  LAUNCHPAD_PRO_FADER_MODE      = "2C 02";
-    public static final String  LAUNCHPAD_PRO_PAN_MODE        = LAUNCHPAD_PRO_FADER_MODE;
+    public static final int []  LAUNCHPAD_PRO_SYSEX_HEADER    =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x10
+    };
+    public static final int []  LAUNCHPAD_PRO_PRG_MODE        =
+    {
+        0x2C,
+        0x03
+    };
+    public static final int []  LAUNCHPAD_PRO_FADER_MODE      =
+    {
+        0x2C,
+        0x02
+    };
+    public static final int []  LAUNCHPAD_PRO_PAN_MODE        = LAUNCHPAD_PRO_FADER_MODE;
+
+    public static final int []  LAUNCHPAD_MKII_SYSEX_HEADER   =
+    {
+        0x00,
+        0x20,
+        0x29,
+        0x02,
+        0x18
+    };
+    public static final int []  LAUNCHPAD_MKII_PRG_MODE       =
+    {
+        0x22,
+        0x00
+    };
+    public static final int []  LAUNCHPAD_MKII_FADER_MODE     =
+    {
+        0x22,
+        0x04
+    };
+    public static final int []  LAUNCHPAD_MKII_PAN_MODE       =
+    {
+        0x22,
+        0x05
+    };
 
-    public static final String  LAUNCHPAD_MKII_SYSEX_HEADER   = "F0 00 20 29 02 18 ";
-    public static final String  LAUNCHPAD_MKII_PRG_MODE       = "22 00";
-    public static final String  LAUNCHPAD_MKII_FADER_MODE     = "22 04";
-    public static final String  LAUNCHPAD_MKII_PAN_MODE       = "22 05";
+    // A command followed by the note and color of all 64 pads
+    private static final int    MAX_SYSEX_DATA_LENGTH         = 1 + 2 * 64;
 
     private boolean             isPro;
+    private final SysExBuilder  sysex;
 
 
     /**
@@ -189,6 +227,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
         super (host, configuration, colorManager, output, input, isPro ? LAUNCHPAD_PRO_BUTTONS_ALL : LAUNCHPAD_MKII_BUTTONS_ALL);
 
         this.isPro = isPro;
+        this.sysex = new SysExBuilder (MAX_SYSEX_DATA_LENGTH, isPro ? LAUNCHPAD_PRO_SYSEX_HEADER : LAUNCHPAD_MKII_SYSEX_HEADER);
 
         this.shiftButtonId = LAUNCHPAD_BUTTON_SHIFT;
         this.deleteButtonId = LAUNCHPAD_BUTTON_DELETE;
@@ -221,7 +260,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setLaunchpadToStandalone ()
     {
-        this.sendLaunchpadSysEx ("21 01");
+        this.sendLaunchpadSysEx (0x21, 0x01);
     }
 
 
@@ -266,7 +305,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setupFader (final int number, final int color)
     {
-        this.sendLaunchpadSysEx ("2B 0" + Integer.toString (number) + " 00 " + StringUtils.toHexStr (color) + " 00");
+        this.sendLaunchpadSysEx (0x2B, number, 0x00, color, 0x00);
     }
 
 
@@ -278,7 +317,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      */
     public void setupPanFader (final int number, final int color)
     {
-        this.sendLaunchpadSysEx ("2B 0" + Integer.toString (number) + " 01 " + StringUtils.toHexStr (color) + " 00");
+        this.sendLaunchpadSysEx (0x2B, number, 0x01, color, 0x00);
     }
 
 
@@ -287,7 +326,7 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
     public void shutdown ()
     {
         // Turn off front LED
-        this.sendLaunchpadSysEx ("0A 63 00");
+        this.sendLaunchpadSysEx (0x0A, 0x63, 0x00);
 
         this.pads.turnOff ();
 
@@ -316,9 +355,27 @@ public class LaunchpadControlSurface extends AbstractControlSurface<LaunchpadCon
      *
      * @param data The data without the header and closing byte
      */
-    public void sendLaunchpadSysEx (final String data)
+    public void sendLaunchpadSysEx (final int... data)
+    {
+        this.sysex.start ().add (data).send (this.output);
+    }
+
+
+    /**
+     * Send a sysex command which is followed by pairs of LED and color, e.g. to set the colors of
+     * several pads with one message.
+     *
+     * @param command The command
+     * @param leds The LEDs
+     * @param colors The colors of the LEDs
+     * @param count The number of LEDs to send
+     */
+    public void sendLaunchpadSysEx (final int command, final int [] leds, final int [] colors, final int count)
     {
-        this.output.sendSysex ((this.isPro ? LAUNCHPAD_PRO_SYSEX_HEADER : LAUNCHPAD_MKII_SYSEX_HEADER) + data + " F7");
+        this.sysex.start ().add (command);
+        for (int i = 0; i < count; i++)
+            this.sysex.add (leds[i]).add (colors[i]);
+        this.sysex.send (this.output);
     }
 
 
@@ -5,11 +5,8 @@
 package de.mossgrabers.controller.launchpad.controller;
 
 import de.mossgrabers.framework.controller.color.ColorManager;
+import de.mossgrabers.framework.controller.grid.NoteTranslation;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
-import de.mossgrabers.framework.utils.StringUtils;
-
-import java.util.HashMap;
-import java.util.Map;
 
 
 /**
@@ -19,7 +16,7 @@ import java.util.Map;
  */
 public class LaunchpadPadGrid extends PadGridImpl
 {
-    static final int []                        TRANSLATE_MATRIX         =
+    static final int []                   TRANSLATE_MATRIX =
     {
         11,
         12,
@@ -87,13 +84,11 @@ public class LaunchpadPadGrid extends PadGridImpl
         88
     };
 
-    private static final Map<Integer, Integer> INVERSE_TRANSLATE_MATRIX = new HashMap<> (64);
+    /** Translates the note range 36-100 to the launchpad grid (11-18, 21-28, ...) and back. */
+    static final NoteTranslation          TRANSLATION      = new NoteTranslation (36, TRANSLATE_MATRIX);
 
-    static
-    {
-        for (int i = 0; i < TRANSLATE_MATRIX.length; i++)
-            INVERSE_TRANSLATE_MATRIX.put (Integer.valueOf (TRANSLATE_MATRIX[i]), Integer.valueOf (36 + i));
-    }
+    // Below that a note message per pad is shorter than one sysex message
+    private static final int              MIN_BATCH_PADS   = 8;
 
     private final LaunchpadControlSurface surface;
 
@@ -106,37 +101,35 @@ public class LaunchpadPadGrid extends PadGridImpl
      */
     public LaunchpadPadGrid (final ColorManager colorManager, final LaunchpadControlSurface surface)
     {
-        super (colorManager, surface.getOutput ());
+        super (colorManager, surface.getOutput (), TRANSLATION);
         this.surface = surface;
+
+        this.enableBatchFlush (MIN_BATCH_PADS);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
     {
-        this.surface.sendLaunchpadSysEx ("23 " + StringUtils.toHexStr (note) + " " + StringUtils.toHexStr (blinkColor));
+        // Set LEDs
+        this.surface.sendLaunchpadSysEx (0x0A, notes, colors, count);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public int translateToGrid (final int note)
+    protected void sendBlinkState (final int note, final int blinkColor, final boolean fast)
     {
-        final Integer value = INVERSE_TRANSLATE_MATRIX.get (Integer.valueOf (note));
-        return value == null ? -1 : value.intValue ();
+        this.surface.sendLaunchpadSysEx (0x23, note, blinkColor);
     }
 
 
-    /**
-     * Translates note range 36-100 to launchpad grid (11-18, 21-28, ...)
-     *
-     * @param note The note to translate
-     * @return The translated note
-     */
+    /** {@inheritDoc} */
     @Override
-    public int translateToController (final int note)
+    protected void sendBlinkStates (final int [] notes, final int [] blinkColors, final boolean [] fast, final int count)
     {
-        return TRANSLATE_MATRIX[note - 36];
+        // Flash LEDs, there is no fast flashing
+        this.surface.sendLaunchpadSysEx (0x23, notes, blinkColors, count);
     }
 }
\ No newline at end of file
@@ -34,9 +34,6 @@ public class LaunchpadScales extends Scales
     @Override
     public int [] translateMatrixToGrid (final int [] matrix)
     {
-        final int [] gridMatrix = Scales.getEmptyMatrix ();
-        for (int i = 36; i < 100; i++)
-            gridMatrix[LaunchpadPadGrid.TRANSLATE_MATRIX[i - 36]] = matrix[i];
-        return gridMatrix;
+        return LaunchpadPadGrid.TRANSLATION.translateMatrix (matrix);
     }
 }
\ No newline at end of file
@@ -6,7 +6,6 @@ package de.mossgrabers.controller.launchpad.view;
 
 import de.mossgrabers.controller.launchpad.controller.LaunchpadColors;
 import de.mossgrabers.controller.launchpad.controller.LaunchpadControlSurface;
-import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -109,7 +108,7 @@ public abstract class AbstractFaderView extends SessionView
     public void setupFader (final int index)
     {
         final ITrack track = this.model.getCurrentTrackBank ().getTrack (index);
-        final int color = this.model.getColorManager ().getColor (DAWColors.getColorIndex (track.getColor ()));
+        final int color = this.model.getColorManager ().getColor (track.getColor ());
         this.surface.setupFader (index, color);
     }
 }
\ No newline at end of file
@@ -68,6 +68,7 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.ISetupFactory;
 import de.mossgrabers.framework.controller.Relative2ValueChanger;
+import de.mossgrabers.framework.controller.VuMeterEngine;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IChannelBank;
@@ -76,18 +77,22 @@ import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
 import de.mossgrabers.framework.daw.data.IMasterTrack;
+import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.framework.utils.NumberFormatter;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.LongSupplier;
 
 
 /**
@@ -102,6 +107,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     /** State for button LED off. */
     public static final int                   MCU_BUTTON_STATE_OFF      = 0;
 
+    /** The number of VU meter frames per second sent to the device. */
+    public static final int                   VU_FRAMES_PER_SECOND      = 25;
+    /** The maximum value of the LED VU meters. */
+    private static final int                  VU_MAX_VALUE              = 12;
+
     private static final Integer              COMMAND_NOTE_EDITOR       = Integer.valueOf (150);
     private static final Integer              COMMAND_AUTOMATION_EDITOR = Integer.valueOf (151);
     private static final Integer              COMMAND_TOGGLE_DEVICE     = Integer.valueOf (152);
@@ -147,11 +157,11 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         MODE_ACRONYMS.put (Modes.MODE_BROWSER, "BR");
     }
 
-    private final int [] masterVuValues   = new int [2];
-    private int          masterFaderValue = -1;
-    private final int [] vuValues         = new int [36];
-    private final int [] faderValues      = new int [36];
-    private final int    numMCUDevices;
+    private int           masterFaderValue = -1;
+    private final int []  faderValues      = new int [36];
+    private final char [] positionBuffer   = new char [64];
+    private final int     numMCUDevices;
+    private VuMeterEngine vuMeters;
 
 
     /**
@@ -168,9 +178,7 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
 
         this.numMCUDevices = numMCUDevices;
 
-        Arrays.fill (this.vuValues, -1);
         Arrays.fill (this.faderValues, -1);
-        Arrays.fill (this.masterVuValues, -1);
 
         this.colorManager = new ColorManager ();
         this.valueChanger = new Relative2ValueChanger (16241 + 1, 100, 10);
@@ -226,6 +234,9 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.setSegmentDisplay (new MCUSegmentDisplay (output));
             surface.getModeManager ().setDefaultMode (Modes.MODE_VOLUME);
         }
+
+        // 8 meters for each device and the stereo meter of the master channel
+        this.vuMeters = new VuMeterEngine (this.model.getHost (), 8 * this.numMCUDevices + 2, VU_MAX_VALUE, VU_FRAMES_PER_SECOND, this::getVuMeterValue, this::sendVuMeter);
     }
 
 
@@ -464,6 +475,88 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void bindButtons ()
+    {
+        final MCUControlSurface surface = this.getSurface ();
+        final ModeManager modeManager = surface.getModeManager ();
+        final ITransport t = this.model.getTransport ();
+        final ICursorDevice cursorDevice = this.model.getCursorDevice ();
+        final IParameter grooveEnabled = this.model.getGroove ().getParameters ()[0];
+
+        final LongSupplier transport = t::getVersion;
+        final LongSupplier mode = createModeDependency (modeManager);
+        final LongSupplier shift = () -> surface.isShiftPressed () ? 1 : 0;
+        final LongSupplier flipRecord = () -> this.configuration.isFlipRecord () ? 1 : 0;
+        final LongSupplier displayTicks = () -> this.configuration.isDisplayTicks () ? 1 : 0;
+
+        this.bindOnOff (MCUControlSurface.MCU_MODE_PAN, () -> modeManager.isActiveMode (Modes.MODE_PAN), mode);
+        this.bindOnOff (MCUControlSurface.MCU_MODE_SENDS, () -> {
+            final Integer modeId = modeManager.getActiveModeId ();
+            return modeId != null && modeId.intValue () >= Modes.MODE_SEND1.intValue () && modeId.intValue () <= Modes.MODE_SEND8.intValue ();
+        }, mode);
+        this.bindOnOff (MCUControlSurface.MCU_USER, () -> modeManager.isActiveMode (Modes.MODE_BROWSER), mode);
+        this.bindOnOff (MCUControlSurface.MCU_SCRUB, () -> modeManager.isActiveMode (Modes.MODE_DEVICE_PARAMS), mode);
+
+        this.bindOnOff (MCUControlSurface.MCU_F6, t::isPunchInEnabled, transport);
+        this.bindOnOff (MCUControlSurface.MCU_F7, t::isPunchOutEnabled, transport);
+
+        this.bindOnOff (MCUControlSurface.MCU_READ, () -> !t.isWritingArrangerAutomation (), transport);
+        this.bindOnOff (MCUControlSurface.MCU_WRITE, () -> isWritingArrangerAutomation (t, 2), transport);
+        this.bindOnOff (MCUControlSurface.MCU_GROUP, () -> isWritingArrangerAutomation (t, 2), transport);
+        this.bindOnOff (MCUControlSurface.MCU_TRIM, t::isWritingClipLauncherAutomation, transport);
+        this.bindOnOff (MCUControlSurface.MCU_TOUCH, () -> isWritingArrangerAutomation (t, 1), transport);
+        this.bindOnOff (MCUControlSurface.MCU_LATCH, () -> isWritingArrangerAutomation (t, 0), transport);
+
+        this.bindOnOff (MCUControlSurface.MCU_REPEAT, t::isLoop, transport);
+        this.bindOnOff (MCUControlSurface.MCU_STOP, () -> !t.isPlaying (), transport);
+        this.bindOnOff (MCUControlSurface.MCU_PLAY, t::isPlaying, transport);
+        this.bindOnOff (MCUControlSurface.MCU_RECORD, () -> {
+            final boolean isShift = surface.isShiftPressed ();
+            final boolean isFlipRecord = this.configuration.isFlipRecord ();
+            final boolean isRecordShifted = isShift && !isFlipRecord || !isShift && isFlipRecord;
+            return isRecordShifted ? t.isLauncherOverdub () : t.isRecording ();
+        }, transport, shift, flipRecord);
+
+        this.bindOnOff (MCUControlSurface.MCU_NAME_VALUE, this.configuration::isDisplayTrackNames, () -> this.configuration.isDisplayTrackNames () ? 1 : 0);
+        this.bindOnOff (MCUControlSurface.MCU_ZOOM, this.configuration::isZoomState, () -> this.configuration.isZoomState () ? 1 : 0);
+
+        this.bindOnOff (MCUControlSurface.MCU_MIDI_TRACKS, () -> false);
+        this.bindOnOff (MCUControlSurface.MCU_INPUTS, () -> false);
+        this.bindOnOff (MCUControlSurface.MCU_AUDIO_TRACKS, () -> surface.isShiftPressed () && cursorDevice.isWindowOpen (), shift, cursorDevice::getVersion);
+        this.bindOnOff (MCUControlSurface.MCU_AUDIO_INSTR, () -> false);
+
+        this.bindOnOff (MCUControlSurface.MCU_CLICK, () -> surface.isShiftPressed () ? t.isMetronomeTicksOn () : t.isMetronomeOn (), transport, shift);
+        this.bindOnOff (MCUControlSurface.MCU_SOLO, () -> grooveEnabled.getValue () > 0, grooveEnabled::getVersion);
+        this.bindOnOff (MCUControlSurface.MCU_REPLACE, () -> surface.isShiftPressed () ? t.isLauncherOverdub () : t.isArrangerOverdub (), transport, shift);
+        this.bindOnOff (MCUControlSurface.MCU_FLIP, this.model::isEffectTrackBankActive, () -> this.model.isEffectTrackBankActive () ? 1 : 0);
+
+        this.bindOnOff (MCUControlSurface.MCU_SMPTE_BEATS, () -> !this.configuration.isDisplayTicks (), displayTicks);
+        this.bindOnOff (MCUControlSurface.MCU_SMPTE_LED, this.configuration::isDisplayTicks, displayTicks);
+        this.bindOnOff (MCUControlSurface.MCU_BEATS_LED, () -> !this.configuration.isDisplayTicks (), displayTicks);
+    }
+
+
+    /**
+     * Bind the LED of a button of the first surface, which is either on or off.
+     *
+     * @param button The button
+     * @param isOn Supplies if the LED is on
+     * @param dependencies The values on which the state depends
+     */
+    private void bindOnOff (final int button, final BooleanSupplier isOn, final LongSupplier... dependencies)
+    {
+        this.buttonBindings.bind (this.getSurface (), button, () -> isOn.getAsBoolean () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF, dependencies);
+    }
+
+
+    private static boolean isWritingArrangerAutomation (final ITransport transport, final int automationMode)
+    {
+        return transport.isWritingArrangerAutomation () && ITransport.AUTOMATION_MODES_VALUES[automationMode].equals (transport.getAutomationWriteMode ());
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -476,6 +569,17 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
             surface.getViewManager ().setActiveView (Views.VIEW_CONTROL);
             surface.getModeManager ().setActiveMode (Modes.MODE_PAN);
         }
+
+        this.vuMeters.start ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.vuMeters.stop ();
+        super.exit ();
     }
 
 
@@ -487,73 +591,23 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         if (mode == null)
             return;
 
-        this.updateVUandFaders ();
+        this.updateFaders ();
         this.updateSegmentDisplay ();
 
-        // Set button states
-        final ITransport t = this.model.getTransport ();
-        final boolean isShift = surface.isShiftPressed ();
-        final boolean isFlipRecord = this.configuration.isFlipRecord ();
-        final boolean isRecordShifted = isShift && !isFlipRecord || !isShift && isFlipRecord;
-
+        // Set the button states which are not covered by the button bindings
         final boolean isTrackOn = Modes.MODE_TRACK.equals (mode) || Modes.MODE_VOLUME.equals (mode);
-        final boolean isPanOn = Modes.MODE_PAN.equals (mode);
-        final boolean isSendOn = mode.intValue () >= Modes.MODE_SEND1.intValue () && mode.intValue () <= Modes.MODE_SEND8.intValue ();
         final boolean isDeviceOn = Modes.MODE_DEVICE_PARAMS.equals (mode);
 
         final boolean isLEDOn = surface.isPressed (MCUControlSurface.MCU_OPTION) ? this.model.isCursorTrackPinned () : isTrackOn;
         surface.updateButton (MCUControlSurface.MCU_MODE_IO, isLEDOn ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_MODE_PAN, isPanOn ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_MODE_SENDS, isSendOn ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
 
         final ICursorDevice cursorDevice = this.model.getCursorDevice ();
         final boolean isOn = surface.isPressed (MCUControlSurface.MCU_OPTION) ? cursorDevice.isPinned () : isDeviceOn;
-
         surface.updateButton (MCUControlSurface.MCU_MODE_PLUGIN, isOn ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_USER, Modes.MODE_BROWSER.equals (mode) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-
-        final ITransport transport = this.model.getTransport ();
-        final String automationWriteMode = transport.getAutomationWriteMode ();
-        final boolean writingArrangerAutomation = transport.isWritingArrangerAutomation ();
-
-        surface.updateButton (MCUControlSurface.MCU_F6, transport.isPunchInEnabled () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_F7, transport.isPunchOutEnabled () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-
-        surface.updateButton (MCUControlSurface.MCU_READ, !writingArrangerAutomation ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        final int writeState = writingArrangerAutomation && ITransport.AUTOMATION_MODES_VALUES[2].equals (automationWriteMode) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF;
-        surface.updateButton (MCUControlSurface.MCU_WRITE, writeState);
-        surface.updateButton (MCUControlSurface.MCU_GROUP, writeState);
-        surface.updateButton (MCUControlSurface.MCU_TRIM, transport.isWritingClipLauncherAutomation () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_TOUCH, writingArrangerAutomation && ITransport.AUTOMATION_MODES_VALUES[1].equals (automationWriteMode) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_LATCH, writingArrangerAutomation && ITransport.AUTOMATION_MODES_VALUES[0].equals (automationWriteMode) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
 
         final View view = surface.getViewManager ().getView (Views.VIEW_CONTROL);
         surface.updateButton (MCUControlSurface.MCU_REWIND, ((WindCommand<MCUControlSurface, MCUConfiguration>) view.getTriggerCommand (Commands.COMMAND_REWIND)).isRewinding () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
         surface.updateButton (MCUControlSurface.MCU_FORWARD, ((WindCommand<MCUControlSurface, MCUConfiguration>) view.getTriggerCommand (Commands.COMMAND_FORWARD)).isForwarding () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_REPEAT, t.isLoop () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_STOP, !t.isPlaying () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_PLAY, t.isPlaying () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_RECORD, isRecordShifted ? t.isLauncherOverdub () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF : t.isRecording () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-
-        surface.updateButton (MCUControlSurface.MCU_NAME_VALUE, surface.getConfiguration ().isDisplayTrackNames () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_ZOOM, surface.getConfiguration ().isZoomState () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_SCRUB, surface.getModeManager ().isActiveMode (Modes.MODE_DEVICE_PARAMS) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-
-        surface.updateButton (MCUControlSurface.MCU_MIDI_TRACKS, MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_INPUTS, MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_AUDIO_TRACKS, surface.isShiftPressed () && cursorDevice.isWindowOpen () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_AUDIO_INSTR, MCU_BUTTON_STATE_OFF);
-
-        surface.updateButton (MCUControlSurface.MCU_CLICK, (isShift ? t.isMetronomeTicksOn () : t.isMetronomeOn ()) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_SOLO, this.model.getGroove ().getParameters ()[0].getValue () > 0 ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_REPLACE, (isShift ? t.isLauncherOverdub () : t.isArrangerOverdub ()) ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_FLIP, this.model.isEffectTrackBankActive () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-
-        final boolean displayTicks = this.configuration.isDisplayTicks ();
-        surface.updateButton (MCUControlSurface.MCU_SMPTE_BEATS, displayTicks ? MCU_BUTTON_STATE_OFF : MCU_BUTTON_STATE_ON);
-        surface.updateButton (MCUControlSurface.MCU_SMPTE_LED, displayTicks ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
-        surface.updateButton (MCUControlSurface.MCU_BEATS_LED, displayTicks ? MCU_BUTTON_STATE_OFF : MCU_BUTTON_STATE_ON);
-
         surface.updateButton (MCUControlSurface.MCU_MARKER, this.model.getArranger ().areCueMarkersVisible () ? MCU_BUTTON_STATE_ON : MCU_BUTTON_STATE_OFF);
     }
 
@@ -563,94 +617,100 @@ public class MCUControllerSetup extends AbstractControllerSetup<MCUControlSurfac
         if (!this.configuration.hasSegmentDisplay ())
             return;
 
+        // The position text is formatted by the DAW, the tempo replaces the ticks in the same buffer
         final ITransport t = this.model.getTransport ();
-        String positionText = t.getPositionText ();
+        final String positionText = t.getPositionText ();
+        int length = Math.min (positionText.length (), this.positionBuffer.length - 16);
+        positionText.getChars (0, length, this.positionBuffer, 0);
         if (this.configuration.isDisplayTicks ())
-            positionText += " ";
+            this.positionBuffer[length++] = ' ';
         else
         {
-            String tempoStr = t.formatTempoNoFraction (t.getTempo ());
-            final int pos = positionText.lastIndexOf (':');
-            if (tempoStr.length () < 3)
-                tempoStr = "0" + tempoStr;
-            positionText = positionText.substring (0, pos + 1) + tempoStr;
+            int pos = length - 1;
+            while (pos >= 0 && this.positionBuffer[pos] != ':')
+                pos--;
+            length = NumberFormatter.formatTempoNoFraction (t.getTempo (), 3, this.positionBuffer, pos + 1);
         }
 
-        this.getSurface ().getSegmentDisplay ().setTransportPositionDisplay (positionText);
+        this.getSurface ().getSegmentDisplay ().setTransportPositionDisplay (this.positionBuffer, length);
     }
 
 
-    private void updateVUandFaders ()
+    private void updateFaders ()
     {
-        final double upperBound = this.valueChanger.getUpperBound ();
-        final boolean enableVUMeters = this.configuration.isEnableVUMeters ();
-        final boolean hasMotorFaders = this.configuration.hasMotorFaders ();
+        if (!this.configuration.hasMotorFaders ())
+            return;
 
         final IChannelBank tb = this.model.getCurrentTrackBank ();
-        IMidiOutput output;
         for (int index = 0; index < this.numMCUDevices; index++)
         {
             final MCUControlSurface surface = this.getSurface (index);
-            output = surface.getOutput ();
+            final IMidiOutput output = surface.getOutput ();
             final int extenderOffset = surface.getExtenderOffset ();
             for (int i = 0; i < 8; i++)
             {
                 final int channel = extenderOffset + i;
-                final ITrack track = tb.getTrack (channel);
-
-                // Update VU LEDs of channel
-                if (enableVUMeters)
-                {
-                    final int vu = track.getVu ();
-                    if (vu != this.vuValues[channel])
-                    {
-                        this.vuValues[channel] = vu;
-                        final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                        output.sendChannelAftertouch (0x10 * i + scaledValue, 0);
-                    }
-                }
-
-                // Update motor fader of channel
-                if (hasMotorFaders)
-                    this.updateFaders (output, i, channel, track);
+                this.updateFaders (output, i, channel, tb.getTrack (channel));
             }
         }
 
-        final IMasterTrack masterTrack = this.model.getMasterTrack ();
-
+        // Update motor fader of master channel
         final MCUControlSurface surface = this.getSurface ();
-        output = surface.getOutput ();
-
-        // Stereo VU of master channel
-        if (enableVUMeters)
+        final int volume = surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : this.model.getMasterTrack ().getVolume ();
+        if (volume != this.masterFaderValue)
         {
-            int vu = masterTrack.getVuLeft ();
-            if (vu != this.masterVuValues[0])
-            {
-                this.masterVuValues[0] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, scaledValue, 0);
-            }
+            this.masterFaderValue = volume;
+            surface.getOutput ().sendPitchbend (8, volume % 127, volume / 127);
+        }
+    }
 
-            vu = masterTrack.getVuRight ();
-            if (vu != this.masterVuValues[1])
-            {
-                this.masterVuValues[1] = vu;
-                final int scaledValue = (int) Math.round (vu * 12 / upperBound);
-                output.sendChannelAftertouch (1, 0x10 + scaledValue, 0);
-            }
+
+    /**
+     * Get the current value of a VU meter scaled to the LED meters. The meters 0 to 8 * number of
+     * devices - 1 are the channels, the last two ones the stereo meter of the master channel.
+     *
+     * @param index The index of the meter
+     * @return The value in the range of 0-12
+     */
+    private int getVuMeterValue (final int index)
+    {
+        if (!this.configuration.isEnableVUMeters ())
+            return 0;
+
+        final int numChannels = 8 * this.numMCUDevices;
+        final int vu;
+        if (index < numChannels)
+            vu = this.model.getCurrentTrackBank ().getTrack (index).getVu ();
+        else
+        {
+            final IMasterTrack masterTrack = this.model.getMasterTrack ();
+            vu = index == numChannels ? masterTrack.getVuLeft () : masterTrack.getVuRight ();
         }
+        return (int) Math.round (vu * VU_MAX_VALUE / (double) this.valueChanger.getUpperBound ());
+    }
 
-        // Update motor fader of master channel
-        if (hasMotorFaders)
+
+    /**
+     * Send a VU meter to the device. The LED meters have their own peak hold.
+     *
+     * @param index The index of the meter
+     * @param level The level in the range of 0-12
+     * @param peak The peak level, not used
+     */
+    private void sendVuMeter (final int index, final int level, final int peak)
+    {
+        final int numChannels = 8 * this.numMCUDevices;
+        if (index < numChannels)
         {
-            final int volume = surface.isShiftPressed () ? this.model.getTransport ().getMetronomeVolume () : masterTrack.getVolume ();
-            if (volume != this.masterFaderValue)
-            {
-                this.masterFaderValue = volume;
-                output.sendPitchbend (8, volume % 127, volume / 127);
-            }
+            // Extenders are on the left of the main device, see createSurface
+            final MCUControlSurface surface = this.getSurface (this.numMCUDevices - 1 - index / 8);
+            surface.getOutput ().sendChannelAftertouch (0x10 * (index % 8) + level, 0);
+            return;
         }
+
+        // Stereo VU of master channel
+        final int side = index == numChannels ? 0 : 0x10;
+        this.getSurface ().getOutput ().sendChannelAftertouch (1, side + level, 0);
     }
 
 
@@ -10,6 +10,7 @@ import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.Arrays;
 import java.util.List;
@@ -174,8 +175,6 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
         0x14
     };
 
-    public static final String      SYSEX_HDR             = "F0 00 00 66 14 ";
-
     public static final int         MCU_SYSEX_CMD_DISPLAY = 0x12;
 
     private static final int []     MCU_BUTTONS_ALL       =
@@ -318,6 +317,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     private final int               extenderOffset;
     private boolean                 isMainDevice;
     private List<MCUControlSurface> surfaces;
+    private final SysExBuilder      sysex                    = new SysExBuilder (3, 0x00, 0x00, 0x66, 0x14);
 
 
     /**
@@ -502,7 +502,7 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
     public void switchVuMode (final int mode)
     {
         // Always horizontal
-        this.output.sendSysex (new StringBuilder (SYSEX_HDR).append ("21 00 F7").toString ());
+        this.sysex.start ().add (0x21, 0x00).send (this.output);
 
         if (this.activeVuMode != mode)
         {
@@ -521,28 +521,28 @@ public class MCUControlSurface extends AbstractControlSurface<MCUConfiguration>
                 {
                     // resets the leds (and vu-meters on the display?)
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 01 F7");
+                    this.sysex.start ().add (0x20, i, 0x01).send (out);
                 }
                 break;
             case VUMODE_LED_AND_LCD:
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 03 F7");
+                    this.sysex.start ().add (0x20, i, 0x03).send (out);
                 }
                 break;
             case VUMODE_LCD:
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 06 F7");
+                    this.sysex.start ().add (0x20, i, 0x06).send (out);
                 }
                 break;
             case VUMODE_OFF:
                 for (int i = 0; i < 8; i++)
                 {
                     out.sendChannelAftertouch (0 + (i << 4), 0);
-                    out.sendSysex (SYSEX_HDR + "20 0" + i + " 00 F7");
+                    this.sysex.start ().add (0x20, i, 0x00).send (out);
                 }
                 break;
         }
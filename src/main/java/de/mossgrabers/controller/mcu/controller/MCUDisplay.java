@@ -9,8 +9,8 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.LatestTaskExecutor;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
+import de.mossgrabers.framework.utils.DisplayExecutor;
 
 
 /**
@@ -20,28 +20,16 @@ import de.mossgrabers.framework.utils.StringUtils;
  */
 public class MCUDisplay extends AbstractDisplay
 {
-    private static final String         SYSEX_DISPLAY_HEADER1 = "F0 00 00 66 14 12 ";
-    private static final String         SYSEX_DISPLAY_HEADER2 = "F0 00 00 67 15 13 ";
+    private static final int   MAX_FRAME_RATE = 10;
 
-    private static final String []      SPACES                =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
-
-    private boolean                     isFirst;
-    private int                         charactersOfCell;
-    private boolean                     hasMaster;
+    private boolean            isFirst;
+    private int                charactersOfCell;
+    private boolean            hasMaster;
 
-    private final LatestTaskExecutor [] executors             = new LatestTaskExecutor [4];
+    private DisplayExecutor    executor;
+    private final Object []    rowKeys        = new Object [2];
+    // Only used from the display thread
+    private final SysExBuilder sysex;
 
 
     /**
@@ -60,9 +48,19 @@ public class MCUDisplay extends AbstractDisplay
         this.isFirst = isFirst;
         this.hasMaster = hasMaster;
         this.charactersOfCell = this.noOfCharacters / this.noOfCells;
+        this.setMaxFrameRate (MAX_FRAME_RATE);
+
+        // Header: F0 00 00 66 14 12 for the main display, F0 00 00 67 15 13 for the second one.
+        // Offset, up to 2 spaces and the characters follow.
+        if (isFirst)
+            this.sysex = new SysExBuilder (3 + this.noOfCharacters, 0x00, 0x00, 0x66, 0x14, 0x12);
+        else
+            this.sysex = new SysExBuilder (3 + this.noOfCharacters, 0x00, 0x00, 0x67, 0x15, 0x13);
 
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = new LatestTaskExecutor ();
+        this.executor = DisplayExecutor.acquire ();
+        // Keys for the latest-wins queue, unique for each row of each display of all surfaces
+        for (int i = 0; i < this.rowKeys.length; i++)
+            this.rowKeys[i] = new Object ();
     }
 
 
@@ -80,7 +78,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public MCUDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ".substring (0, this.charactersOfCell);
+        this.writeCells (row, cell, 1, null, 0);
         return this;
     }
 
@@ -89,17 +87,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () >= this.charactersOfCell)
-        {
-            this.cells[row * this.noOfCells + cell] = pad (value.substring (0, this.charactersOfCell), this.charactersOfCell);
-            this.cells[row * this.noOfCells + cell + 1] = pad (value.substring (this.charactersOfCell), this.charactersOfCell);
-        }
-        else
-        {
-            this.setCell (row, cell, value);
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCells (row, 2 * block, 2, value, 2 * this.charactersOfCell);
         return this;
     }
 
@@ -108,7 +96,7 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), this.charactersOfCell - 1) + " ";
+        this.writeCells (row, column, 1, Integer.toString (value), this.charactersOfCell - 1);
         return this;
     }
 
@@ -119,7 +107,7 @@ public class MCUDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, this.charactersOfCell - 1) + " ";
+            this.writeCells (row, column, 1, value, this.charactersOfCell - 1);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -133,9 +121,9 @@ public class MCUDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final LatestTaskExecutor executor = this.executors[row + (this.isFirst ? 0 : 2)];
-        if (executor != null)
-            executor.execute ( () -> sendDisplayLine (row, text));
+        final DisplayExecutor exec = this.executor;
+        if (exec != null)
+            exec.execute (this.rowKeys[row], () -> this.sendDisplayLine (row, text));
     }
 
 
@@ -147,27 +135,19 @@ public class MCUDisplay extends AbstractDisplay
      */
     private void sendDisplayLine (final int row, final String text)
     {
-        String t = text;
-        if (!this.isFirst && this.hasMaster)
+        final int length = Math.min (text.length (), this.noOfCharacters);
+        this.sysex.start ().add (row == 0 ? 0x00 : 0x38);
+        if (this.isFirst || !this.hasMaster)
+            this.sysex.addASCII (text, 0, length);
+        else
         {
+            this.sysex.add (' ').add (' ');
             if (row == 0)
-                t = t.substring (0, t.length () - 1) + 'r';
-            t = "  " + t;
+                this.sysex.addASCII (text, 0, length - 1).add ('r');
+            else
+                this.sysex.addASCII (text, 0, length);
         }
-        final int length = t.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = t.charAt (i);
-        final StringBuilder code = new StringBuilder ();
-        if (this.isFirst)
-            code.append (SYSEX_DISPLAY_HEADER1);
-        else
-            code.append (SYSEX_DISPLAY_HEADER2);
-        if (row == 0)
-            code.append ("00 ");
-        else
-            code.append ("38 ");
-        this.output.sendSysex (code.append (StringUtils.toHexStr (array)).append ("F7").toString ());
+        this.sysex.send (this.output);
     }
 
 
@@ -177,20 +157,8 @@ public class MCUDisplay extends AbstractDisplay
     {
         this.notify ("Please start " + this.host.getName () + "...", true, false);
 
-        // Prevent further sends
-        for (int i = 0; i < 4; i++)
-            this.executors[i] = null;
-    }
-
-
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
+        // Prevent further sends, the notification is still sent before the thread stops
+        this.executor = null;
+        DisplayExecutor.release ();
     }
 }
\ No newline at end of file
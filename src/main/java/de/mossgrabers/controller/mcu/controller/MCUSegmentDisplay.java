@@ -31,21 +31,22 @@ public class MCUSegmentDisplay
 
 
     /**
-     * Sets the position string. Must only contain numbers and ':'.
+     * Sets the position text. Must only contain numbers and ':'.
      *
-     * @param position The string
+     * @param position The buffer which contains the text
+     * @param length The length of the text in the buffer
      */
-    public void setTransportPositionDisplay (final String position)
+    public void setTransportPositionDisplay (final char [] position, final int length)
     {
         boolean addDot = false;
-        int pos = position.length () - 1;
+        int pos = length - 1;
         int i = 0;
         while (i < 10)
         {
             int c = 0x20;
             if (pos >= 0)
             {
-                final char singleDigit = position.charAt (pos);
+                final char singleDigit = position[pos];
                 pos--;
                 final boolean isDot = singleDigit == ':';
                 if (isDot)
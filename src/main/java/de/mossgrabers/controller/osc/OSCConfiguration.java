@@ -69,6 +69,8 @@ public class OSCConfiguration extends AbstractOpenSoundControlConfiguration
         });
         sendPortSetting.setEnabled (false);
 
+        this.activateMaxPacketSizeSetting (settingsUI, "Send to");
+
         ///////////////////////////
         // Accent
 
@@ -100,5 +100,16 @@ public class OSCControllerSetup extends AbstractControllerSetup<IControlSurface<
     {
         // Initial flush of the whole DAW state
         this.host.scheduleTask ( () -> this.writer.flush (true), 1000);
+
+        this.writer.getVuMeters ().start ();
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void exit ()
+    {
+        this.writer.getVuMeters ().stop ();
+        super.exit ();
     }
 }
@@ -25,6 +25,7 @@ import de.mossgrabers.framework.osc.AbstractOpenSoundControlParser;
 import de.mossgrabers.framework.osc.IOpenSoundControlConfiguration;
 import de.mossgrabers.framework.osc.IOpenSoundControlMessage;
 import de.mossgrabers.framework.osc.IOpenSoundControlWriter;
+import de.mossgrabers.framework.osc.OpenSoundControlRouter;
 
 import java.util.Collections;
 import java.util.LinkedList;
@@ -39,15 +40,16 @@ import java.util.regex.Pattern;
  */
 public class OSCParser extends AbstractOpenSoundControlParser
 {
-    private static final String  PART_INDICATE     = "indicate";
-    private static final String  PART_VOLUME       = "volume";
-    private static final String  PART_RESET        = "reset";
-    private static final String  PART_TOUCH        = "touched";
+    private static final String          PART_INDICATE     = "indicate";
+    private static final String          PART_VOLUME       = "volume";
+    private static final String          PART_RESET        = "reset";
+    private static final String          PART_TOUCH        = "touched";
 
-    private static final Pattern RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
+    private static final Pattern         RGB_COLOR_PATTERN = Pattern.compile ("(rgb|RGB)\\((\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?),(\\d+(\\.\\d+)?)\\)");
 
-    private final Display        display;
-    private final KeyManager     keyManager;
+    private final Display                display;
+    private final KeyManager             keyManager;
+    private final OpenSoundControlRouter router            = new OpenSoundControlRouter (128);
 
 
     /**
@@ -69,6 +71,47 @@ public class OSCParser extends AbstractOpenSoundControlParser
 
         this.model.getCurrentTrackBank ().setIndication (true);
         this.keyManager.updateNoteMapping ();
+
+        this.registerRoutes ();
+    }
+
+
+    /**
+     * Register the routes of the messages which are sent with a high rate (e.g. from faders).
+     * These messages are dispatched without parsing the address. All other messages are parsed by
+     * the generic handling.
+     */
+    private void registerRoutes ()
+    {
+        this.router.addRoute ("/track/#/volume", (numbers, values) -> {
+            final ITrack track = this.getTrack (numbers[0]);
+            if (track != null)
+                track.setVolume (toDoubleValue (values));
+        });
+        this.router.addRoute ("/track/#/pan", (numbers, values) -> {
+            final ITrack track = this.getTrack (numbers[0]);
+            if (track != null)
+                track.setPan (toDoubleValue (values));
+        });
+        this.router.addRoute ("/track/#/send/#/volume", (numbers, values) -> {
+            final ITrack track = this.getTrack (numbers[0]);
+            final ISend send = track == null || numbers[1] < 1 ? null : track.getSend (numbers[1] - 1);
+            if (send != null)
+                send.setValue (toDoubleValue (values));
+        });
+        this.router.addRoute ("/master/volume", (numbers, values) -> this.masterTrack.setVolume (toDoubleValue (values)));
+        this.router.addRoute ("/master/pan", (numbers, values) -> this.masterTrack.setPan (toDoubleValue (values)));
+        this.router.addRoute ("/device/param/#/value", (numbers, values) -> setParameter (this.model.getCursorDevice (), numbers[0], values));
+        this.router.addRoute ("/primary/param/#/value", (numbers, values) -> setParameter (this.model.getPrimaryDevice (), numbers[0], values));
+        this.router.addRoute ("/tempo/raw", (numbers, values) -> {
+            if (values != null && values.length > 0 && values[0] instanceof Number)
+                this.transport.setTempo (((Number) values[0]).doubleValue ());
+        });
+        this.router.addRoute ("/crossfade", (numbers, values) -> {
+            final int value = (int) toDoubleValue (values);
+            if (value >= 0)
+                this.transport.setCrossfade (value);
+        });
     }
 
 
@@ -78,6 +121,9 @@ public class OSCParser extends AbstractOpenSoundControlParser
     {
         this.logMessage (message);
 
+        if (this.router.route (message.getAddress (), message.getValues ()))
+            return;
+
         final LinkedList<String> oscParts = parseAddress (message);
         if (oscParts.isEmpty ())
             return;
@@ -1622,6 +1668,38 @@ public class OSCParser extends AbstractOpenSoundControlParser
     }
 
 
+    /**
+     * Get a track of the current track bank.
+     *
+     * @param trackNo The number of the track (1-based)
+     * @return The track or null if there is no such track in the bank
+     */
+    private ITrack getTrack (final int trackNo)
+    {
+        final IChannelBank tb = this.model.getCurrentTrackBank ();
+        return trackNo < 1 || trackNo > tb.getNumTracks () ? null : tb.getTrack (trackNo - 1);
+    }
+
+
+    private static void setParameter (final ICursorDevice cursorDevice, final int paramNo, final Object [] values)
+    {
+        if (values != null && values.length > 0 && paramNo >= 1 && paramNo <= cursorDevice.getNumParameters ())
+            cursorDevice.setParameter (paramNo - 1, (int) toDoubleValue (values));
+    }
+
+
+    /**
+     * Get the first value of a message as a number.
+     *
+     * @param values The values of the message
+     * @return The number or -1 if the first value is not a number
+     */
+    private static double toDoubleValue (final Object [] values)
+    {
+        return values != null && values.length > 0 && values[0] instanceof Number ? ((Number) values[0]).doubleValue () : -1;
+    }
+
+
     private static LinkedList<String> parseAddress (final IOpenSoundControlMessage message)
     {
         final LinkedList<String> oscParts = new LinkedList<> ();
@@ -6,6 +6,7 @@ package de.mossgrabers.controller.osc.protocol;
 
 import de.mossgrabers.controller.osc.OSCColors;
 import de.mossgrabers.controller.osc.OSCConfiguration;
+import de.mossgrabers.framework.controller.VuMeterEngine;
 import de.mossgrabers.framework.daw.IApplication;
 import de.mossgrabers.framework.daw.IArranger;
 import de.mossgrabers.framework.daw.IBrowser;
@@ -20,6 +21,7 @@ import de.mossgrabers.framework.daw.data.EmptyTrackData;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.daw.data.IChannel;
+import de.mossgrabers.framework.daw.data.IMasterTrack;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.daw.data.IScene;
 import de.mossgrabers.framework.daw.data.ISend;
@@ -28,6 +30,7 @@ import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 import de.mossgrabers.framework.osc.AbstractOpenSoundControlWriter;
 import de.mossgrabers.framework.osc.IOpenSoundControlServer;
+import de.mossgrabers.framework.osc.OpenSoundControlAddress;
 import de.mossgrabers.framework.scale.Scales;
 
 
@@ -36,9 +39,28 @@ import de.mossgrabers.framework.scale.Scales;
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
-public class OSCWriter extends AbstractOpenSoundControlWriter
+public class OSCWriter extends AbstractOpenSoundControlWriter implements VuMeterEngine.IFrameSender
 {
-    private KeyManager keyManager;
+    /** The number of VU meter frames per second sent to the client. */
+    public static final int        VU_FRAMES_PER_SECOND = 20;
+
+    private static final String [] TYPE_NAMES           = new String [ChannelType.values ().length];
+    static
+    {
+        for (final ChannelType type: ChannelType.values ())
+            TYPE_NAMES[type.ordinal ()] = type.name ().toLowerCase ();
+    }
+
+    private KeyManager                       keyManager;
+    private final int                        numVuTracks;
+    private final OpenSoundControlAddress [] vuAddresses;
+    private final VuMeterEngine              vuMeters;
+
+    // The versions of the model data at the last flush, to skip unchanged parts
+    private IChannelBank                     flushedTrackBank;
+    private long                             flushedTrackBankVersion;
+    private long                             flushedSceneBankVersion = -1;
+    private long                             flushedMasterVersion    = -1;
 
 
     /**
@@ -54,6 +76,47 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
     {
         super (host, model, oscServer, configuration);
         this.keyManager = keyManager;
+
+        // The meters of the tracks, followed by the master and the selected track
+        this.numVuTracks = model.getTrackBank ().getNumTracks ();
+        this.vuAddresses = new OpenSoundControlAddress [this.numVuTracks + 2];
+        final OpenSoundControlAddress tracksAddress = this.rootAddress.get ("track");
+        for (int i = 0; i < this.numVuTracks; i++)
+            this.vuAddresses[i] = tracksAddress.get (i + 1).get ("vu");
+        this.vuAddresses[this.numVuTracks] = this.rootAddress.get ("master").get ("vu");
+        this.vuAddresses[this.numVuTracks + 1] = tracksAddress.get ("selected").get ("vu");
+
+        final int maxValue = model.getValueChanger ().getUpperBound () - 1;
+        this.vuMeters = new VuMeterEngine (host, this.vuAddresses.length, maxValue, VU_FRAMES_PER_SECOND, this::getVuMeterValue, this);
+    }
+
+
+    /**
+     * Get the engine which sends the VU meters of the tracks.
+     *
+     * @return The engine
+     */
+    public VuMeterEngine getVuMeters ()
+    {
+        return this.vuMeters;
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void sendMeter (final int index, final int level, final int peak)
+    {
+        if (this.isConnected ())
+            this.sendOSC (this.vuAddresses[index], level, true);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void frameDone ()
+    {
+        if (this.isConnected ())
+            this.flush ();
     }
 
 
@@ -64,112 +127,141 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
         if (!this.isConnected ())
             return;
 
+        // VU meters are sent by their own engine
+        if (dump)
+            this.vuMeters.reset ();
+
         //
         // Transport
         //
 
         final ITransport trans = this.model.getTransport ();
-        this.sendOSC ("/play", trans.isPlaying (), dump);
-        this.sendOSC ("/record", trans.isRecording (), dump);
-        this.sendOSC ("/overdub", trans.isArrangerOverdub (), dump);
-        this.sendOSC ("/overdub/launcher", trans.isLauncherOverdub (), dump);
-        this.sendOSC ("/repeat", trans.isLoop (), dump);
-        this.sendOSC ("/punchIn", trans.isPunchInEnabled (), dump);
-        this.sendOSC ("/punchOut", trans.isPunchOutEnabled (), dump);
-        this.sendOSC ("/click", trans.isMetronomeOn (), dump);
-        this.sendOSC ("/click/ticks", trans.isMetronomeTicksOn (), dump);
-        this.sendOSC ("/click/volume", trans.getMetronomeVolume (), dump);
-        this.sendOSC ("/click/volumeStr", trans.getMetronomeVolumeStr (), dump);
-        this.sendOSC ("/click/preroll", trans.isPrerollMetronomeEnabled (), dump);
-        this.sendOSC ("/preroll", trans.getPrerollAsBars (), dump);
-        this.sendOSC ("/tempo/raw", trans.getTempo (), dump);
-        this.sendOSC ("/crossfade", trans.getCrossfade (), dump);
-        this.sendOSC ("/autowrite", trans.isWritingArrangerAutomation (), dump);
-        this.sendOSC ("/autowrite/launcher", trans.isWritingClipLauncherAutomation (), dump);
-        this.sendOSC ("/automationWriteMode", trans.getAutomationWriteMode (), dump);
-        this.sendOSC ("/time/str", trans.getPositionText (), dump);
-        this.sendOSC ("/time/signature", trans.getNumerator () + " / " + trans.getDenominator (), dump);
-        this.sendOSC ("/beat/str", trans.getBeatText (), dump);
+        this.sendOSC (this.rootAddress.get ("play"), trans.isPlaying (), dump);
+        this.sendOSC (this.rootAddress.get ("record"), trans.isRecording (), dump);
+        this.sendOSC (this.rootAddress.get ("overdub"), trans.isArrangerOverdub (), dump);
+        this.sendOSC (this.rootAddress.get ("overdub/launcher"), trans.isLauncherOverdub (), dump);
+        this.sendOSC (this.rootAddress.get ("repeat"), trans.isLoop (), dump);
+        this.sendOSC (this.rootAddress.get ("punchIn"), trans.isPunchInEnabled (), dump);
+        this.sendOSC (this.rootAddress.get ("punchOut"), trans.isPunchOutEnabled (), dump);
+        this.sendOSC (this.rootAddress.get ("click"), trans.isMetronomeOn (), dump);
+        this.sendOSC (this.rootAddress.get ("click/ticks"), trans.isMetronomeTicksOn (), dump);
+        this.sendOSC (this.rootAddress.get ("click/volume"), trans.getMetronomeVolume (), dump);
+        this.sendOSC (this.rootAddress.get ("click/volumeStr"), trans.getMetronomeVolumeStr (), dump);
+        this.sendOSC (this.rootAddress.get ("click/preroll"), trans.isPrerollMetronomeEnabled (), dump);
+        this.sendOSC (this.rootAddress.get ("preroll"), trans.getPrerollAsBars (), dump);
+        this.sendOSC (this.rootAddress.get ("tempo/raw"), trans.getTempo (), dump);
+        this.sendOSC (this.rootAddress.get ("crossfade"), trans.getCrossfade (), dump);
+        this.sendOSC (this.rootAddress.get ("autowrite"), trans.isWritingArrangerAutomation (), dump);
+        this.sendOSC (this.rootAddress.get ("autowrite/launcher"), trans.isWritingClipLauncherAutomation (), dump);
+        this.sendOSC (this.rootAddress.get ("automationWriteMode"), trans.getAutomationWriteMode (), dump);
+        this.sendOSC (this.rootAddress.get ("time/str"), trans.getPositionText (), dump);
+        this.sendOSC (this.rootAddress.get ("time/signature"), trans.getNumerator () + " / " + trans.getDenominator (), dump);
+        this.sendOSC (this.rootAddress.get ("beat/str"), trans.getBeatText (), dump);
 
         //
         // Frames
         //
 
         final IApplication app = this.model.getApplication ();
-        this.sendOSC ("/layout", app.getPanelLayout ().toLowerCase (), dump);
+        this.sendOSC (this.rootAddress.get ("layout"), app.getPanelLayout ().toLowerCase (), dump);
 
         final IArranger arrange = this.model.getArranger ();
-        this.sendOSC ("/arranger/cueMarkerVisibility", arrange.areCueMarkersVisible (), dump);
-        this.sendOSC ("/arranger/playbackFollow", arrange.isPlaybackFollowEnabled (), dump);
-        this.sendOSC ("/arranger/trackRowHeight", arrange.hasDoubleRowTrackHeight (), dump);
-        this.sendOSC ("/arranger/clipLauncherSectionVisibility", arrange.isClipLauncherVisible (), dump);
-        this.sendOSC ("/arranger/timeLineVisibility", arrange.isTimelineVisible (), dump);
-        this.sendOSC ("/arranger/ioSectionVisibility", arrange.isIoSectionVisible (), dump);
-        this.sendOSC ("/arranger/effectTracksVisibility", arrange.areEffectTracksVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/cueMarkerVisibility"), arrange.areCueMarkersVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/playbackFollow"), arrange.isPlaybackFollowEnabled (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/trackRowHeight"), arrange.hasDoubleRowTrackHeight (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/clipLauncherSectionVisibility"), arrange.isClipLauncherVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/timeLineVisibility"), arrange.isTimelineVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/ioSectionVisibility"), arrange.isIoSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("arranger/effectTracksVisibility"), arrange.areEffectTracksVisible (), dump);
 
         final IMixer mix = this.model.getMixer ();
-        this.sendOSC ("/mixer/clipLauncherSectionVisibility", mix.isClipLauncherSectionVisible (), dump);
-        this.sendOSC ("/mixer/crossFadeSectionVisibility", mix.isCrossFadeSectionVisible (), dump);
-        this.sendOSC ("/mixer/deviceSectionVisibility", mix.isDeviceSectionVisible (), dump);
-        this.sendOSC ("/mixer/sendsSectionVisibility", mix.isSendSectionVisible (), dump);
-        this.sendOSC ("/mixer/ioSectionVisibility", mix.isIoSectionVisible (), dump);
-        this.sendOSC ("/mixer/meterSectionVisibility", mix.isMeterSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/clipLauncherSectionVisibility"), mix.isClipLauncherSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/crossFadeSectionVisibility"), mix.isCrossFadeSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/deviceSectionVisibility"), mix.isDeviceSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/sendsSectionVisibility"), mix.isSendSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/ioSectionVisibility"), mix.isIoSectionVisible (), dump);
+        this.sendOSC (this.rootAddress.get ("mixer/meterSectionVisibility"), mix.isMeterSectionVisible (), dump);
 
         //
         // Project
         //
 
-        this.sendOSC ("/project/name", this.model.getProject ().getName (), dump);
-        this.sendOSC ("/project/engine", app.isEngineActive (), dump);
+        this.sendOSC (this.rootAddress.get ("project/name"), this.model.getProject ().getName (), dump);
+        this.sendOSC (this.rootAddress.get ("project/engine"), app.isEngineActive (), dump);
 
         //
         // Master-/Track(-commands)
         //
 
         final IChannelBank trackBank = this.model.getCurrentTrackBank ();
-        for (int i = 0; i < trackBank.getNumTracks (); i++)
-            this.flushTrack ("/track/" + (i + 1) + "/", trackBank.getTrack (i), dump);
-        this.flushTrack ("/master/", this.model.getMasterTrack (), dump);
+        final OpenSoundControlAddress tracksAddress = this.rootAddress.get ("track");
+        final long trackBankVersion = trackBank.getVersion ();
+        if (dump || trackBank != this.flushedTrackBank || trackBankVersion != this.flushedTrackBankVersion)
+        {
+            for (int i = 0; i < trackBank.getNumTracks (); i++)
+                this.flushTrack (tracksAddress.get (i + 1), trackBank.getTrack (i), dump);
+            this.flushedTrackBank = trackBank;
+            this.flushedTrackBankVersion = trackBankVersion;
+        }
+        final IMasterTrack masterTrack = this.model.getMasterTrack ();
+        final long masterVersion = masterTrack.getVersion ();
+        if (dump || masterVersion != this.flushedMasterVersion)
+        {
+            this.flushTrack (this.rootAddress.get ("master"), masterTrack, dump);
+            this.flushedMasterVersion = masterVersion;
+        }
         final ITrack selectedTrack = trackBank.getSelectedTrack ();
-        this.flushTrack ("/track/selected/", selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
-        this.sendOSC ("/track/toggleBank", this.model.isEffectTrackBankActive () ? 1 : 0, dump);
+        this.flushTrack (tracksAddress.get ("selected"), selectedTrack == null ? EmptyTrackData.INSTANCE : selectedTrack, dump);
+        this.sendOSC (tracksAddress.get ("toggleBank"), this.model.isEffectTrackBankActive () ? 1 : 0, dump);
 
         //
         // Scenes
         //
 
+        // The scene bank is part of the version of the track bank
         final ISceneBank sceneBank = this.model.getSceneBank ();
-        if (sceneBank != null)
+        final long sceneBankVersion = this.model.getTrackBank ().getVersion ();
+        if (sceneBank != null && (dump || sceneBankVersion != this.flushedSceneBankVersion))
         {
+            final OpenSoundControlAddress scenesAddress = this.rootAddress.get ("scene");
             for (int i = 0; i < sceneBank.getNumScenes (); i++)
-                this.flushScene ("/scene/" + (i + 1) + "/", sceneBank.getScene (i), dump);
+                this.flushScene (scenesAddress.get (i + 1), sceneBank.getScene (i), dump);
+            this.flushedSceneBankVersion = sceneBankVersion;
         }
 
         //
         // Device / Primary Device
         //
         final ICursorDevice cd = this.model.getCursorDevice ();
-        this.flushDevice ("/device/", cd, dump);
+        final OpenSoundControlAddress deviceAddress = this.rootAddress.get ("device");
+        this.flushDevice (deviceAddress, cd, dump);
         if (cd.hasDrumPads ())
         {
+            final OpenSoundControlAddress drumPadsAddress = deviceAddress.get ("drumpad");
             for (int i = 0; i < cd.getNumDrumPads (); i++)
-                this.flushDeviceLayers ("/device/drumpad/" + (i + 1) + "/", cd.getLayerOrDrumPad (i), dump);
+                this.flushDeviceLayers (drumPadsAddress.get (i + 1), cd.getLayerOrDrumPad (i), dump);
         }
+        final OpenSoundControlAddress layersAddress = deviceAddress.get ("layer");
         for (int i = 0; i < cd.getNumLayers (); i++)
-            this.flushDeviceLayers ("/device/layer/" + (i + 1) + "/", cd.getLayerOrDrumPad (i), dump);
-        this.flushDevice ("/primary/", this.model.getPrimaryDevice (), dump);
+            this.flushDeviceLayers (layersAddress.get (i + 1), cd.getLayerOrDrumPad (i), dump);
+        this.flushDevice (this.rootAddress.get ("primary"), this.model.getPrimaryDevice (), dump);
+
+        // Browser and note data is only sent after all other data
+        this.setLowPriority (true);
 
         //
         // Browser
         //
 
-        this.flushBrowser ("/browser/", this.model.getBrowser (), dump);
+        this.flushBrowser (this.rootAddress.get ("browser"), this.model.getBrowser (), dump);
 
         //
         // Notes
         //
 
-        this.flushNotes ("/vkb_midi/note/", dump);
+        this.flushNotes (this.rootAddress.get ("vkb_midi/note"), dump);
+
+        this.setLowPriority (false);
 
         this.flush ();
     }
@@ -182,57 +274,84 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param track The track
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushTrack (final String trackAddress, final ITrack track, final boolean dump)
+    private void flushTrack (final OpenSoundControlAddress trackAddress, final ITrack track, final boolean dump)
     {
-        this.sendOSC (trackAddress + "exists", track.doesExist (), dump);
+        this.sendOSC (trackAddress.get ("exists"), track.doesExist (), dump);
         final ChannelType type = track.getType ();
-        this.sendOSC (trackAddress + "type", type == null ? null : type.name ().toLowerCase (), dump);
-        this.sendOSC (trackAddress + "activated", track.isActivated (), dump);
-        this.sendOSC (trackAddress + "selected", track.isSelected (), dump);
-        this.sendOSC (trackAddress + "isGroup", track.isGroup (), dump);
-        this.sendOSC (trackAddress + "name", track.getName (), dump);
-        this.sendOSC (trackAddress + "volumeStr", track.getVolumeStr (), dump);
-        this.sendOSC (trackAddress + "volume", track.getVolume (), dump);
-        this.sendOSC (trackAddress + "panStr", track.getPanStr (), dump);
-        this.sendOSC (trackAddress + "pan", track.getPan (), dump);
-        this.sendOSC (trackAddress + "mute", track.isMute (), dump);
-        this.sendOSC (trackAddress + "solo", track.isSolo (), dump);
-        this.sendOSC (trackAddress + "recarm", track.isRecArm (), dump);
-        this.sendOSC (trackAddress + "monitor", track.isMonitor (), dump);
-        this.sendOSC (trackAddress + "autoMonitor", track.isAutoMonitor (), dump);
-        this.sendOSC (trackAddress + "canHoldNotes", track.canHoldNotes (), dump);
-        this.sendOSC (trackAddress + "canHoldAudioData", track.canHoldAudioData (), dump);
-        this.sendOSC (trackAddress + "position", track.getPosition (), dump);
-
+        this.sendOSC (trackAddress.get ("type"), type == null ? null : TYPE_NAMES[type.ordinal ()], dump);
+        this.sendOSC (trackAddress.get ("activated"), track.isActivated (), dump);
+        this.sendOSC (trackAddress.get ("selected"), track.isSelected (), dump);
+        this.sendOSC (trackAddress.get ("isGroup"), track.isGroup (), dump);
+        this.sendOSC (trackAddress.get ("name"), track.getName (), dump);
+        this.sendOSC (trackAddress.get ("volumeStr"), track.getVolumeStr (), dump);
+        this.sendOSC (trackAddress.get ("volume"), track.getVolume (), dump);
+        this.sendOSC (trackAddress.get ("panStr"), track.getPanStr (), dump);
+        this.sendOSC (trackAddress.get ("pan"), track.getPan (), dump);
+        this.sendOSC (trackAddress.get ("mute"), track.isMute (), dump);
+        this.sendOSC (trackAddress.get ("solo"), track.isSolo (), dump);
+        this.sendOSC (trackAddress.get ("recarm"), track.isRecArm (), dump);
+        this.sendOSC (trackAddress.get ("monitor"), track.isMonitor (), dump);
+        this.sendOSC (trackAddress.get ("autoMonitor"), track.isAutoMonitor (), dump);
+        this.sendOSC (trackAddress.get ("canHoldNotes"), track.canHoldNotes (), dump);
+        this.sendOSC (trackAddress.get ("canHoldAudioData"), track.canHoldAudioData (), dump);
+        this.sendOSC (trackAddress.get ("position"), track.getPosition (), dump);
+
+        final OpenSoundControlAddress sendsAddress = trackAddress.get ("send");
         for (int i = 0; i < track.getNumSends (); i++)
-            this.flushParameterData (trackAddress + "send/" + (i + 1) + "/", track.getSend (i), dump);
+            this.flushParameterData (sendsAddress.get (i + 1), track.getSend (i), dump);
 
+        final OpenSoundControlAddress clipsAddress = trackAddress.get ("clip");
         for (int i = 0; i < track.getNumSlots (); i++)
         {
             final ISlot slot = track.getSlot (i);
-            final String clipAddress = trackAddress + "clip/" + (i + 1) + "/";
-            this.sendOSC (clipAddress + "name", slot.getName (), dump);
-            this.sendOSC (clipAddress + "isSelected", slot.isSelected (), dump);
-            this.sendOSC (clipAddress + "hasContent", slot.hasContent (), dump);
-            this.sendOSC (clipAddress + "isPlaying", slot.isPlaying (), dump);
-            this.sendOSC (clipAddress + "isRecording", slot.isRecording (), dump);
-            this.sendOSC (clipAddress + "isPlayingQueued", slot.isPlayingQueued (), dump);
-            this.sendOSC (clipAddress + "isRecordingQueued", slot.isRecordingQueued (), dump);
-            this.sendOSC (clipAddress + "isStopQueued", slot.isStopQueued (), dump);
+            final OpenSoundControlAddress clipAddress = clipsAddress.get (i + 1);
+            this.sendOSC (clipAddress.get ("name"), slot.getName (), dump);
+            this.sendOSC (clipAddress.get ("isSelected"), slot.isSelected (), dump);
+            this.sendOSC (clipAddress.get ("hasContent"), slot.hasContent (), dump);
+            this.sendOSC (clipAddress.get ("isPlaying"), slot.isPlaying (), dump);
+            this.sendOSC (clipAddress.get ("isRecording"), slot.isRecording (), dump);
+            this.sendOSC (clipAddress.get ("isPlayingQueued"), slot.isPlayingQueued (), dump);
+            this.sendOSC (clipAddress.get ("isRecordingQueued"), slot.isRecordingQueued (), dump);
+            this.sendOSC (clipAddress.get ("isStopQueued"), slot.isStopQueued (), dump);
 
             final double [] color = slot.getColor ();
-            this.sendOSCColor (clipAddress + "color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (clipAddress.get ("color"), color[0], color[1], color[2], dump);
         }
 
         final double [] color = track.getColor ();
-        this.sendOSCColor (trackAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (trackAddress.get ("color"), color[0], color[1], color[2], dump);
 
         final String crossfadeMode = track.getCrossfadeMode ();
-        this.sendOSC (trackAddress + "crossfadeMode/A", "A".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/B", "B".equals (crossfadeMode), dump);
-        this.sendOSC (trackAddress + "crossfadeMode/AB", "AB".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress.get ("crossfadeMode/A"), "A".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress.get ("crossfadeMode/B"), "B".equals (crossfadeMode), dump);
+        this.sendOSC (trackAddress.get ("crossfadeMode/AB"), "AB".equals (crossfadeMode), dump);
+    }
+
+
+    /**
+     * Get the current value of a VU meter.
+     *
+     * @param index The index of the meter, the tracks are followed by the master and the selected
+     *            track
+     * @return The value
+     */
+    private int getVuMeterValue (final int index)
+    {
+        if (!((OSCConfiguration) this.configuration).isEnableVUMeters ())
+            return 0;
+
+        if (index == this.numVuTracks)
+            return this.model.getMasterTrack ().getVu ();
+
+        final IChannelBank trackBank = this.model.getCurrentTrackBank ();
+        if (index > this.numVuTracks)
+        {
+            final ITrack selectedTrack = trackBank.getSelectedTrack ();
+            return selectedTrack == null ? 0 : selectedTrack.getVu ();
+        }
 
-        this.sendOSC (trackAddress + "vu", ((OSCConfiguration) this.configuration).isEnableVUMeters () ? track.getVu () : 0, dump);
+        // The effect track bank might have less tracks
+        return index < trackBank.getNumTracks () ? trackBank.getTrack (index).getVu () : 0;
     }
 
 
@@ -243,11 +362,11 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param scene The scene
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushScene (final String sceneAddress, final IScene scene, final boolean dump)
+    private void flushScene (final OpenSoundControlAddress sceneAddress, final IScene scene, final boolean dump)
     {
-        this.sendOSC (sceneAddress + "exists", scene.doesExist (), dump);
-        this.sendOSC (sceneAddress + "name", scene.getName (), dump);
-        this.sendOSC (sceneAddress + "selected", scene.isSelected (), dump);
+        this.sendOSC (sceneAddress.get ("exists"), scene.doesExist (), dump);
+        this.sendOSC (sceneAddress.get ("name"), scene.getName (), dump);
+        this.sendOSC (sceneAddress.get ("selected"), scene.isSelected (), dump);
     }
 
 
@@ -258,43 +377,43 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param device The device
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDevice (final String deviceAddress, final ICursorDevice device, final boolean dump)
+    private void flushDevice (final OpenSoundControlAddress deviceAddress, final ICursorDevice device, final boolean dump)
     {
-        this.sendOSC (deviceAddress + "exists", device.doesExist (), dump);
-        this.sendOSC (deviceAddress + "name", device.getName (), dump);
-        this.sendOSC (deviceAddress + "bypass", !device.isEnabled (), dump);
-        this.sendOSC (deviceAddress + "expand", device.isExpanded (), dump);
-        this.sendOSC (deviceAddress + "window", device.isWindowOpen (), dump);
+        this.sendOSC (deviceAddress.get ("exists"), device.doesExist (), dump);
+        this.sendOSC (deviceAddress.get ("name"), device.getName (), dump);
+        this.sendOSC (deviceAddress.get ("bypass"), !device.isEnabled (), dump);
+        this.sendOSC (deviceAddress.get ("expand"), device.isExpanded (), dump);
+        this.sendOSC (deviceAddress.get ("window"), device.isWindowOpen (), dump);
         final int positionInBank = device.getPositionInBank ();
+        final OpenSoundControlAddress siblingsAddress = deviceAddress.get ("sibling");
         for (int i = 0; i < device.getNumDevices (); i++)
         {
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/name", device.getSiblingDeviceName (i), dump);
-            this.sendOSC (deviceAddress + "sibling/" + oneplus + "/selected", i == positionInBank, dump);
+            final OpenSoundControlAddress siblingAddress = siblingsAddress.get (i + 1);
+            this.sendOSC (siblingAddress.get ("name"), device.getSiblingDeviceName (i), dump);
+            this.sendOSC (siblingAddress.get ("selected"), i == positionInBank, dump);
 
         }
+        final OpenSoundControlAddress paramsAddress = deviceAddress.get ("param");
         for (int i = 0; i < device.getNumParameters (); i++)
-        {
-            final int oneplus = i + 1;
-            this.flushParameterData (deviceAddress + "param/" + oneplus + "/", device.getFXParam (i), dump);
-        }
+            this.flushParameterData (paramsAddress.get (i + 1), device.getFXParam (i), dump);
         final String [] parameterPageNames = device.getParameterPageNames ();
         final int selectedParameterPage = device.getSelectedParameterPage ();
 
         final int page = Math.min (Math.max (0, selectedParameterPage), parameterPageNames.length - 1);
         final int start = page / 8 * 8;
 
+        final OpenSoundControlAddress pagesAddress = deviceAddress.get ("page");
         for (int i = 0; i < 8; i++)
         {
             final int index = start + i;
             final String pageName = index < parameterPageNames.length ? parameterPageNames[index] : "";
 
-            final int oneplus = i + 1;
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/", pageName, dump);
-            this.sendOSC (deviceAddress + "page/" + oneplus + "/selected", page == index, dump);
+            final OpenSoundControlAddress pageAddress = pagesAddress.get (i + 1);
+            this.sendOSC (pageAddress.get (""), pageName, dump);
+            this.sendOSC (pageAddress.get ("selected"), page == index, dump);
         }
         final int sel = page % 8;
-        this.sendOSC (deviceAddress + "page/selected/name", sel >= 0 && sel < 8 ? parameterPageNames[sel] : "", dump);
+        this.sendOSC (deviceAddress.get ("page/selected/name"), sel >= 0 && sel < 8 ? parameterPageNames[sel] : "", dump);
     }
 
 
@@ -305,39 +424,43 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param browser The browser
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushBrowser (final String browserAddress, final IBrowser browser, final boolean dump)
+    private void flushBrowser (final OpenSoundControlAddress browserAddress, final IBrowser browser, final boolean dump)
     {
-        this.sendOSC (browserAddress + "isActive", browser.isActive (), dump);
-        this.sendOSC (browserAddress + "tab", browser.getSelectedContentType (), dump);
+        this.sendOSC (browserAddress.get ("isActive"), browser.isActive (), dump);
+        this.sendOSC (browserAddress.get ("tab"), browser.getSelectedContentType (), dump);
 
         IBrowserColumn column;
         // Filter Columns
+        final OpenSoundControlAddress filtersAddress = browserAddress.get ("filter");
         for (int i = 0; i < browser.getFilterColumnCount (); i++)
         {
-            final String filterAddress = browserAddress + "filter/" + (i + 1) + "/";
+            final OpenSoundControlAddress filterAddress = filtersAddress.get (i + 1);
             column = browser.getFilterColumn (i);
-            this.sendOSC (filterAddress + "exists", column.doesExist (), dump);
-            this.sendOSC (filterAddress + "name", column.getName (), dump);
-            this.sendOSC (filterAddress + "wildcard", column.getWildcard (), dump);
+            this.sendOSC (filterAddress.get ("exists"), column.doesExist (), dump);
+            this.sendOSC (filterAddress.get ("name"), column.getName (), dump);
+            this.sendOSC (filterAddress.get ("wildcard"), column.getWildcard (), dump);
             final IBrowserColumnItem [] items = column.getItems ();
+            final OpenSoundControlAddress itemsAddress = filterAddress.get ("item");
             for (int j = 0; j < items.length; j++)
             {
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/exists", items[j].doesExist (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/name", items[j].getName (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/hits", items[j].getHitCount (), dump);
-                this.sendOSC (filterAddress + "item/" + (j + 1) + "/isSelected", items[j].isSelected (), dump);
+                final OpenSoundControlAddress itemAddress = itemsAddress.get (j + 1);
+                this.sendOSC (itemAddress.get ("exists"), items[j].doesExist (), dump);
+                this.sendOSC (itemAddress.get ("name"), items[j].getName (), dump);
+                this.sendOSC (itemAddress.get ("hits"), items[j].getHitCount (), dump);
+                this.sendOSC (itemAddress.get ("isSelected"), items[j].isSelected (), dump);
             }
         }
 
         // Presets
-        final String presetAddress = browserAddress + "result/";
+        final OpenSoundControlAddress presetsAddress = browserAddress.get ("result");
         final IBrowserColumnItem [] items = browser.getResultColumnItems ();
         for (int i = 0; i < items.length; i++)
         {
-            this.sendOSC (presetAddress + (i + 1) + "/exists", items[i].doesExist (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/name", items[i].getName (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/hits", items[i].getHitCount (), dump);
-            this.sendOSC (presetAddress + (i + 1) + "/isSelected", items[i].isSelected (), dump);
+            final OpenSoundControlAddress presetAddress = presetsAddress.get (i + 1);
+            this.sendOSC (presetAddress.get ("exists"), items[i].doesExist (), dump);
+            this.sendOSC (presetAddress.get ("name"), items[i].getName (), dump);
+            this.sendOSC (presetAddress.get ("hits"), items[i].getHitCount (), dump);
+            this.sendOSC (presetAddress.get ("isSelected"), items[i].isSelected (), dump);
         }
     }
 
@@ -349,30 +472,31 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param channel The channel of the layer
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushDeviceLayers (final String deviceAddress, final IChannel channel, final boolean dump)
+    private void flushDeviceLayers (final OpenSoundControlAddress deviceAddress, final IChannel channel, final boolean dump)
     {
         if (channel == null)
             return;
 
-        this.sendOSC (deviceAddress + "exists", channel.doesExist (), dump);
-        this.sendOSC (deviceAddress + "activated", channel.isActivated (), dump);
-        this.sendOSC (deviceAddress + "selected", channel.isSelected (), dump);
-        this.sendOSC (deviceAddress + "name", channel.getName (), dump);
-        this.sendOSC (deviceAddress + "volumeStr", channel.getVolumeStr (), dump);
-        this.sendOSC (deviceAddress + "volume", channel.getVolume (), dump);
-        this.sendOSC (deviceAddress + "panStr", channel.getPanStr (), dump);
-        this.sendOSC (deviceAddress + "pan", channel.getPan (), dump);
-        this.sendOSC (deviceAddress + "mute", channel.isMute (), dump);
-        this.sendOSC (deviceAddress + "solo", channel.isSolo (), dump);
-
+        this.sendOSC (deviceAddress.get ("exists"), channel.doesExist (), dump);
+        this.sendOSC (deviceAddress.get ("activated"), channel.isActivated (), dump);
+        this.sendOSC (deviceAddress.get ("selected"), channel.isSelected (), dump);
+        this.sendOSC (deviceAddress.get ("name"), channel.getName (), dump);
+        this.sendOSC (deviceAddress.get ("volumeStr"), channel.getVolumeStr (), dump);
+        this.sendOSC (deviceAddress.get ("volume"), channel.getVolume (), dump);
+        this.sendOSC (deviceAddress.get ("panStr"), channel.getPanStr (), dump);
+        this.sendOSC (deviceAddress.get ("pan"), channel.getPan (), dump);
+        this.sendOSC (deviceAddress.get ("mute"), channel.isMute (), dump);
+        this.sendOSC (deviceAddress.get ("solo"), channel.isSolo (), dump);
+
+        final OpenSoundControlAddress sendsAddress = deviceAddress.get ("send");
         for (int i = 0; i < channel.getNumSends (); i++)
-            this.flushParameterData (deviceAddress + "send/" + (i + 1) + "/", channel.getSend (i), dump);
+            this.flushParameterData (sendsAddress.get (i + 1), channel.getSend (i), dump);
 
         if (((OSCConfiguration) this.configuration).isEnableVUMeters ())
-            this.sendOSC (deviceAddress + "vu", channel.getVu (), dump);
+            this.sendOSC (deviceAddress.get ("vu"), channel.getVu (), dump);
 
         final double [] color = channel.getColor ();
-        this.sendOSCColor (deviceAddress + "color", color[0], color[1], color[2], dump);
+        this.sendOSCColor (deviceAddress.get ("color"), color[0], color[1], color[2], dump);
     }
 
 
@@ -383,14 +507,14 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param fxParam The parameter
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushParameterData (final String fxAddress, final IParameter fxParam, final boolean dump)
+    private void flushParameterData (final OpenSoundControlAddress fxAddress, final IParameter fxParam, final boolean dump)
     {
         final boolean isSend = fxParam instanceof ISend;
 
-        this.sendOSC (fxAddress + "name", fxParam.getName (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
-        this.sendOSC (fxAddress + (isSend ? "volume" : "value"), fxParam.getValue (), dump);
-        this.sendOSC (fxAddress + "modulatedValue", fxParam.getModulatedValue (), dump);
+        this.sendOSC (fxAddress.get ("name"), fxParam.getName (), dump);
+        this.sendOSC (fxAddress.get (isSend ? "volumeStr" : "valueStr"), fxParam.getDisplayedValue (), dump);
+        this.sendOSC (fxAddress.get (isSend ? "volume" : "value"), fxParam.getValue (), dump);
+        this.sendOSC (fxAddress.get ("modulatedValue"), fxParam.getModulatedValue (), dump);
     }
 
 
@@ -400,12 +524,12 @@ public class OSCWriter extends AbstractOpenSoundControlWriter
      * @param noteAddress The start address for the note
      * @param dump Forces a flush if true otherwise only changed values are flushed
      */
-    private void flushNotes (final String noteAddress, final boolean dump)
+    private void flushNotes (final OpenSoundControlAddress noteAddress, final boolean dump)
     {
         for (int i = 0; i < 127; i++)
         {
             final double [] color = this.getNoteColor (i);
-            this.sendOSCColor (noteAddress + i + "/color", color[0], color[1], color[2], dump);
+            this.sendOSCColor (noteAddress.get (i).get ("color"), color[0], color[1], color[2], dump);
         }
     }
 
@@ -63,6 +63,8 @@ public class PushConfiguration extends AbstractConfiguration
     public static final Integer    DEBUG_MODE                      = Integer.valueOf (41);
     /** Push 2 display debug window. */
     public static final Integer    DEBUG_WINDOW                    = Integer.valueOf (42);
+    /** Setting for sending only the changed grid elements to the display process. */
+    public static final Integer    DISPLAY_PARTIAL_UPDATES         = Integer.valueOf (43);
     /** Background color of an element. */
     public static final Integer    COLOR_BACKGROUND                = Integer.valueOf (50);
     /** Border color of an element. */
@@ -127,6 +129,7 @@ public class PushConfiguration extends AbstractConfiguration
     // Only Push 2
     private boolean                sendsAreToggled                 = false;
     private int                    displayBrightness               = 255;
+    private boolean                displayPartialUpdates           = false;
     private int                    ledBrightness                   = 127;
     private int                    padSensitivity                  = 5;
     private int                    padGain                         = 5;
@@ -592,6 +595,17 @@ public class PushConfiguration extends AbstractConfiguration
     }
 
 
+    /**
+     * Send only the changed grid elements to the display process?
+     *
+     * @return True if partial updates are enabled
+     */
+    public boolean isDisplayPartialUpdates ()
+    {
+        return this.displayPartialUpdates;
+    }
+
+
     /**
      * Set the send port
      *
@@ -773,6 +787,12 @@ public class PushConfiguration extends AbstractConfiguration
             this.ledBrightness = value.intValue ();
             this.notifyObservers (LED_BRIGHTNESS);
         });
+
+        // Requires a display process which supports the grid update command
+        settingsUI.getEnumSetting ("Display Partial Updates", CATEGORY_HARDWARE_SETUP, ON_OFF_OPTIONS, ON_OFF_OPTIONS[0]).addValueObserver (value -> {
+            this.displayPartialUpdates = "On".equals (value);
+            this.notifyObservers (DISPLAY_PARTIAL_UPDATES);
+        });
     }
 
 
@@ -112,6 +112,8 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.AbstractControllerSetup;
 import de.mossgrabers.framework.controller.DefaultValueChanger;
 import de.mossgrabers.framework.controller.ISetupFactory;
+import de.mossgrabers.framework.controller.SubscriptionManager;
+import de.mossgrabers.framework.controller.VuMeterEngine;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorClip;
@@ -119,6 +121,7 @@ import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.ITrackBank;
 import de.mossgrabers.framework.daw.ITransport;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.daw.midi.IMidiAccess;
@@ -130,6 +133,9 @@ import de.mossgrabers.framework.view.SceneView;
 import de.mossgrabers.framework.view.View;
 import de.mossgrabers.framework.view.ViewManager;
 
+import java.util.EnumSet;
+import java.util.function.LongSupplier;
+
 
 /**
  * Support for the Ableton Push 1 and Push 2 controllers.
@@ -138,6 +144,9 @@ import de.mossgrabers.framework.view.ViewManager;
  */
 public class PushControllerSetup extends AbstractControllerSetup<PushControlSurface, PushConfiguration>
 {
+    /** The number of VU meter frames per second, same as the frame rate of the Push 2 display. */
+    public static final int VU_FRAMES_PER_SECOND = 30;
+
     protected final boolean isPush2;
 
 
@@ -213,14 +222,28 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
         final PushControlSurface surface = new PushControlSurface (this.model.getHost (), this.colorManager, this.configuration, output, input);
         this.surfaces.add (surface);
         surface.setDisplay (this.createDisplay (output));
+        surface.setVuMeters (this.createVuMeters ());
         surface.getModeManager ().setDefaultMode (Modes.MODE_TRACK);
     }
 
 
+    /**
+     * Create the engine for the VU meters of the 8 tracks. The levels are sent with the channel
+     * elements of the Push 2 display, therefore nothing is sent on a frame.
+     *
+     * @return The engine
+     */
+    private VuMeterEngine createVuMeters ()
+    {
+        return new VuMeterEngine (this.model.getHost (), 8, this.valueChanger.getUpperBound () - 1, VU_FRAMES_PER_SECOND, index -> this.configuration.isEnableVUMeters () ? this.model.getCurrentTrackBank ().getTrack (index).getVu () : 0, null);
+    }
+
+
     protected PushDisplay createDisplay (final IMidiOutput output)
     {
         final PushDisplay display = new PushDisplay (this.model.getHost (), this.isPush2, this.valueChanger.getUpperBound (), output);
         display.setCommunicationPort (this.configuration.getSendPort ());
+        display.setPartialUpdates (this.configuration.isDisplayPartialUpdates ());
         return display;
     }
 
@@ -344,8 +367,14 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
                 this.updateRibbonMode ();
         });
 
+        // The slots are always required for the clip commands and the record button
+        final SubscriptionManager subscriptionManager = new SubscriptionManager (this.model, EnumSet.of (ObservedData.TRACK_SLOTS));
+        subscriptionManager.addModeManager (surface.getModeManager ());
+        subscriptionManager.addViewManager (surface.getViewManager ());
+
         this.configuration.addSettingObserver (PushConfiguration.RIBBON_MODE, this::updateRibbonMode);
         this.configuration.addSettingObserver (PushConfiguration.SEND_PORT, () -> ((PushDisplay) surface.getDisplay ()).setCommunicationPort (this.configuration.getSendPort ()));
+        this.configuration.addSettingObserver (PushConfiguration.DISPLAY_PARTIAL_UPDATES, () -> ((PushDisplay) surface.getDisplay ()).setPartialUpdates (this.configuration.isDisplayPartialUpdates ()));
         this.configuration.addSettingObserver (PushConfiguration.DEBUG_MODE, () -> {
             final ModeManager modeManager = surface.getModeManager ();
             final Integer debugMode = this.configuration.getDebugMode ();
@@ -501,6 +530,63 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    protected void bindButtons ()
+    {
+        final PushControlSurface surface = this.getSurface ();
+        final ViewManager viewManager = surface.getViewManager ();
+        final ITransport t = this.model.getTransport ();
+        final PushConfiguration config = this.configuration;
+
+        final LongSupplier transport = t::getVersion;
+        final LongSupplier view = createViewDependency (viewManager);
+        final LongSupplier shift = () -> surface.isShiftPressed () ? 1 : 0;
+        final LongSupplier flipRecord = () -> config.isFlipRecord () ? 1 : 0;
+
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_METRONOME, () -> t.isMetronomeOn () ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON, transport);
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_PLAY, () -> t.isPlaying () ? PushColors.PUSH_BUTTON_STATE_PLAY_HI : PushColors.PUSH_BUTTON_STATE_PLAY_ON, transport);
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_AUTOMATION, () -> {
+            final boolean isWriting = this.isRecordShifted () ? t.isWritingClipLauncherAutomation () : t.isWritingArrangerAutomation ();
+            return isWriting ? PushColors.PUSH_BUTTON_STATE_REC_HI : PushColors.PUSH_BUTTON_STATE_REC_ON;
+        }, transport, shift, flipRecord);
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_RECORD, () -> {
+            if (this.isRecordShifted ())
+                return t.isLauncherOverdub () ? PushColors.PUSH_BUTTON_STATE_OVR_HI : PushColors.PUSH_BUTTON_STATE_OVR_ON;
+            return t.isRecording () ? PushColors.PUSH_BUTTON_STATE_REC_HI : PushColors.PUSH_BUTTON_STATE_REC_ON;
+        }, transport, shift, flipRecord);
+
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_ACCENT, () -> config.isAccentActive () ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON, () -> config.isAccentActive () ? 1 : 0);
+
+        if (!this.isPush2)
+        {
+            final LongSupplier muteState = () -> config.isMuteState () ? 1 : 0;
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_MUTE, () -> config.isMuteState () ? PushColors.PUSH_BUTTON_STATE_MUTE_HI : PushColors.PUSH_BUTTON_STATE_MUTE_ON, muteState);
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_SOLO, () -> !config.isMuteState () ? PushColors.PUSH_BUTTON_STATE_SOLO_HI : PushColors.PUSH_BUTTON_STATE_SOLO_ON, muteState);
+        }
+
+        this.bindButton (surface, PushControlSurface.PUSH_BUTTON_NOTE, () -> Views.isSessionView (viewManager.getActiveViewId ()) ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_HI, view);
+        if (this.host.hasClips ())
+        {
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_CLIP_STOP, () -> surface.isPressed (PushControlSurface.PUSH_BUTTON_CLIP_STOP) ? PushColors.PUSH_BUTTON_STATE_STOP_HI : PushColors.PUSH_BUTTON_STATE_STOP_ON, () -> surface.isPressed (PushControlSurface.PUSH_BUTTON_CLIP_STOP) ? 1 : 0);
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_SESSION, () -> Views.isSessionView (viewManager.getActiveViewId ()) ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON, view);
+        }
+        else
+        {
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_CLIP_STOP, () -> ColorManager.BUTTON_STATE_OFF);
+            this.bindButton (surface, PushControlSurface.PUSH_BUTTON_SESSION, () -> ColorManager.BUTTON_STATE_OFF);
+        }
+    }
+
+
+    private boolean isRecordShifted ()
+    {
+        final boolean isShift = this.getSurface ().isShiftPressed ();
+        final boolean isFlipRecord = this.configuration.isFlipRecord ();
+        return isShift && !isFlipRecord || !isShift && isFlipRecord;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void startup ()
@@ -510,28 +596,14 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
         surface.sendPressureMode (true);
         surface.getOutput ().sendIdentityRequest ();
+        surface.getVuMeters ().start ();
     }
 
 
     private void updateButtons ()
     {
-        final ITransport t = this.model.getTransport ();
+        // Set the button states which are not covered by the button bindings
         final PushControlSurface surface = this.getSurface ();
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_METRONOME, t.isMetronomeOn () ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON);
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_PLAY, t.isPlaying () ? PushColors.PUSH_BUTTON_STATE_PLAY_HI : PushColors.PUSH_BUTTON_STATE_PLAY_ON);
-
-        final boolean isShift = surface.isShiftPressed ();
-        final boolean isFlipRecord = this.configuration.isFlipRecord ();
-        final boolean isRecordShifted = isShift && !isFlipRecord || !isShift && isFlipRecord;
-        if (isRecordShifted)
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_AUTOMATION, t.isWritingClipLauncherAutomation () ? PushColors.PUSH_BUTTON_STATE_REC_HI : PushColors.PUSH_BUTTON_STATE_REC_ON);
-        else
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_AUTOMATION, t.isWritingArrangerAutomation () ? PushColors.PUSH_BUTTON_STATE_REC_HI : PushColors.PUSH_BUTTON_STATE_REC_ON);
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_RECORD, isRecordShifted ? t.isLauncherOverdub () ? PushColors.PUSH_BUTTON_STATE_OVR_HI : PushColors.PUSH_BUTTON_STATE_OVR_ON : t.isRecording () ? PushColors.PUSH_BUTTON_STATE_REC_HI : PushColors.PUSH_BUTTON_STATE_REC_ON);
-
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_ACCENT, this.configuration.isAccentActive () ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON);
-
-        final PushConfiguration config = surface.getConfiguration ();
         if (this.isPush2)
         {
             final ModeManager modeManager = surface.getModeManager ();
@@ -551,30 +623,8 @@ public class PushControllerSetup extends AbstractControllerSetup<PushControlSurf
 
             surface.updateButton (PushControlSurface.PUSH_BUTTON_CONVERT, this.model.canConvertClip () ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_OFF);
         }
-        else
-        {
-            final boolean isMuteState = config.isMuteState ();
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_MUTE, isMuteState ? PushColors.PUSH_BUTTON_STATE_MUTE_HI : PushColors.PUSH_BUTTON_STATE_MUTE_ON);
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_SOLO, !isMuteState ? PushColors.PUSH_BUTTON_STATE_SOLO_HI : PushColors.PUSH_BUTTON_STATE_SOLO_ON);
-        }
 
-        final ViewManager viewManager = surface.getViewManager ();
-        final boolean isSessionView = Views.isSessionView (viewManager.getActiveViewId ());
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_NOTE, isSessionView ? ColorManager.BUTTON_STATE_ON : ColorManager.BUTTON_STATE_HI);
-        if (this.host.hasClips ())
-        {
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_CLIP_STOP, surface.isPressed (PushControlSurface.PUSH_BUTTON_CLIP_STOP) ? PushColors.PUSH_BUTTON_STATE_STOP_HI : PushColors.PUSH_BUTTON_STATE_STOP_ON);
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_SESSION, isSessionView ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON);
-        }
-        else
-        {
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_CLIP_STOP, ColorManager.BUTTON_STATE_OFF);
-            surface.updateButton (PushControlSurface.PUSH_BUTTON_SESSION, ColorManager.BUTTON_STATE_OFF);
-        }
-
-        surface.updateButton (PushControlSurface.PUSH_BUTTON_ACCENT, config.isAccentActive () ? ColorManager.BUTTON_STATE_HI : ColorManager.BUTTON_STATE_ON);
-
-        final View activeView = viewManager.getActiveView ();
+        final View activeView = surface.getViewManager ().getActiveView ();
         if (activeView != null)
         {
             ((PushCursorCommand) activeView.getTriggerCommand (Commands.COMMAND_ARROW_DOWN)).updateArrows ();
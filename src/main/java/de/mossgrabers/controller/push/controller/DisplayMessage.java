@@ -6,8 +6,7 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 
 /**
@@ -38,9 +37,18 @@ public class DisplayMessage
 
     /** The grid command. */
     public static final int DISPLAY_COMMAND_GRID            = 10;
+    /**
+     * The grid update command. Contains only the changed grid elements, each prefixed by the index
+     * of its column.
+     */
+    public static final int DISPLAY_COMMAND_GRID_UPDATE     = 11;
 
     private int             command;
-    private List<Integer>   array;
+    private byte []         array                           = new byte [512];
+    private int             size;
+    private int []          elementStarts                   = new int [8];
+    private int             elementCount;
+    private byte []         data                            = new byte [0];
 
 
     /**
@@ -60,28 +68,140 @@ public class DisplayMessage
     public DisplayMessage (final int command)
     {
         this.command = command;
-        this.array = new ArrayList<> ();
     }
 
 
     /**
-     * Get the message as a byte array.
+     * Removes all elements from the message to re-use it.
+     */
+    public void clear ()
+    {
+        this.size = 0;
+        this.elementCount = 0;
+    }
+
+
+    /**
+     * Get the message as a byte array. The array is re-used by the next call of getData or
+     * getUpdateData.
      *
      * @return The data of the message
      */
     public byte [] getData ()
     {
-        final int size = this.array.size ();
-        final byte [] data = new byte [3 + size];
+        final byte [] data = this.getDataBuffer (3 + this.size);
         data[0] = -16; // -16 = 0xF0
         data[1] = (byte) this.command;
-        for (int i = 0; i < size; i++)
-            data[2 + i] = this.array.get (i).byteValue ();
-        data[size + 2] = -9; // -9 = 0xF7
+        System.arraycopy (this.array, 0, data, 2, this.size);
+        data[this.size + 2] = -9; // -9 = 0xF7
+        return data;
+    }
+
+
+    /**
+     * Get an update message, which contains only the given grid elements of this message. Each
+     * element is prefixed by its index. The array is re-used by the next call of getData or
+     * getUpdateData.
+     *
+     * @param changed The elements to add, must not be longer than the number of elements
+     * @return The data of the update message
+     */
+    public byte [] getUpdateData (final boolean [] changed)
+    {
+        int length = 3;
+        for (int i = 0; i < changed.length; i++)
+        {
+            if (changed[i])
+                length += 1 + this.getElementLength (i);
+        }
+
+        final byte [] data = this.getDataBuffer (length);
+        data[0] = -16; // -16 = 0xF0
+        data[1] = (byte) DISPLAY_COMMAND_GRID_UPDATE;
+        int pos = 2;
+        for (int i = 0; i < changed.length; i++)
+        {
+            if (!changed[i])
+                continue;
+            data[pos++] = (byte) i;
+            final int elementLength = this.getElementLength (i);
+            System.arraycopy (this.array, this.elementStarts[i], data, pos, elementLength);
+            pos += elementLength;
+        }
+        data[pos] = -9; // -9 = 0xF7
         return data;
     }
 
 
+    /**
+     * Get the command of the message.
+     *
+     * @return The command
+     */
+    public int getCommand ()
+    {
+        return this.command;
+    }
+
+
+    /**
+     * Get the number of added grid elements.
+     *
+     * @return The number of elements
+     */
+    public int getElementCount ()
+    {
+        return this.elementCount;
+    }
+
+
+    /**
+     * Get the number of bytes of a grid element.
+     *
+     * @param index The index of the element
+     * @return The number of bytes
+     */
+    public int getElementLength (final int index)
+    {
+        final int end = index + 1 < this.elementCount ? this.elementStarts[index + 1] : this.size;
+        return end - this.elementStarts[index];
+    }
+
+
+    /**
+     * Test if the bytes of a grid element are equal to the given bytes.
+     *
+     * @param index The index of the element
+     * @param data The bytes to compare with
+     * @param length The number of bytes to compare
+     * @return True if equal
+     */
+    public boolean isElementEqual (final int index, final byte [] data, final int length)
+    {
+        if (this.getElementLength (index) != length)
+            return false;
+        final int start = this.elementStarts[index];
+        for (int i = 0; i < length; i++)
+        {
+            if (this.array[start + i] != data[i])
+                return false;
+        }
+        return true;
+    }
+
+
+    /**
+     * Copies the bytes of a grid element into the given array.
+     *
+     * @param index The index of the element
+     * @param data The array to copy to, must be large enough to hold the element
+     */
+    public void copyElement (final int index, final byte [] data)
+    {
+        System.arraycopy (this.array, this.elementStarts[index], data, 0, this.getElementLength (index));
+    }
+
+
     /**
      * Set a message on the display.
      *
@@ -118,6 +238,7 @@ public class DisplayMessage
      */
     public void addChannelSelectorElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn)
     {
+        this.startElement ();
         this.addByte (DisplayMessage.GRID_ELEMENT_CHANNEL_SELECTION);
 
         // Top Menu
@@ -183,6 +304,7 @@ public class DisplayMessage
      */
     public void addChannelElement (final int channelType, final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final int volume, final int modulatedVolume, final String volumeStr, final int pan, final int modulatedPan, final String panStr, final int vu, final boolean mute, final boolean solo, final boolean recarm, final int crossfadeMode)
     {
+        this.startElement ();
         this.addByte (channelType);
 
         // Top Menu
@@ -228,6 +350,7 @@ public class DisplayMessage
      */
     public void addSendsElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final String [] sendName, final String [] valueStr, final int [] value, final int [] modulatedValue, final boolean [] selected, final boolean isTrackMode)
     {
+        this.startElement ();
         this.addByte (DisplayMessage.GRID_ELEMENT_CHANNEL_SENDS);
 
         // Top Menu
@@ -285,6 +408,7 @@ public class DisplayMessage
      */
     public void addParameterElement (final String topMenu, final boolean isTopMenuOn, final String bottomMenu, final ChannelType type, final double [] bottomMenuColor, final boolean isBottomMenuOn, final String parameterName, final int parameterValue, final String parameterValueStr, final boolean parameterIsActive, final int parameterModulatedValue)
     {
+        this.startElement ();
         this.addByte (DisplayMessage.GRID_ELEMENT_PARAMETERS);
 
         // Top Menu
@@ -341,6 +465,7 @@ public class DisplayMessage
      */
     public void addOptionElement (final String headerTopName, final String menuTopName, final boolean isMenuTopSelected, final String headerBottomName, final String menuBottomName, final boolean isMenuBottomSelected, final boolean useSmallTopMenu)
     {
+        this.startElement ();
         this.addByte (DisplayMessage.GRID_ELEMENT_OPTIONS);
         this.addString (headerTopName);
         this.addString (menuTopName);
@@ -363,6 +488,7 @@ public class DisplayMessage
         if (items.length != selected.length || items.length != 6)
             throw new IllegalArgumentException ("List array must contain 6 elements but contain " + items.length);
 
+        this.startElement ();
         this.addByte (DisplayMessage.GRID_ELEMENT_LIST);
         for (int i = 0; i < 6; i++)
         {
@@ -385,16 +511,16 @@ public class DisplayMessage
             {
                 final char character = text.charAt (i);
                 if (character < 128)
-                    this.array.add (Integer.valueOf (character));
+                    this.addByte (character);
                 else
                 {
                     // Split up non-ASII characters into 3 bytes
-                    this.array.add (Integer.valueOf (-1));
+                    this.addByte (-1);
                     this.addInteger (character);
                 }
             }
         }
-        this.array.add (Integer.valueOf (0));
+        this.addByte (0);
     }
 
 
@@ -405,8 +531,8 @@ public class DisplayMessage
      */
     private void addInteger (final int value)
     {
-        this.array.add (Integer.valueOf (value & 0x7F));
-        this.array.add (Integer.valueOf (value >> 7 & 0x7F));
+        this.addByte (value & 0x7F);
+        this.addByte (value >> 7 & 0x7F);
     }
 
 
@@ -417,7 +543,7 @@ public class DisplayMessage
      */
     private void addBoolean (final boolean value)
     {
-        this.array.add (Integer.valueOf (value ? 1 : 0));
+        this.addByte (value ? 1 : 0);
     }
 
 
@@ -436,12 +562,8 @@ public class DisplayMessage
         }
         else
         {
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
-            this.array.add (Integer.valueOf (0));
+            for (int i = 0; i < 6; i++)
+                this.addByte (0);
         }
     }
 
@@ -453,6 +575,34 @@ public class DisplayMessage
      */
     private void addByte (final int value)
     {
-        this.array.add (Integer.valueOf (value));
+        if (this.size == this.array.length)
+            this.array = Arrays.copyOf (this.array, 2 * this.size);
+        this.array[this.size++] = (byte) value;
+    }
+
+
+    /**
+     * Get the buffer for the data to send. Since the data is sent as a whole array, a new buffer is
+     * only created if the length of the data changed.
+     *
+     * @param length The length of the data
+     * @return The buffer
+     */
+    private byte [] getDataBuffer (final int length)
+    {
+        if (this.data.length != length)
+            this.data = new byte [length];
+        return this.data;
+    }
+
+
+    /**
+     * Marks the start of a new grid element.
+     */
+    private void startElement ()
+    {
+        if (this.elementCount == this.elementStarts.length)
+            this.elementStarts = Arrays.copyOf (this.elementStarts, 2 * this.elementCount);
+        this.elementStarts[this.elementCount++] = this.size;
     }
 }
\ No newline at end of file
@@ -6,12 +6,13 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.controller.push.PushConfiguration;
 import de.mossgrabers.framework.controller.AbstractControlSurface;
+import de.mossgrabers.framework.controller.VuMeterEngine;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGridImpl;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiInput;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 import java.util.Arrays;
 
@@ -380,74 +381,74 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     }
 
     /** The midi note which is sent when touching the ribbon. */
-    public static final int        PUSH_RIBBON_TOUCH             = 12;
+    public static final int         PUSH_RIBBON_TOUCH             = 12;
 
     /** Configure Ribbon as pitchbend. */
-    public static final int        PUSH_RIBBON_PITCHBEND         = 0;
+    public static final int         PUSH_RIBBON_PITCHBEND         = 0;
     /** Configure Ribbon as volume slider. */
-    public static final int        PUSH_RIBBON_VOLUME            = 1;
+    public static final int         PUSH_RIBBON_VOLUME            = 1;
     /** Configure Ribbon as panorama. */
-    public static final int        PUSH_RIBBON_PAN               = 2;
+    public static final int         PUSH_RIBBON_PAN               = 2;
     /** Configure Ribbon discrete values. */
-    public static final int        PUSH_RIBBON_DISCRETE          = 3;
+    public static final int         PUSH_RIBBON_DISCRETE          = 3;
 
-    private static final String [] PUSH_PAD_CURVES_DATA          =
+    private static final byte [] [] PUSH_PAD_CURVES_DATA          =
     {
-        "00 00 00 01 08 06 0A 00 00 00 00 00 0A 0F 0C 08 00 00 00 00 00 00 00 00",
-        "00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0E 0A 06 00",
-        "00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 01 08 06 0A 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 01 0F 0B 0D 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00",
-        "00 00 00 02 02 02 0E 00 00 00 00 01 0D 04 0C 00 00 00 00 00 00 00 00 00"
+        SysExBuilder.toBytes ("00 00 00 01 08 06 0A 00 00 00 00 00 0A 0F 0C 08 00 00 00 00 00 00 00 00"),
+        SysExBuilder.toBytes ("00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0E 0A 06 00"),
+        SysExBuilder.toBytes ("00 00 00 01 04 0C 00 08 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.toBytes ("00 00 00 01 08 06 0A 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.toBytes ("00 00 00 01 0F 0B 0D 00 00 00 00 01 0D 04 0C 00 00 00 00 00 0C 03 05 00"),
+        SysExBuilder.toBytes ("00 00 00 02 02 02 0E 00 00 00 00 01 0D 04 0C 00 00 00 00 00 00 00 00 00")
     };
 
-    private static final String [] PUSH_PAD_THRESHOLDS_DATA      =
+    private static final byte [] [] PUSH_PAD_THRESHOLDS_DATA      =
     {
         // 4 Byte: peak_sampling_time, 4 Byte: aftertouch_gate_time
-        "00 00 00 0A 00 00 00 0A",
-        "00 00 01 03 00 00 01 04",
-        "00 00 01 0C 00 00 01 0E",
-        "00 00 02 05 00 00 02 08",
-        "00 00 02 0E 00 00 03 02",
-        "00 00 03 07 00 00 03 0C",
-        "00 00 04 00 00 00 04 06",
-        "00 00 04 09 00 00 05 00",
-        "00 00 05 02 00 00 05 0A",
-        "00 00 05 0B 00 00 06 04",
-        "00 00 06 04 00 00 06 0E",
-        "00 00 06 0D 00 00 07 08",
-        "00 00 07 06 00 00 08 02",
-        "00 00 07 0F 00 00 08 0C",
-        "00 00 08 08 00 00 09 06",
-        "00 00 09 01 00 00 0A 00",
-        "00 00 09 0A 00 00 0A 0A",
-        "00 00 0A 03 00 00 0B 04",
-        "00 00 0A 0C 00 00 0B 0E",
-        "00 00 0B 05 00 00 0C 08",
-        "00 00 0B 0E 00 00 0D 02",
-        "00 00 0C 07 00 00 0D 0C",
-        "00 00 0D 00 00 00 0E 06",
-        "00 00 0D 08 00 00 0E 0F",
-        "00 00 0E 02 00 00 0F 0A",
-        "00 00 0E 0B 00 01 00 04",
-        "00 00 0F 04 00 01 00 0E",
-        "00 00 0F 0D 00 01 01 08",
-        "00 01 00 06 00 01 02 02",
-        "00 01 00 0F 00 01 02 0C",
-        "00 01 01 08 00 01 03 06",
-        "00 01 02 01 00 01 04 00",
-        "00 01 02 0A 00 01 04 0A",
-        "00 01 03 03 00 01 05 04",
-        "00 01 03 0C 00 01 05 0E",
-        "00 01 04 05 00 01 06 08",
-        "00 01 04 0E 00 01 07 02",
-        "00 01 05 07 00 01 07 0C",
-        "00 01 06 00 00 01 08 06",
-        "00 01 06 09 00 01 09 00",
-        "00 01 07 02 00 01 09 0A"
+        SysExBuilder.toBytes ("00 00 00 0A 00 00 00 0A"),
+        SysExBuilder.toBytes ("00 00 01 03 00 00 01 04"),
+        SysExBuilder.toBytes ("00 00 01 0C 00 00 01 0E"),
+        SysExBuilder.toBytes ("00 00 02 05 00 00 02 08"),
+        SysExBuilder.toBytes ("00 00 02 0E 00 00 03 02"),
+        SysExBuilder.toBytes ("00 00 03 07 00 00 03 0C"),
+        SysExBuilder.toBytes ("00 00 04 00 00 00 04 06"),
+        SysExBuilder.toBytes ("00 00 04 09 00 00 05 00"),
+        SysExBuilder.toBytes ("00 00 05 02 00 00 05 0A"),
+        SysExBuilder.toBytes ("00 00 05 0B 00 00 06 04"),
+        SysExBuilder.toBytes ("00 00 06 04 00 00 06 0E"),
+        SysExBuilder.toBytes ("00 00 06 0D 00 00 07 08"),
+        SysExBuilder.toBytes ("00 00 07 06 00 00 08 02"),
+        SysExBuilder.toBytes ("00 00 07 0F 00 00 08 0C"),
+        SysExBuilder.toBytes ("00 00 08 08 00 00 09 06"),
+        SysExBuilder.toBytes ("00 00 09 01 00 00 0A 00"),
+        SysExBuilder.toBytes ("00 00 09 0A 00 00 0A 0A"),
+        SysExBuilder.toBytes ("00 00 0A 03 00 00 0B 04"),
+        SysExBuilder.toBytes ("00 00 0A 0C 00 00 0B 0E"),
+        SysExBuilder.toBytes ("00 00 0B 05 00 00 0C 08"),
+        SysExBuilder.toBytes ("00 00 0B 0E 00 00 0D 02"),
+        SysExBuilder.toBytes ("00 00 0C 07 00 00 0D 0C"),
+        SysExBuilder.toBytes ("00 00 0D 00 00 00 0E 06"),
+        SysExBuilder.toBytes ("00 00 0D 08 00 00 0E 0F"),
+        SysExBuilder.toBytes ("00 00 0E 02 00 00 0F 0A"),
+        SysExBuilder.toBytes ("00 00 0E 0B 00 01 00 04"),
+        SysExBuilder.toBytes ("00 00 0F 04 00 01 00 0E"),
+        SysExBuilder.toBytes ("00 00 0F 0D 00 01 01 08"),
+        SysExBuilder.toBytes ("00 01 00 06 00 01 02 02"),
+        SysExBuilder.toBytes ("00 01 00 0F 00 01 02 0C"),
+        SysExBuilder.toBytes ("00 01 01 08 00 01 03 06"),
+        SysExBuilder.toBytes ("00 01 02 01 00 01 04 00"),
+        SysExBuilder.toBytes ("00 01 02 0A 00 01 04 0A"),
+        SysExBuilder.toBytes ("00 01 03 03 00 01 05 04"),
+        SysExBuilder.toBytes ("00 01 03 0C 00 01 05 0E"),
+        SysExBuilder.toBytes ("00 01 04 05 00 01 06 08"),
+        SysExBuilder.toBytes ("00 01 04 0E 00 01 07 02"),
+        SysExBuilder.toBytes ("00 01 05 07 00 01 07 0C"),
+        SysExBuilder.toBytes ("00 01 06 00 00 01 08 06"),
+        SysExBuilder.toBytes ("00 01 06 09 00 01 09 00"),
+        SysExBuilder.toBytes ("00 01 07 02 00 01 09 0A")
     };
 
-    private static final int []    MAXW                          =
+    private static final int []     MAXW                          =
     {
         1700,
         1660,
@@ -461,7 +462,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         640,
         400
     };
-    private static final int []    PUSH2_CPMIN                   =
+    private static final int []     PUSH2_CPMIN                   =
     {
         1650,
         1580,
@@ -475,7 +476,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         800,
         700
     };
-    private static final int []    PUSH2_CPMAX                   =
+    private static final int []     PUSH2_CPMAX                   =
     {
         2050,
         1950,
@@ -489,7 +490,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         1240,
         1180
     };
-    private static final double [] GAMMA                         =
+    private static final double []  GAMMA                         =
     {
         0.7,
         0.64,
@@ -503,7 +504,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         0.32,
         0.25
     };
-    private static final int []    MINV                          =
+    private static final int []     MINV                          =
     {
         1,
         1,
@@ -517,7 +518,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         24,
         36
     };
-    private static final int []    MAXV                          =
+    private static final int []     MAXV                          =
     {
         96,
         102,
@@ -531,7 +532,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         127,
         127
     };
-    private static final int []    ALPHA                         =
+    private static final int []     ALPHA                         =
     {
         90,
         70,
@@ -546,17 +547,20 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         -90
     };
 
-    private static final int       PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
-    private static final int       NUM_VELOCITY_CURVE_ENTRIES    = 128;
+    private static final int        PAD_VELOCITY_CURVE_CHUNK_SIZE = 16;
+    private static final int        NUM_VELOCITY_CURVE_ENTRIES    = 128;
 
-    private int                    ribbonMode                    = -1;
-    private int                    ribbonValue                   = -1;
+    private int                     ribbonMode                    = -1;
+    private int                     ribbonValue                   = -1;
 
-    private int                    majorVersion                  = -1;
-    private int                    minorVersion                  = -1;
-    private int                    buildNumber                   = -1;
-    private int                    serialNumber                  = -1;
-    private int                    boardRevision                 = -1;
+    private int                     majorVersion                  = -1;
+    private int                     minorVersion                  = -1;
+    private int                     buildNumber                   = -1;
+    private int                     serialNumber                  = -1;
+    private int                     boardRevision                 = -1;
+    private final SysExBuilder      push1SysEx                    = new SysExBuilder (64, 0x47, 0x7F, 0x15);
+    private final SysExBuilder      push2SysEx                    = new SysExBuilder (32, 0x00, 0x21, 0x1D, 0x01, 0x01);
+    private VuMeterEngine           vuMeters;
 
 
     /**
@@ -618,6 +622,28 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     }
 
 
+    /**
+     * Set the engine which applies the ballistics to the VU meters of the tracks on the display.
+     *
+     * @param vuMeters The engine
+     */
+    public void setVuMeters (final VuMeterEngine vuMeters)
+    {
+        this.vuMeters = vuMeters;
+    }
+
+
+    /**
+     * Get the engine which applies the ballistics to the VU meters of the tracks on the display.
+     *
+     * @return The engine
+     */
+    public VuMeterEngine getVuMeters ()
+    {
+        return this.vuMeters;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void shutdown ()
@@ -634,6 +660,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
 
         this.pads.turnOff ();
         this.display.shutdown ();
+        this.vuMeters.stop ();
     }
 
 
@@ -673,14 +700,10 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
                 default:
                     break;
             }
-            this.sendPush2SysEx (new int []
-            {
-                23,
-                status
-            });
+            this.push2SysEx.start ().add (23, status).send (this.output);
         }
         else
-            this.output.sendSysex ("F0 47 7F 15 63 00 01 0" + mode + " F7");
+            this.push1SysEx.start ().add (0x63, 0x00, 0x01, mode).send (this.output);
     }
 
 
@@ -703,7 +726,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPadSensitivity ()
     {
-        this.output.sendSysex ("F0 47 7F 15 5D 00 20 " + PUSH_PAD_THRESHOLDS_DATA[this.configuration.getPadThreshold ()] + " " + PUSH_PAD_CURVES_DATA[this.configuration.getVelocityCurve ()] + " F7");
+        this.push1SysEx.start ().add (0x5D, 0x00, 0x20).add (PUSH_PAD_THRESHOLDS_DATA[this.configuration.getPadThreshold ()]).add (PUSH_PAD_CURVES_DATA[this.configuration.getVelocityCurve ()]).send (this.output);
     }
 
 
@@ -715,9 +738,9 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     public void sendPressureMode (final boolean isPolyPressure)
     {
         if (this.configuration.isPush2 ())
-            this.output.sendSysex ("F0 00 21 1D 01 01 1E 0" + (isPolyPressure ? "1" : "0") + " F7");
+            this.push2SysEx.start ().add (0x1E, isPolyPressure ? 1 : 0).send (this.output);
         else
-            this.output.sendSysex ("F0 47 7F 15 5C 00 01 0" + (isPolyPressure ? "0" : "1") + " F7");
+            this.push1SysEx.start ().add (0x5C, 0x00, 0x01, isPolyPressure ? 0 : 1).send (this.output);
     }
 
 
@@ -729,12 +752,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
         final int [] velocities = generateVelocityCurve (this.configuration.getPadSensitivity (), this.configuration.getPadGain (), this.configuration.getPadDynamics ());
         for (int index = 0; index < velocities.length; index += PAD_VELOCITY_CURVE_CHUNK_SIZE)
         {
-            final int [] args = new int [2 + PAD_VELOCITY_CURVE_CHUNK_SIZE];
-            args[0] = 32;
-            args[1] = index;
-            for (int i = 0; i < PAD_VELOCITY_CURVE_CHUNK_SIZE; i++)
-                args[i + 2] = velocities[index + i];
-            this.sendPush2SysEx (args);
+            this.push2SysEx.start ().add (32, index).add (velocities, index, PAD_VELOCITY_CURVE_CHUNK_SIZE).send (this.output);
         }
     }
 
@@ -843,21 +861,13 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPadThreshold ()
     {
-        final int [] args = new int [9];
-        args[0] = 27;
-        add7L5M (args, 1, 33); // threshold0
-        add7L5M (args, 3, 31); // threshold1
         final int padSensitivity = this.configuration.getPadSensitivity ();
-        add7L5M (args, 5, PUSH2_CPMIN[padSensitivity]); // cpmin
-        add7L5M (args, 7, PUSH2_CPMAX[padSensitivity]); // cpmax
-        this.sendPush2SysEx (args);
-    }
-
-
-    private static void add7L5M (final int [] array, final int index, final int value)
-    {
-        array[index] = value & 127;
-        array[index + 1] = value >> 7 & 31;
+        this.push2SysEx.start ().add (27);
+        this.push2SysEx.add7L5M (33); // threshold0
+        this.push2SysEx.add7L5M (31); // threshold1
+        this.push2SysEx.add7L5M (PUSH2_CPMIN[padSensitivity]); // cpmin
+        this.push2SysEx.add7L5M (PUSH2_CPMAX[padSensitivity]); // cpmax
+        this.push2SysEx.send (this.output);
     }
 
 
@@ -867,12 +877,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     public void sendDisplayBrightness ()
     {
         final int brightness = this.configuration.getDisplayBrightness () * 255 / 100;
-        this.sendPush2SysEx (new int []
-        {
-            8,
-            brightness & 127,
-            brightness >> 7 & 1
-        });
+        this.push2SysEx.start ().add (8, brightness & 127, brightness >> 7 & 1).send (this.output);
     }
 
 
@@ -882,11 +887,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
     public void sendLEDBrightness ()
     {
         final int brightness = this.configuration.getLedBrightness () * 127 / 100;
-        this.sendPush2SysEx (new int []
-        {
-            6,
-            brightness
-        });
+        this.push2SysEx.start ().add (6, brightness).send (this.output);
     }
 
 
@@ -897,11 +898,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendAftertouchMode (final int mode)
     {
-        this.sendPush2SysEx (new int []
-        {
-            30,
-            mode
-        });
+        this.push2SysEx.start ().add (30, mode).send (this.output);
     }
 
 
@@ -912,7 +909,7 @@ public class PushControlSurface extends AbstractControlSurface<PushConfiguration
      */
     public void sendPush2SysEx (final int [] parameters)
     {
-        this.output.sendSysex ("F0 00 21 1D 01 01 " + StringUtils.toHexStr (parameters) + "F7");
+        this.push2SysEx.start ().add (parameters).send (this.output);
     }
 
 
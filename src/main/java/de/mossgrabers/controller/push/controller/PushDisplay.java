@@ -6,8 +6,10 @@ package de.mossgrabers.controller.push.controller;
 
 import de.mossgrabers.framework.controller.display.AbstractDisplay;
 import de.mossgrabers.framework.controller.display.Format;
+import de.mossgrabers.framework.controller.display.RenderScheduler;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -18,19 +20,19 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 public class PushDisplay extends AbstractDisplay
 {
     /** Push character codes for value bars - a dash. */
-    public static final String     BARS_NON      = Character.toString ((char) 6);
+    public static final String     BARS_NON             = Character.toString ((char) 6);
     /** Push character codes for value bars - one bar. */
-    public static final String     BARS_ONE      = Character.toString ((char) 3);
+    public static final String     BARS_ONE             = Character.toString ((char) 3);
     /** Push character codes for value bars - two bars. */
-    public static final String     BARS_TWO      = Character.toString ((char) 5);
+    public static final String     BARS_TWO             = Character.toString ((char) 5);
     /** Push character codes for value bars - one bar to the left. */
-    private static final String    BARS_ONE_L    = Character.toString ((char) 4);
+    private static final String    BARS_ONE_L           = Character.toString ((char) 4);
     /** Push character codes for value bars - four dashes. */
-    private static final String    NON_4         = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
+    private static final String    NON_4                = BARS_NON + BARS_NON + BARS_NON + BARS_NON;
     /** Push character codes for value bars - the right arrow. */
-    public static final String     RIGHT_ARROW   = Character.toString ((char) 127);
+    public static final String     RIGHT_ARROW          = Character.toString ((char) 127);
 
-    private static final String [] SPACES        =
+    private static final String [] SPACES               =
     {
         "",
         " ",
@@ -48,7 +50,7 @@ public class PushDisplay extends AbstractDisplay
         "             "
     };
 
-    private static final String [] DASHES        =
+    private static final String [] DASHES               =
     {
         "",
         BARS_NON,
@@ -62,18 +64,28 @@ public class PushDisplay extends AbstractDisplay
         BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON + BARS_NON
     };
 
-    private static final String [] SYSEX_MESSAGE =
-    {
-        "F0 47 7F 15 18 00 45 00 ",
-        "F0 47 7F 15 19 00 45 00 ",
-        "F0 47 7F 15 1A 00 45 00 ",
-        "F0 47 7F 15 1B 00 45 00 "
-    };
+    // Send the whole grid at least once per second in case the display process was restarted
+    private static final long      FULL_UPDATE_INTERVAL = 1000;
+    private static final int       MAX_FRAME_RATE       = 30;
 
     private int                    maxParameterValue;
     private int                    port;
     private boolean                isPush2;
 
+    private final byte [] []       sentElements         = new byte [8] [];
+    private final int []           sentElementLengths   = new int [8];
+    private final boolean []       changedElements      = new boolean [8];
+    private boolean                hasSentElements;
+    private boolean                isPartialUpdates;
+    private long                   lastFullUpdate;
+    private long                   sentBytes;
+    private DisplayMessage         reusableMessage;
+    private DisplayMessage         pendingMessage;
+    private final RenderScheduler  messageScheduler;
+    private final char []          lineBuffer           = new char [68];
+    // F0 47 7F 15 <18 + row> 00 <number of characters + 1> <offset> <characters> F7
+    private final SysExBuilder     sysex                = new SysExBuilder (4 + 68, 0x47, 0x7F, 0x15);
+
 
     /**
      * Constructor. 4 rows (0-3) with 4 blocks (0-3). Each block consists of 17 characters or 2
@@ -89,6 +101,11 @@ public class PushDisplay extends AbstractDisplay
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 68 /* No of characters */);
         this.maxParameterValue = maxParameterValue;
         this.isPush2 = isPush2;
+
+        this.setCellWidths (new int [] { 9, 8, 9, 8, 9, 8, 9, 8 });
+        this.setMaxFrameRate (MAX_FRAME_RATE);
+        this.messageScheduler = new RenderScheduler (host, this::sendPendingMessage);
+        this.messageScheduler.setMaxFrameRate (MAX_FRAME_RATE);
     }
 
 
@@ -103,6 +120,18 @@ public class PushDisplay extends AbstractDisplay
     }
 
 
+    /**
+     * Enable sending only the changed grid elements. Requires a display process which supports the
+     * grid update command, otherwise the complete grid is sent if an element has changed.
+     *
+     * @param isPartialUpdates True to enable partial updates
+     */
+    public void setPartialUpdates (final boolean isPartialUpdates)
+    {
+        this.isPartialUpdates = isPartialUpdates;
+    }
+
+
     /**
      * Create a message.
      *
@@ -110,20 +139,125 @@ public class PushDisplay extends AbstractDisplay
      */
     public DisplayMessage createMessage ()
     {
-        return new DisplayMessage ();
+        // Re-use the last sent message
+        final DisplayMessage message = this.reusableMessage;
+        if (message == null)
+            return new DisplayMessage ();
+        this.reusableMessage = null;
+        message.clear ();
+        return message;
     }
 
 
     /**
-     * Send a message to the display.
+     * Send a message to the display. The message is sent with the next frame, if there is already
+     * a newer message when the frame is due, the older one is dropped. If the message contains the
+     * same grid elements as the previously sent one, it is not sent again. If partial updates are
+     * enabled, only the changed elements are sent.
      *
      * @param message The message to send
      */
     public void send (final DisplayMessage message)
+    {
+        this.send (message, false);
+    }
+
+
+    /**
+     * Get the scheduler which limits the frame rate of the messages sent to the Push 2 display.
+     *
+     * @return The scheduler
+     */
+    public RenderScheduler getMessageScheduler ()
+    {
+        return this.messageScheduler;
+    }
+
+
+    private void send (final DisplayMessage message, final boolean immediately)
     {
         if (this.port < 1)
             return;
-        this.host.sendDatagramPacket ("127.0.0.1", this.port, message.getData ());
+
+        if (this.pendingMessage != null && this.pendingMessage != message)
+            this.reusableMessage = this.pendingMessage;
+        this.pendingMessage = message;
+
+        if (immediately)
+            this.messageScheduler.renderNow ();
+        else
+            this.messageScheduler.requestRender ();
+    }
+
+
+    private void sendPendingMessage ()
+    {
+        final DisplayMessage message = this.pendingMessage;
+        if (message == null)
+            return;
+        this.pendingMessage = null;
+
+        final byte [] data = this.createData (message);
+        if (data != null)
+        {
+            this.host.sendDatagramPacket ("127.0.0.1", this.port, data);
+            this.sentBytes += data.length;
+        }
+        this.reusableMessage = message;
+    }
+
+
+    /**
+     * Get the number of bytes, which have been sent to the display process.
+     *
+     * @return The number of bytes
+     */
+    public long getSentBytes ()
+    {
+        return this.sentBytes;
+    }
+
+
+    /**
+     * Creates the data to send for a message. Compares the grid elements with the ones sent
+     * before.
+     *
+     * @param message The message
+     * @return The data to send, null if nothing has changed
+     */
+    private byte [] createData (final DisplayMessage message)
+    {
+        final int count = this.sentElements.length;
+        if (message.getCommand () != DisplayMessage.DISPLAY_COMMAND_GRID || message.getElementCount () != count)
+        {
+            this.hasSentElements = false;
+            return message.getData ();
+        }
+
+        int changes = 0;
+        for (int i = 0; i < count; i++)
+        {
+            final boolean isChanged = !this.hasSentElements || !message.isElementEqual (i, this.sentElements[i], this.sentElementLengths[i]);
+            this.changedElements[i] = isChanged;
+            if (!isChanged)
+                continue;
+            changes++;
+
+            final int length = message.getElementLength (i);
+            if (this.sentElements[i] == null || this.sentElements[i].length < length)
+                this.sentElements[i] = new byte [Math.max (64, 2 * length)];
+            message.copyElement (i, this.sentElements[i]);
+            this.sentElementLengths[i] = length;
+        }
+        this.hasSentElements = true;
+
+        final long now = System.currentTimeMillis ();
+        if (changes == count || changes > 0 && !this.isPartialUpdates || now - this.lastFullUpdate > FULL_UPDATE_INTERVAL)
+        {
+            this.lastFullUpdate = now;
+            return message.getData ();
+        }
+        return changes == 0 ? null : message.getUpdateData (this.changedElements);
     }
 
 
@@ -132,9 +266,12 @@ public class PushDisplay extends AbstractDisplay
     public void shutdown ()
     {
         if (this.isPush2)
-            this.send (this.createMessage ().setMessage (3, "Please start " + this.host.getName () + " to play..."));
+            this.send (this.createMessage ().setMessage (3, "Please start " + this.host.getName () + " to play..."), true);
         else
-            this.clear ().setBlock (1, 1, "     Please start").setBlock (1, 2, this.host.getName () + " to play...").allDone ().flush ();
+        {
+            this.clear ().setBlock (1, 1, "     Please start").setBlock (1, 2, this.host.getName () + " to play...").allDone ();
+            this.renderScheduler.renderNow ();
+        }
     }
 
 
@@ -142,7 +279,7 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * 8 + cell] = cell % 2 == 0 ? "         " : "        ";
+        this.writeCells (row, cell, 1, null, 0);
         return this;
     }
 
@@ -151,17 +288,7 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8, " ");
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = pad (value, 9, " ");
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCells (row, 2 * block, 2, value, 17);
         return this;
     }
 
@@ -178,7 +305,7 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public PushDisplay setCell (final int row, final int cell, final String value)
     {
-        this.cells[row * 8 + cell] = pad (value, 8, " ") + (cell % 2 == 0 ? " " : "");
+        this.writeCells (row, cell, 1, value, 8);
         return this;
     }
 
@@ -187,10 +314,22 @@ public class PushDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int [] array = new int [text.length ()];
-        for (int i = 0; i < text.length (); i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (PushDisplay.SYSEX_MESSAGE[row] + toHexStr (array) + "F7");
+        final int length = Math.min (text.length (), this.lineBuffer.length);
+        text.getChars (0, length, this.lineBuffer, 0);
+        this.writeLine (row, this.lineBuffer, length, 0, length);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeLine (final int row, final char [] line, final int length, final int start, final int end)
+    {
+        // Only the changed characters are sent
+        final int count = Math.min (end, this.lineBuffer.length) - start;
+        if (count <= 0)
+            return;
+
+        this.sysex.start ().add (0x18 + row).add (0).add (count + 1).add (start).addASCII (line, start, count).send (this.output);
     }
 
 
@@ -199,7 +338,7 @@ public class PushDisplay extends AbstractDisplay
     protected void notifyOnDisplay (final String message)
     {
         if (this.isPush2)
-            this.send (this.createMessage ().setMessage (3, message));
+            this.send (this.createMessage ().setMessage (3, message), true);
         else
             super.notifyOnDisplay (message);
     }
@@ -267,18 +406,4 @@ public class PushDisplay extends AbstractDisplay
             return text + (" ".equals (character) ? PushDisplay.SPACES[diff] : PushDisplay.DASHES[diff]);
         return text;
     }
-
-
-    private static String toHexStr (final int [] data)
-    {
-        final StringBuilder sysex = new StringBuilder ();
-        for (final int d: data)
-        {
-            final String v = Integer.toHexString (d).toUpperCase ();
-            if (v.length () < 2)
-                sysex.append ('0');
-            sysex.append (v).append (' ');
-        }
-        return sysex.toString ();
-    }
 }
\ No newline at end of file
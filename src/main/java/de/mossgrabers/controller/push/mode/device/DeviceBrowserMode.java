@@ -11,6 +11,7 @@ import de.mossgrabers.controller.push.mode.BaseMode;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IBrowser;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.IBrowserColumn;
 import de.mossgrabers.framework.daw.data.IBrowserColumnItem;
 import de.mossgrabers.framework.mode.AbstractMode;
@@ -44,6 +45,7 @@ public class DeviceBrowserMode extends BaseMode
         super (surface, model);
 
         this.isTemporary = false;
+        this.observedData.add (ObservedData.BROWSER);
 
         this.selectionMode = SELECTION_OFF;
         this.filterColumn = -1;
@@ -17,6 +17,7 @@ import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.daw.data.IParameter;
 import de.mossgrabers.framework.mode.ModeManager;
@@ -58,6 +59,8 @@ public class DeviceParamsMode extends BaseMode
         super (surface, model);
 
         this.isTemporary = false;
+        this.observedData.add (ObservedData.DEVICE_PARAMETERS);
+        this.observedData.add (ObservedData.DEVICE_LAYERS);
         this.showDevices = true;
     }
 
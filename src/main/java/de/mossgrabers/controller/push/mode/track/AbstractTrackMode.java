@@ -13,6 +13,7 @@ import de.mossgrabers.controller.push.mode.BaseMode;
 import de.mossgrabers.controller.push.mode.Modes;
 import de.mossgrabers.framework.command.Commands;
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.VuMeterEngine;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
@@ -343,6 +344,7 @@ public abstract class AbstractTrackMode extends BaseMode
         final IChannelBank tb = this.model.getCurrentTrackBank ();
         final PushConfiguration config = this.surface.getConfiguration ();
         final boolean displayCrossfader = config.isDisplayCrossfader ();
+        final VuMeterEngine vuMeters = this.surface.getVuMeters ();
         for (int i = 0; i < 8; i++)
         {
             final ITrack t = tb.getTrack (i);
@@ -350,7 +352,7 @@ public abstract class AbstractTrackMode extends BaseMode
             final String topMenu = pair.getKey ();
             final boolean isTopMenuOn = pair.getValue ().booleanValue ();
             final int crossfadeMode = displayCrossfader ? t.getCrossfadeModeAsNumber () : -1;
-            message.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", t.getType (), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched[i] ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched[i] ? t.getPanStr () : "", valueChanger.toDisplayValue (config.isEnableVUMeters () ? t.getVu () : 0), t.isMute (), t.isSolo (), t.isRecArm (), crossfadeMode);
+            message.addChannelElement (selectedMenu, topMenu, isTopMenuOn, t.doesExist () ? t.getName (12) : "", t.getType (), t.getColor (), t.isSelected (), valueChanger.toDisplayValue (t.getVolume ()), valueChanger.toDisplayValue (t.getModulatedVolume ()), isVolume && this.isKnobTouched[i] ? t.getVolumeStr (8) : "", valueChanger.toDisplayValue (t.getPan ()), valueChanger.toDisplayValue (t.getModulatedPan ()), isPan && this.isKnobTouched[i] ? t.getPanStr () : "", valueChanger.toDisplayValue (vuMeters.getLevel (i)), t.isMute (), t.isSolo (), t.isRecArm (), crossfadeMode);
         }
 
         display.send (message);
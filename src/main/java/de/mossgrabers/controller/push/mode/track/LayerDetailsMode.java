@@ -13,6 +13,7 @@ import de.mossgrabers.controller.push.view.ColorView;
 import de.mossgrabers.controller.push.view.Views;
 import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.IChannel;
 import de.mossgrabers.framework.utils.ButtonEvent;
 import de.mossgrabers.framework.view.ViewManager;
@@ -34,6 +35,8 @@ public class LayerDetailsMode extends BaseMode
     public LayerDetailsMode (final PushControlSurface surface, final IModel model)
     {
         super (surface, model);
+
+        this.observedData.add (ObservedData.DEVICE_LAYERS);
     }
 
 
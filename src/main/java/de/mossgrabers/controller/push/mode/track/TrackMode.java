@@ -13,6 +13,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ISend;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.Pair;
@@ -34,6 +35,8 @@ public class TrackMode extends AbstractTrackMode
     public TrackMode (final PushControlSurface surface, final IModel model)
     {
         super (surface, model);
+
+        this.observedData.add (ObservedData.TRACK_SENDS);
     }
 
 
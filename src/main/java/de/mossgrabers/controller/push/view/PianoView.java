@@ -49,7 +49,7 @@ public class PianoView extends PlayView
         final ITrack track = this.model.getSelectedTrack ();
         final int playKeyColor = colorManager.getColor (isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY);
         final int whiteKeyColor = colorManager.getColor (Scales.SCALE_COLOR_NOTE);
-        final int blackKeyColor = colorManager.getColor (replaceOctaveColorWithTrackColor (track, Scales.SCALE_COLOR_OCTAVE));
+        final int blackKeyColor = colorManager.getColorByHandle (replaceOctaveColorWithTrackColor (track, OCTAVE_COLOR_HANDLE));
         final int offKeyColor = colorManager.getColor (Scales.SCALE_COLOR_OFF);
 
         for (int i = 0; i < 8; i++)
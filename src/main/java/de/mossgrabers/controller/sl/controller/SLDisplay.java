@@ -9,7 +9,7 @@ import de.mossgrabers.framework.controller.display.Display;
 import de.mossgrabers.framework.controller.display.Format;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
-import de.mossgrabers.framework.utils.StringUtils;
+import de.mossgrabers.framework.daw.midi.SysExBuilder;
 
 
 /**
@@ -20,21 +20,12 @@ import de.mossgrabers.framework.utils.StringUtils;
 public class SLDisplay extends AbstractDisplay
 {
     /** The right arrow. */
-    public static final String     RIGHT_ARROW = ">";
+    public static final String RIGHT_ARROW = ">";
 
-    private static final String [] SPACES      =
-    {
-        "",
-        " ",
-        "  ",
-        "   ",
-        "    ",
-        "     ",
-        "      ",
-        "       ",
-        "        ",
-        "         "
-    };
+    private static final int   LINE_LENGTH = 72;
+
+    // Header, 02 01 00 <row + 1> 04 <characters> 00 F7
+    private final SysExBuilder sysex       = new SysExBuilder (6 + LINE_LENGTH, SLControlSurface.SYSEX_HEADER);
 
 
     /**
@@ -47,6 +38,8 @@ public class SLDisplay extends AbstractDisplay
     public SLDisplay (final IHost host, final IMidiOutput output)
     {
         super (host, output, 4 /* No of rows */, 8 /* No of cells */, 8);
+
+        this.setCellWidths (new int [] { 9, 9, 9, 9, 9, 9, 9, 9 });
     }
 
 
@@ -54,7 +47,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public SLDisplay clearCell (final int row, final int cell)
     {
-        this.cells[row * this.noOfCells + cell] = "         ";
+        this.writeCells (row, cell, 1, null, 0);
         return this;
     }
 
@@ -63,17 +56,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setBlock (final int row, final int block, final String value)
     {
-        final int cell = 2 * block;
-        if (value.length () > 9)
-        {
-            this.cells[row * 8 + cell] = value.substring (0, 9);
-            this.cells[row * 8 + cell + 1] = pad (value.substring (9), 8) + " ";
-        }
-        else
-        {
-            this.cells[row * 8 + cell] = pad (value, 9);
-            this.clearCell (row, cell + 1);
-        }
+        this.writeCells (row, 2 * block, 2, value, 17);
         return this;
     }
 
@@ -82,7 +65,7 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public Display setCell (final int row, final int column, final int value, final Format format)
     {
-        this.cells[row * this.noOfCells + column] = pad (Integer.toString (value), 8) + " ";
+        this.writeCells (row, column, 1, Integer.toString (value), 8);
         return this;
     }
 
@@ -93,7 +76,7 @@ public class SLDisplay extends AbstractDisplay
     {
         try
         {
-            this.cells[row * this.noOfCells + column] = pad (value, 8) + " ";
+            this.writeCells (row, column, 1, value, 8);
         }
         catch (final ArrayIndexOutOfBoundsException ex)
         {
@@ -107,38 +90,24 @@ public class SLDisplay extends AbstractDisplay
     @Override
     public void writeLine (final int row, final String text)
     {
-        final int length = text.length ();
-        final int [] array = new int [length];
-        for (int i = 0; i < length; i++)
-            array[i] = text.charAt (i);
-        this.output.sendSysex (SLControlSurface.SYSEX_HEADER + "02 01 00 " + uint7ToHex (row + 1) + "04 " + StringUtils.toHexStr (array) + "00 F7");
+        final int length = Math.min (text.length (), LINE_LENGTH);
+        this.sysex.start ().add (0x02, 0x01, 0x00, row + 1, 0x04).addASCII (text, 0, length).add (0x00).send (this.output);
     }
 
 
     /** {@inheritDoc} */
     @Override
-    public void shutdown ()
+    protected void writeLine (final int row, final char [] line, final int length, final int start, final int end)
     {
-        this.notify ("Please start " + this.host.getName () + " to play...");
+        // Always sends the whole row
+        this.sysex.start ().add (0x02, 0x01, 0x00, row + 1, 0x04).addASCII (line, 0, Math.min (length, LINE_LENGTH)).add (0x00).send (this.output);
     }
 
 
-    private static String pad (final String str, final int length)
-    {
-        final String text = str == null ? "" : str;
-        final int diff = length - text.length ();
-        if (diff < 0)
-            return text.substring (0, length);
-        if (diff > 0)
-            return text + SPACES[diff];
-        return text;
-    }
-
-
-    private static String uint7ToHex (final int x)
+    /** {@inheritDoc} */
+    @Override
+    public void shutdown ()
     {
-        final int upper = x >> 4 & 0x7;
-        final int lower = x & 0xF;
-        return Integer.toString (upper, 16) + Integer.toString (lower, 16) + " ";
+        this.notify ("Please start " + this.host.getName () + " to play...");
     }
 }
\ No newline at end of file
@@ -19,9 +19,7 @@ import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 
 /**
@@ -33,45 +31,48 @@ import java.util.Map;
  */
 public abstract class AbstractControlSurface<C extends Configuration> implements IControlSurface<C>
 {
-    protected static final int                    BUTTON_STATE_INTERVAL = 400;
+    protected static final int BUTTON_STATE_INTERVAL = 400;
 
-    protected IHost                               host;
-    protected C                                   configuration;
-    protected ColorManager                        colorManager;
-    protected IMidiOutput                         output;
-    protected IMidiInput                          input;
+    protected IHost            host;
+    protected C                configuration;
+    protected ColorManager     colorManager;
+    protected IMidiOutput      output;
+    protected IMidiInput       input;
 
-    protected ViewManager                         viewManager           = new ViewManager ();
-    protected ModeManager                         modeManager           = new ModeManager ();
+    protected ViewManager      viewManager           = new ViewManager ();
+    protected ModeManager      modeManager           = new ModeManager ();
 
-    protected int                                 selectButtonId        = -1;
-    protected int                                 shiftButtonId         = -1;
-    protected int                                 deleteButtonId        = -1;
-    protected int                                 soloButtonId          = -1;
-    protected int                                 muteButtonId          = -1;
-    protected int                                 leftButtonId          = -1;
-    protected int                                 rightButtonId         = -1;
-    protected int                                 upButtonId            = -1;
-    protected int                                 downButtonId          = -1;
+    protected int              selectButtonId        = -1;
+    protected int              shiftButtonId         = -1;
+    protected int              deleteButtonId        = -1;
+    protected int              soloButtonId          = -1;
+    protected int              muteButtonId          = -1;
+    protected int              leftButtonId          = -1;
+    protected int              rightButtonId         = -1;
+    protected int              upButtonId            = -1;
+    protected int              downButtonId          = -1;
 
-    private int []                                buttons;
-    protected ButtonEvent []                      buttonStates;
-    private int []                                noteVelocities;
-    protected boolean []                          buttonConsumed;
+    private int []             buttons;
+    protected ButtonEvent []   buttonStates;
+    private int []             noteVelocities;
+    protected boolean []       buttonConsumed;
 
-    private List<int []>                          buttonCache;
+    private List<int []>       buttonCache;
 
-    protected int []                              gridNotes;
+    protected int []           gridNotes;
 
-    protected Display                             display;
-    protected PadGridImpl                         pads;
-    protected Map<Integer, Map<Integer, Integer>> triggerCommands       = new HashMap<> ();
-    protected Map<Integer, Map<Integer, Integer>> continuousCommands    = new HashMap<> ();
-    protected Map<Integer, Integer>               noteCommands          = new HashMap<> ();
+    protected Display          display;
+    protected PadGridImpl      pads;
+    // Command IDs indexed by [midi channel][midi CC / note], null if not assigned
+    protected Integer [] []    triggerCommands       = new Integer [16] [128];
+    protected Integer [] []    continuousCommands    = new Integer [16] [128];
+    protected Integer []       noteCommands          = new Integer [128];
 
-    private boolean []                            gridNoteConsumed;
-    private ButtonEvent []                        gridNoteStates;
-    private int []                                gridNoteVelocities;
+    private boolean []         gridNoteConsumed;
+    private ButtonEvent []     gridNoteStates;
+    private int []             gridNoteVelocities;
+
+    private LongPressDetector  longPressDetector;
 
 
     /**
@@ -89,6 +90,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         this.host = host;
         this.configuration = configuration;
         this.colorManager = colorManager;
+        this.longPressDetector = new LongPressDetector (host, BUTTON_STATE_INTERVAL, this::checkButtonState, this::checkGridNoteState);
 
         this.output = output;
         this.input = input;
@@ -225,13 +227,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignTriggerCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.triggerCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        this.triggerCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -247,8 +243,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getTriggerCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.triggerCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return isValid (midiCC, midiChannel) ? this.triggerCommands[midiChannel][midiCC] : null;
     }
 
 
@@ -264,13 +259,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignContinuousCommand (final int midiCC, final int midiChannel, final Integer commandID)
     {
-        Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        if (channelMap == null)
-        {
-            channelMap = new HashMap<> ();
-            this.continuousCommands.put (Integer.valueOf (midiCC), channelMap);
-        }
-        channelMap.put (Integer.valueOf (midiChannel), commandID);
+        this.continuousCommands[midiChannel][midiCC] = commandID;
     }
 
 
@@ -286,8 +275,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getContinuousCommand (final int midiCC, final int midiChannel)
     {
-        final Map<Integer, Integer> channelMap = this.continuousCommands.get (Integer.valueOf (midiCC));
-        return channelMap == null ? null : channelMap.get (Integer.valueOf (midiChannel));
+        return isValid (midiCC, midiChannel) ? this.continuousCommands[midiChannel][midiCC] : null;
     }
 
 
@@ -295,7 +283,7 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void assignNoteCommand (final int midiNote, final Integer commandID)
     {
-        this.noteCommands.put (Integer.valueOf (midiNote), commandID);
+        this.noteCommands[midiNote] = commandID;
     }
 
 
@@ -303,7 +291,13 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public Integer getNoteCommand (final int midiNote)
     {
-        return this.noteCommands.get (Integer.valueOf (midiNote));
+        return midiNote >= 0 && midiNote < 128 ? this.noteCommands[midiNote] : null;
+    }
+
+
+    private static boolean isValid (final int midiCC, final int midiChannel)
+    {
+        return midiCC >= 0 && midiCC < 128 && midiChannel >= 0 && midiChannel < 16;
     }
 
 
@@ -321,12 +315,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setKeyTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setKeyTranslationTable (t);
+        if (this.input != null)
+            this.input.setKeyTranslationTable (table);
     }
 
 
@@ -334,12 +324,8 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void setVelocityTranslationTable (final int [] table)
     {
-        if (this.input == null)
-            return;
-        final Integer [] t = new Integer [table.length];
-        for (int i = 0; i < table.length; i++)
-            t[i] = Integer.valueOf (table[i]);
-        this.input.setVelocityTranslationTable (t);
+        if (this.input != null)
+            this.input.setVelocityTranslationTable (table);
     }
 
 
@@ -515,6 +501,22 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void updateButtonHandle (final int button, final int colorHandle)
+    {
+        this.updateButton (button, this.colorManager.getColorByHandle (colorHandle));
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void updateButtonHandleEx (final int button, final int channel, final int colorHandle)
+    {
+        this.updateButtonEx (button, channel, this.colorManager.getColorByHandle (colorHandle));
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void setButton (final int button, final int state)
@@ -584,7 +586,18 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
     @Override
     public void shutdown ()
     {
-        // Intentionally empty
+        this.longPressDetector.releaseAll ();
+    }
+
+
+    /**
+     * Get the number of pressed buttons and grid notes, which are waiting to become a long press.
+     *
+     * @return The number of pending long press timers
+     */
+    public int getPendingLongPressTimers ()
+    {
+        return this.longPressDetector.getPendingTimers ();
     }
 
 
@@ -689,7 +702,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
         if (velocity > 0)
             this.gridNoteVelocities[note] = velocity;
         if (this.gridNoteStates[note] == ButtonEvent.DOWN)
-            this.scheduleTask ( () -> this.checkGridNoteState (note), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+            this.longPressDetector.pressGridNote (note);
+        else
+            this.longPressDetector.releaseGridNote (note);
 
         // If consumed flag is set ignore the UP event
         if (this.gridNoteStates[note] == ButtonEvent.UP && this.gridNoteConsumed[note])
@@ -766,7 +781,9 @@ public abstract class AbstractControlSurface<C extends Configuration> implements
             this.buttonStates[cc] = value > 0 ? ButtonEvent.DOWN : ButtonEvent.UP;
 
             if (this.buttonStates[cc] == ButtonEvent.DOWN)
-                this.scheduleTask ( () -> this.checkButtonState (cc), AbstractControlSurface.BUTTON_STATE_INTERVAL);
+                this.longPressDetector.pressButton (cc);
+            else
+                this.longPressDetector.releaseButton (cc);
 
             // If consumed flag is set ignore the UP event
             if (this.buttonStates[cc] == ButtonEvent.UP && this.buttonConsumed[cc])
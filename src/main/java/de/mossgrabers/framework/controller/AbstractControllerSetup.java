@@ -12,11 +12,16 @@ import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ValueChangeNotifier;
+import de.mossgrabers.framework.mode.ModeManager;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.view.View;
+import de.mossgrabers.framework.view.ViewManager;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
 
 
 /**
@@ -29,16 +34,17 @@ import java.util.List;
  */
 public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C extends Configuration> implements IControllerSetup
 {
-    protected final List<S>       surfaces = new ArrayList<> ();
-    protected final IHost         host;
-    protected final ISettingsUI   settings;
-    protected final ISetupFactory factory;
+    protected final List<S>        surfaces       = new ArrayList<> ();
+    protected final IHost          host;
+    protected final ISettingsUI    settings;
+    protected final ISetupFactory  factory;
+    protected final ButtonBindings buttonBindings = new ButtonBindings ();
 
-    protected Scales              scales;
-    protected IModel              model;
-    protected C                   configuration;
-    protected ColorManager        colorManager;
-    protected IValueChanger       valueChanger;
+    protected Scales               scales;
+    protected IModel               model;
+    protected C                    configuration;
+    protected ColorManager         colorManager;
+    protected IValueChanger        valueChanger;
 
 
     /**
@@ -79,6 +85,17 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Get the button LED bindings, e.g. for debugging.
+     *
+     * @return The bindings
+     */
+    public ButtonBindings getButtonBindings ()
+    {
+        return this.buttonBindings;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public IModel getModel ()
@@ -109,6 +126,7 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
         this.createViews ();
         this.registerTriggerCommands ();
         this.registerContinuousCommands ();
+        this.bindButtons ();
 
         this.host.println ("Initialized.");
     }
@@ -126,12 +144,13 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
 
 
     /**
-     * Flush all surfaces.
+     * Flush all surfaces and update the button LEDs whose bindings changed.
      */
     public void flushSurfaces ()
     {
         for (final S surface: this.surfaces)
             surface.flush ();
+        this.buttonBindings.update ();
     }
 
 
@@ -201,6 +220,15 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Bind the button LEDs which are updated on flush.
+     */
+    protected void bindButtons ()
+    {
+        // Intentionally empty
+    }
+
+
     /**
      * Register a (global) trigger command for all views and assign it to a MIDI CC for the first
      * device.
@@ -288,6 +316,48 @@ public abstract class AbstractControllerSetup<S extends IControlSurface<C>, C ex
     }
 
 
+    /**
+     * Bind the LED of a button to a color.
+     *
+     * @param surface The surface which contains the button
+     * @param button The button
+     * @param colorID Supplies the ID of the color of the button LED
+     * @param dependencies The values on which the color depends
+     */
+    protected void bindButton (final S surface, final int button, final Supplier<String> colorID, final LongSupplier... dependencies)
+    {
+        this.buttonBindings.bind (surface, button, () -> this.colorManager.getColor (colorID.get ()), dependencies);
+    }
+
+
+    /**
+     * Create a dependency for button bindings which changes whenever the active mode changes.
+     *
+     * @param modeManager The mode manager to observe
+     * @return The dependency
+     */
+    protected static LongSupplier createModeDependency (final ModeManager modeManager)
+    {
+        final ValueChangeNotifier notifier = new ValueChangeNotifier ();
+        modeManager.addModeListener ( (previousModeId, activeModeId) -> notifier.notifyObservers ());
+        return notifier::getVersion;
+    }
+
+
+    /**
+     * Create a dependency for button bindings which changes whenever the active view changes.
+     *
+     * @param viewManager The view manager to observe
+     * @return The dependency
+     */
+    protected static LongSupplier createViewDependency (final ViewManager viewManager)
+    {
+        final ValueChangeNotifier notifier = new ValueChangeNotifier ();
+        viewManager.addViewChangeListener ( (previousViewId, activeViewId) -> notifier.notifyObservers ());
+        return notifier::getVersion;
+    }
+
+
     /**
      * Update the active views note mapping.
      */
@@ -0,0 +1,219 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+
+/**
+ * A table of button LED bindings. Each binding connects a button (and an optional MIDI channel) to a
+ * supplier of its state and declares the values it depends on. A dependency is either the version
+ * of a model object (see ValueChangeNotifier) or any other cheap value like the state of a modifier
+ * button. On update, only the bindings are re-evaluated whose dependencies changed since their last
+ * evaluation.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ButtonBindings
+{
+    /** Use as the channel of a binding to update the button without a MIDI channel. */
+    public static final int     NO_CHANNEL = -1;
+
+    private final List<Binding> bindings   = new ArrayList<> ();
+
+
+    /**
+     * Bind the LED of a button.
+     *
+     * @param surface The surface which contains the button
+     * @param button The button
+     * @param state Supplies the state (color) of the button LED
+     * @param dependencies The values on which the state depends
+     */
+    public void bind (final IControlSurface<?> surface, final int button, final IntSupplier state, final LongSupplier... dependencies)
+    {
+        this.bind (surface, button, NO_CHANNEL, state, dependencies);
+    }
+
+
+    /**
+     * Bind the LED of a button on a specific MIDI channel.
+     *
+     * @param surface The surface which contains the button
+     * @param button The button
+     * @param channel The MIDI channel or NO_CHANNEL
+     * @param state Supplies the state (color) of the button LED
+     * @param dependencies The values on which the state depends
+     */
+    public void bind (final IControlSurface<?> surface, final int button, final int channel, final IntSupplier state, final LongSupplier... dependencies)
+    {
+        this.bindings.add (new Binding (surface, button, channel, state, dependencies));
+    }
+
+
+    /**
+     * Re-evaluate all bindings whose dependencies changed and update their button LEDs.
+     */
+    public void update ()
+    {
+        // Index based to not create an iterator on each flush
+        for (int i = 0; i < this.bindings.size (); i++)
+            this.bindings.get (i).update ();
+    }
+
+
+    /**
+     * Force the re-evaluation of all bindings on the next update, e.g. after the button LEDs have
+     * been set without the bindings.
+     */
+    public void invalidate ()
+    {
+        for (final Binding binding: this.bindings)
+            binding.isDirty = true;
+    }
+
+
+    /**
+     * Get the bindings, e.g. for debugging.
+     *
+     * @return The bindings
+     */
+    public List<Binding> getBindings ()
+    {
+        return Collections.unmodifiableList (this.bindings);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString ()
+    {
+        final StringBuilder sb = new StringBuilder ();
+        for (final Binding binding: this.bindings)
+            sb.append (binding).append ('\n');
+        return sb.toString ();
+    }
+
+
+    /**
+     * The binding of one button LED.
+     */
+    public static class Binding
+    {
+        private final IControlSurface<?> surface;
+        private final int                button;
+        private final int                channel;
+        private final IntSupplier        state;
+        private final LongSupplier []    dependencies;
+        private final long []            dependencyValues;
+        private boolean                  isDirty = true;
+        private int                      lastState;
+        private int                      evaluations;
+
+
+        /**
+         * Constructor.
+         *
+         * @param surface The surface which contains the button
+         * @param button The button
+         * @param channel The MIDI channel or NO_CHANNEL
+         * @param state Supplies the state (color) of the button LED
+         * @param dependencies The values on which the state depends
+         */
+        Binding (final IControlSurface<?> surface, final int button, final int channel, final IntSupplier state, final LongSupplier [] dependencies)
+        {
+            this.surface = surface;
+            this.button = button;
+            this.channel = channel;
+            this.state = state;
+            this.dependencies = dependencies;
+            this.dependencyValues = new long [dependencies.length];
+        }
+
+
+        /**
+         * Re-evaluate the state if one of the dependencies changed and update the button LED.
+         */
+        void update ()
+        {
+            boolean hasChanged = this.isDirty;
+            for (int i = 0; i < this.dependencies.length; i++)
+            {
+                final long value = this.dependencies[i].getAsLong ();
+                if (value != this.dependencyValues[i])
+                {
+                    this.dependencyValues[i] = value;
+                    hasChanged = true;
+                }
+            }
+            if (!hasChanged)
+                return;
+
+            this.isDirty = false;
+            this.lastState = this.state.getAsInt ();
+            this.evaluations++;
+            if (this.channel == NO_CHANNEL)
+                this.surface.updateButton (this.button, this.lastState);
+            else
+                this.surface.updateButtonEx (this.button, this.channel, this.lastState);
+        }
+
+
+        /**
+         * Get the button.
+         *
+         * @return The button
+         */
+        public int getButton ()
+        {
+            return this.button;
+        }
+
+
+        /**
+         * Get the MIDI channel.
+         *
+         * @return The MIDI channel or NO_CHANNEL
+         */
+        public int getChannel ()
+        {
+            return this.channel;
+        }
+
+
+        /**
+         * Get the state of the last evaluation.
+         *
+         * @return The state
+         */
+        public int getLastState ()
+        {
+            return this.lastState;
+        }
+
+
+        /**
+         * Get the number of evaluations of the state.
+         *
+         * @return The number of evaluations
+         */
+        public int getEvaluations ()
+        {
+            return this.evaluations;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public String toString ()
+        {
+            return "Button " + this.button + (this.channel == NO_CHANNEL ? "" : ", Channel " + this.channel) + ": State " + this.lastState + ", Dependencies " + this.dependencies.length + ", Evaluations " + this.evaluations;
+        }
+    }
+}
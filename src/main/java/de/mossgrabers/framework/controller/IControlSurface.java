@@ -398,6 +398,29 @@ public interface IControlSurface<C extends Configuration>
     void updateButtonEx (int button, int channel, String colorID);
 
 
+    /**
+     * Update the lighting of a button (if the buttons has light), sending on midi channel 1. This
+     * method caches the state of the button and sends only updates to the controller if the state
+     * has changed, in contrast to setButton.
+     *
+     * @param button The button
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     */
+    void updateButtonHandle (int button, int colorHandle);
+
+
+    /**
+     * Update the lighting of a button (if the buttons has light). This method caches the state of
+     * the button and sends only updates to the controller if the state has changed, in contrast to
+     * setButton.
+     *
+     * @param button The button
+     * @param channel The midi channel to use
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     */
+    void updateButtonHandleEx (int button, int channel, int colorHandle);
+
+
     /**
      * Update the lighting of a button (if the buttons has light), sending on midi channel 1.
      *
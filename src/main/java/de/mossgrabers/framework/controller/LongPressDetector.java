@@ -0,0 +1,177 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+
+/**
+ * Detects long presses of buttons (midi CC) and grid notes. Instead of scheduling a task for each
+ * press, a single timer is ticking at a fixed rate as long as there are pressed buttons or notes.
+ * The press deadlines are stored in primitive arrays, therefore no objects are created on a press.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class LongPressDetector
+{
+    /** The interval of the timer tick in milliseconds. */
+    public static final int   TICK_INTERVAL     = 50;
+
+    private static final long NOT_PRESSED       = -1;
+
+    private final IHost       host;
+    private final int         longPressTicks;
+    private final IntConsumer buttonCallback;
+    private final IntConsumer gridNoteCallback;
+    private final Runnable    tickTask          = this::tick;
+
+    private final long []     buttonDeadlines   = new long [128];
+    private final long []     gridNoteDeadlines = new long [128];
+    private int               pendingTimers;
+    private long              tickCounter;
+    private boolean           isTicking;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host to schedule the timer ticks
+     * @param longPressDelay The time in milliseconds after which a press counts as a long press
+     * @param buttonCallback Called with the CC of the button which was long pressed
+     * @param gridNoteCallback Called with the note of the grid note which was long pressed
+     */
+    public LongPressDetector (final IHost host, final int longPressDelay, final IntConsumer buttonCallback, final IntConsumer gridNoteCallback)
+    {
+        this.host = host;
+        this.longPressTicks = Math.max (1, (longPressDelay + TICK_INTERVAL - 1) / TICK_INTERVAL);
+        this.buttonCallback = buttonCallback;
+        this.gridNoteCallback = gridNoteCallback;
+
+        Arrays.fill (this.buttonDeadlines, NOT_PRESSED);
+        Arrays.fill (this.gridNoteDeadlines, NOT_PRESSED);
+    }
+
+
+    /**
+     * Start the long press detection of a button.
+     *
+     * @param cc The midi CC of the button
+     */
+    public void pressButton (final int cc)
+    {
+        this.press (this.buttonDeadlines, cc);
+    }
+
+
+    /**
+     * Stop the long press detection of a button.
+     *
+     * @param cc The midi CC of the button
+     */
+    public void releaseButton (final int cc)
+    {
+        this.release (this.buttonDeadlines, cc);
+    }
+
+
+    /**
+     * Start the long press detection of a grid note.
+     *
+     * @param note The midi note
+     */
+    public void pressGridNote (final int note)
+    {
+        this.press (this.gridNoteDeadlines, note);
+    }
+
+
+    /**
+     * Stop the long press detection of a grid note.
+     *
+     * @param note The midi note
+     */
+    public void releaseGridNote (final int note)
+    {
+        this.release (this.gridNoteDeadlines, note);
+    }
+
+
+    /**
+     * Get the number of buttons and grid notes, which are currently waiting for a long press.
+     *
+     * @return The number of pending timers
+     */
+    public int getPendingTimers ()
+    {
+        return this.pendingTimers;
+    }
+
+
+    /**
+     * Stop the long press detection of all buttons and grid notes.
+     */
+    public void releaseAll ()
+    {
+        Arrays.fill (this.buttonDeadlines, NOT_PRESSED);
+        Arrays.fill (this.gridNoteDeadlines, NOT_PRESSED);
+        this.pendingTimers = 0;
+    }
+
+
+    private void press (final long [] deadlines, final int index)
+    {
+        if (deadlines[index] == NOT_PRESSED)
+            this.pendingTimers++;
+        deadlines[index] = this.tickCounter + this.longPressTicks;
+
+        if (this.isTicking)
+            return;
+        this.isTicking = true;
+        this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+    }
+
+
+    private void release (final long [] deadlines, final int index)
+    {
+        if (deadlines[index] == NOT_PRESSED)
+            return;
+        deadlines[index] = NOT_PRESSED;
+        this.pendingTimers--;
+    }
+
+
+    private void tick ()
+    {
+        this.tickCounter++;
+
+        if (this.pendingTimers > 0)
+        {
+            this.fireExpired (this.buttonDeadlines, this.buttonCallback);
+            this.fireExpired (this.gridNoteDeadlines, this.gridNoteCallback);
+        }
+
+        // Keep ticking only as long as there are pressed buttons or notes
+        if (this.pendingTimers > 0)
+            this.host.scheduleTask (this.tickTask, TICK_INTERVAL);
+        else
+            this.isTicking = false;
+    }
+
+
+    private void fireExpired (final long [] deadlines, final IntConsumer callback)
+    {
+        for (int i = 0; i < deadlines.length; i++)
+        {
+            if (deadlines[i] == NOT_PRESSED || deadlines[i] > this.tickCounter)
+                continue;
+            deadlines[i] = NOT_PRESSED;
+            this.pendingTimers--;
+            callback.accept (i);
+        }
+    }
+}
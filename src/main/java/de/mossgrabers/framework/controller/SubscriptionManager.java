@@ -0,0 +1,106 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
+import de.mossgrabers.framework.mode.Mode;
+import de.mossgrabers.framework.mode.ModeManager;
+import de.mossgrabers.framework.view.View;
+import de.mossgrabers.framework.view.ViewManager;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Subscribes only the parts of the DAW data which are read by the active modes and views. The
+ * subscriptions are updated whenever a mode or view changes. Data which is read independently of
+ * the active modes and views (e.g. by commands or button updates) needs to be declared as
+ * permanent.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SubscriptionManager
+{
+    private final IModel            model;
+    private final Set<ObservedData> permanentData;
+    private final List<ModeManager> modeManagers = new ArrayList<> ();
+    private final List<ViewManager> viewManagers = new ArrayList<> ();
+    private final Set<ObservedData> subscribed   = EnumSet.allOf (ObservedData.class);
+
+
+    /**
+     * Constructor.
+     *
+     * @param model The model
+     * @param permanentData The parts of the data which are always subscribed
+     */
+    public SubscriptionManager (final IModel model, final Set<ObservedData> permanentData)
+    {
+        this.model = model;
+        this.permanentData = EnumSet.noneOf (ObservedData.class);
+        this.permanentData.addAll (permanentData);
+    }
+
+
+    /**
+     * Add the modes of a surface. The subscriptions are updated when the active mode changes.
+     *
+     * @param modeManager The mode manager
+     */
+    public void addModeManager (final ModeManager modeManager)
+    {
+        this.modeManagers.add (modeManager);
+        modeManager.addModeListener ( (previousModeId, activeModeId) -> this.update ());
+    }
+
+
+    /**
+     * Add the views of a surface. The subscriptions are updated when the active view changes.
+     *
+     * @param viewManager The view manager
+     */
+    public void addViewManager (final ViewManager viewManager)
+    {
+        this.viewManagers.add (viewManager);
+        viewManager.addViewChangeListener ( (previousViewId, activeViewId) -> this.update ());
+    }
+
+
+    /**
+     * Subscribe the data required by the active modes and views and unsubscribe all other.
+     */
+    public void update ()
+    {
+        final Set<ObservedData> required = EnumSet.copyOf (this.permanentData);
+        for (final ModeManager modeManager: this.modeManagers)
+        {
+            final Mode mode = modeManager.getActiveMode ();
+            if (mode != null)
+                required.addAll (mode.getObservedData ());
+        }
+        for (final ViewManager viewManager: this.viewManagers)
+        {
+            final View view = viewManager.getActiveView ();
+            if (view != null)
+                required.addAll (view.getObservedData ());
+        }
+
+        for (final ObservedData data: ObservedData.values ())
+        {
+            final boolean enable = required.contains (data);
+            if (enable == this.subscribed.contains (data))
+                continue;
+            this.model.enableObservers (data, enable);
+            if (enable)
+                this.subscribed.add (data);
+            else
+                this.subscribed.remove (data);
+        }
+    }
+}
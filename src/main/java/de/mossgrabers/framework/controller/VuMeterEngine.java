@@ -0,0 +1,282 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller;
+
+import de.mossgrabers.framework.daw.IHost;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+
+/**
+ * Drives a number of VU meters with a fixed frame rate. The values are polled from a source on each
+ * frame. The ballistics of the meters (attack, decay and peak hold) are applied on each frame and
+ * only the meters which changed are sent to the device.
+ *
+ * All values are in the range of the device, e.g. 0-12 for the MCU LED meters.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class VuMeterEngine
+{
+    /** Sends the level of one meter to the device. */
+    @FunctionalInterface
+    public interface IFrameSender
+    {
+        /**
+         * Send the level of a meter.
+         *
+         * @param index The index of the meter
+         * @param level The current level
+         * @param peak The current peak level
+         */
+        void sendMeter (int index, int level, int peak);
+
+
+        /**
+         * Called after all changed meters of a frame were sent, e.g. to send them as one packet.
+         */
+        default void frameDone ()
+        {
+            // Intentionally empty
+        }
+    }
+
+
+    private final IHost            host;
+    private final int              maxValue;
+    private final IntUnaryOperator source;
+    private final IFrameSender     sender;
+    private final Runnable         frameTask    = this::frame;
+
+    private final double []        levels;
+    private final double []        peaks;
+    private final long []          peakTimes;
+    private final int []           sentLevels;
+    private final int []           sentPeaks;
+
+    private int                    frameInterval;
+    private double                 attack       = 1.0;
+    private double                 decayPerFrame;
+    private double                 decay        = 1.5;
+    private long                   peakHoldTime = 1000;
+    private boolean                isRunning;
+    private boolean                isScheduled;
+
+    private long                   renderedFrames;
+    private long                   sentMeters;
+
+
+    /**
+     * Constructor.
+     *
+     * @param host The host to schedule the frames
+     * @param numMeters The number of meters
+     * @param maxValue The maximum value of a meter
+     * @param framesPerSecond The number of frames per second
+     * @param source Gets the current value of a meter on each frame
+     * @param sender Sends the changed meters on each frame, may be null if the levels are only
+     *            read with getLevel
+     */
+    public VuMeterEngine (final IHost host, final int numMeters, final int maxValue, final int framesPerSecond, final IntUnaryOperator source, final IFrameSender sender)
+    {
+        this.host = host;
+        this.maxValue = maxValue;
+        this.source = source;
+        this.sender = sender;
+
+        this.levels = new double [numMeters];
+        this.peaks = new double [numMeters];
+        this.peakTimes = new long [numMeters];
+        this.sentLevels = new int [numMeters];
+        this.sentPeaks = new int [numMeters];
+        this.reset ();
+
+        this.setFrameRate (framesPerSecond);
+    }
+
+
+    /**
+     * Set the number of frames per second.
+     *
+     * @param framesPerSecond The number of frames per second, must be larger than 0
+     */
+    public void setFrameRate (final int framesPerSecond)
+    {
+        this.frameInterval = Math.max (1, 1000 / Math.max (1, framesPerSecond));
+        this.setDecay (this.decay);
+    }
+
+
+    /**
+     * Set how fast a meter rises to a higher value.
+     *
+     * @param attack The part of the distance to the new value which is covered on each frame, 1
+     *            jumps immediately to the new value
+     */
+    public void setAttack (final double attack)
+    {
+        this.attack = Math.max (0.01, Math.min (1.0, attack));
+    }
+
+
+    /**
+     * Set how fast a meter falls to a lower value.
+     *
+     * @param decay The full range of the meter per second which the meter falls, 0 falls
+     *            immediately to the new value
+     */
+    public void setDecay (final double decay)
+    {
+        this.decay = decay;
+        this.decayPerFrame = decay <= 0 ? this.maxValue : decay * this.maxValue * this.frameInterval / 1000.0;
+    }
+
+
+    /**
+     * Set how long the peak level is held before it falls.
+     *
+     * @param milliseconds The time in milliseconds
+     */
+    public void setPeakHoldTime (final long milliseconds)
+    {
+        this.peakHoldTime = milliseconds;
+    }
+
+
+    /**
+     * Start sending frames.
+     */
+    public void start ()
+    {
+        if (this.isRunning)
+            return;
+        this.isRunning = true;
+
+        // The frame loop of a previous start might still be scheduled
+        if (this.isScheduled)
+            return;
+        this.isScheduled = true;
+        this.host.scheduleTask (this.frameTask, this.frameInterval);
+    }
+
+
+    /**
+     * Stop sending frames.
+     */
+    public void stop ()
+    {
+        this.isRunning = false;
+    }
+
+
+    /**
+     * Sends all meters again on the next frame, e.g. after the device was reconnected.
+     */
+    public void reset ()
+    {
+        Arrays.fill (this.sentLevels, -1);
+        Arrays.fill (this.sentPeaks, -1);
+    }
+
+
+    /**
+     * Get the current level of a meter.
+     *
+     * @param index The index of the meter
+     * @return The level
+     */
+    public int getLevel (final int index)
+    {
+        return (int) Math.round (this.levels[index]);
+    }
+
+
+    /**
+     * Get the current peak level of a meter.
+     *
+     * @param index The index of the meter
+     * @return The peak level
+     */
+    public int getPeak (final int index)
+    {
+        return (int) Math.round (this.peaks[index]);
+    }
+
+
+    /**
+     * Get the number of frames which were calculated.
+     *
+     * @return The number of frames
+     */
+    public long getRenderedFrames ()
+    {
+        return this.renderedFrames;
+    }
+
+
+    /**
+     * Get the number of meter values which were sent.
+     *
+     * @return The number of meter values
+     */
+    public long getSentMeters ()
+    {
+        return this.sentMeters;
+    }
+
+
+    private void frame ()
+    {
+        if (!this.isRunning)
+        {
+            this.isScheduled = false;
+            return;
+        }
+
+        final long now = System.currentTimeMillis ();
+        for (int i = 0; i < this.levels.length; i++)
+        {
+            final int target = this.source.applyAsInt (i);
+            this.applyBallistics (i, Math.max (0, Math.min (this.maxValue, target)), now);
+
+            final int level = this.getLevel (i);
+            final int peak = this.getPeak (i);
+            if (level == this.sentLevels[i] && peak == this.sentPeaks[i])
+                continue;
+            this.sentLevels[i] = level;
+            this.sentPeaks[i] = peak;
+            if (this.sender == null)
+                continue;
+            this.sender.sendMeter (i, level, peak);
+            this.sentMeters++;
+        }
+        this.renderedFrames++;
+
+        if (this.sender != null)
+            this.sender.frameDone ();
+
+        this.host.scheduleTask (this.frameTask, this.frameInterval);
+    }
+
+
+    private void applyBallistics (final int index, final int target, final long now)
+    {
+        final double level = this.levels[index];
+        if (target >= level)
+            this.levels[index] = level + (target - level) * this.attack;
+        else
+            this.levels[index] = Math.max (target, level - this.decayPerFrame);
+
+        final double current = this.levels[index];
+        if (current >= this.peaks[index])
+        {
+            this.peaks[index] = current;
+            this.peakTimes[index] = now;
+        }
+        else if (now - this.peakTimes[index] > this.peakHoldTime)
+            this.peaks[index] = Math.max (current, this.peaks[index] - this.decayPerFrame);
+    }
+}
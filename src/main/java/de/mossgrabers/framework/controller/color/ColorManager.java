@@ -4,25 +4,54 @@
 
 package de.mossgrabers.framework.controller.color;
 
+import de.mossgrabers.framework.daw.ColorQuantizer;
+import de.mossgrabers.framework.daw.DAWColors;
+
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 
 /**
- * Manages color indices by IDs.
+ * Manages color indices by IDs. Each ID is also represented by an integer handle, which is the
+ * same for all color managers. Handles can be retrieved once (e.g. into a constant) and be used
+ * to look up the color index without hashing the ID.
  *
  * @author J&uuml;rgen Mo&szlig;graber
  */
 public class ColorManager
 {
     /** ID for color when button is turned off. */
-    public static final String         BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
+    public static final String                BUTTON_STATE_OFF = "BUTTON_STATE_OFF";
     /** ID for color when button is turned on. */
-    public static final String         BUTTON_STATE_ON  = "BUTTON_STATE_ON";
+    public static final String                BUTTON_STATE_ON  = "BUTTON_STATE_ON";
     /** ID for color when button is highlighted. */
-    public static final String         BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+    public static final String                BUTTON_STATE_HI  = "BUTTON_STATE_HI";
+
+    /** Handle for no color, e.g. to disable blinking. */
+    public static final int                   NO_HANDLE        = -1;
+
+    private static final int                  UNREGISTERED     = Integer.MIN_VALUE;
+
+    private static final Map<String, Integer> HANDLES          = new HashMap<> ();
+    private static final List<String>         HANDLE_KEYS      = new ArrayList<> ();
+    private static final int []               DAW_COLOR_HANDLES;
+    private static final int                  DAW_COLOR_OFF_HANDLE;
+
+    static
+    {
+        DAW_COLOR_HANDLES = new int [DAWColors.DAW_COLORS.length];
+        for (int i = 0; i < DAW_COLOR_HANDLES.length; i++)
+            DAW_COLOR_HANDLES[i] = getHandle (DAWColors.DAW_COLORS[i]);
+        DAW_COLOR_OFF_HANDLE = getHandle (DAWColors.COLOR_OFF);
+    }
 
-    private final Map<String, Integer> colors           = new HashMap<> ();
+    private final Map<String, Integer> colors         = new HashMap<> ();
+    private int []                     colorsByHandle = new int [0];
+    private int []                     dawColorTable;
+    private int                        dawColorOff;
 
 
     /**
@@ -36,6 +65,72 @@ public class ColorManager
         if (this.colors.containsKey (key))
             throw new ColorIndexException ("Color for key " + key + " is already registered!");
         this.colors.put (key, Integer.valueOf (colorIndex));
+        this.dawColorTable = null;
+
+        final int handle = getHandle (key);
+        if (handle >= this.colorsByHandle.length)
+        {
+            final int oldLength = this.colorsByHandle.length;
+            this.colorsByHandle = Arrays.copyOf (this.colorsByHandle, Math.max (handle + 1, 2 * oldLength));
+            Arrays.fill (this.colorsByHandle, oldLength, this.colorsByHandle.length, UNREGISTERED);
+        }
+        this.colorsByHandle[handle] = colorIndex;
+    }
+
+
+    /**
+     * Get the handle for a color ID. The same ID always gets the same handle, independent of the
+     * color manager and if a color index is already registered for it.
+     *
+     * @param key The key of the color
+     * @return The handle
+     */
+    public static synchronized int getHandle (final String key)
+    {
+        final Integer handle = HANDLES.get (key);
+        if (handle != null)
+            return handle.intValue ();
+        final int newHandle = HANDLE_KEYS.size ();
+        HANDLES.put (key, Integer.valueOf (newHandle));
+        HANDLE_KEYS.add (key);
+        return newHandle;
+    }
+
+
+    /**
+     * Get the handle of the DAW color ID which is nearest to the given RGB values.
+     *
+     * @param rgb The red, green and blue value
+     * @return The handle of the DAW color ID or of DAWColors.COLOR_OFF if none is mapped
+     */
+    public static int getDAWColorHandle (final double [] rgb)
+    {
+        final int position = DAWColors.getColorPosition (rgb[0], rgb[1], rgb[2]);
+        return position == ColorQuantizer.NO_INDEX ? DAW_COLOR_OFF_HANDLE : DAW_COLOR_HANDLES[position];
+    }
+
+
+    /**
+     * Get the color index which is registered for the ID of the given handle.
+     *
+     * @param handle The handle, see getHandle
+     * @return The color index
+     */
+    public int getColorByHandle (final int handle)
+    {
+        if (handle >= 0 && handle < this.colorsByHandle.length)
+        {
+            final int colorIndex = this.colorsByHandle[handle];
+            if (colorIndex != UNREGISTERED)
+                return colorIndex;
+        }
+        throw new ColorIndexException ("Color for key " + getKey (handle) + " is not registered!");
+    }
+
+
+    private static synchronized String getKey (final int handle)
+    {
+        return handle >= 0 && handle < HANDLE_KEYS.size () ? HANDLE_KEYS.get (handle) : Integer.toString (handle);
     }
 
 
@@ -52,4 +147,34 @@ public class ColorManager
             throw new ColorIndexException ("Color for key " + key + " is not registered!");
         return colorIndex.intValue ();
     }
+
+
+    /**
+     * Get the color index of the DAW color which is nearest to the given RGB values. Uses a table
+     * from the positions of the DAW colors to the color indices registered by the device, which is
+     * created on first use.
+     *
+     * @param rgb The red, green and blue value
+     * @return The color index
+     */
+    public int getColor (final double [] rgb)
+    {
+        if (this.dawColorTable == null)
+            this.createDAWColorTable ();
+        final int position = DAWColors.getColorPosition (rgb[0], rgb[1], rgb[2]);
+        return position == ColorQuantizer.NO_INDEX ? this.dawColorOff : this.dawColorTable[position];
+    }
+
+
+    private void createDAWColorTable ()
+    {
+        this.dawColorOff = this.getColor (DAWColors.COLOR_OFF);
+        final int [] table = new int [DAWColors.DAW_COLORS.length];
+        for (int i = 0; i < table.length; i++)
+        {
+            final Integer colorIndex = this.colors.get (DAWColors.DAW_COLORS[i]);
+            table[i] = colorIndex == null ? this.dawColorOff : colorIndex.intValue ();
+        }
+        this.dawColorTable = table;
+    }
 }
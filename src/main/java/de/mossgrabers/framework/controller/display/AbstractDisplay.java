@@ -7,6 +7,8 @@ package de.mossgrabers.framework.controller.display;
 import de.mossgrabers.framework.daw.IHost;
 import de.mossgrabers.framework.daw.midi.IMidiOutput;
 
+import java.util.Arrays;
+
 
 /**
  * Abstract implementation of a display.
@@ -16,22 +18,27 @@ import de.mossgrabers.framework.daw.midi.IMidiOutput;
 public abstract class AbstractDisplay implements Display
 {
     /** Time to keep a notification displayed in ms. */
-    public static final int NOTIFICATION_TIME = 1000;
+    public static final int   NOTIFICATION_TIME = 1000;
+
+    protected IHost           host;
+    protected IMidiOutput     output;
 
-    protected IHost         host;
-    protected IMidiOutput   output;
+    protected int             noOfLines;
+    protected int             noOfCells;
+    protected int             noOfCharacters;
 
-    protected int           noOfLines;
-    protected int           noOfCells;
-    protected int           noOfCharacters;
+    protected final String    emptyLine;
+    protected String          notificationMessage;
+    protected boolean         isNotificationActive;
 
-    protected final String  emptyLine;
-    protected String        notificationMessage;
-    protected boolean       isNotificationActive;
+    protected int []          cellOffsets;
+    protected char [] []      cellLines;
+    protected char [] []      lines;
+    protected int []          lineLengths;
+    private char [] []        sentLines;
+    private int []            sentLineLengths;
 
-    protected String []     currentMessage;
-    protected String []     message;
-    protected String []     cells;
+    protected RenderScheduler renderScheduler;
 
 
     /**
@@ -59,10 +66,81 @@ public abstract class AbstractDisplay implements Display
         this.notificationMessage = this.emptyLine;
         this.isNotificationActive = false;
 
-        this.currentMessage = new String [this.noOfLines];
+        final int [] widths = new int [this.noOfCells];
+        Arrays.fill (widths, this.noOfCharacters / this.noOfCells);
+        this.setCellWidths (widths);
+
+        this.lines = new char [this.noOfLines] [this.noOfCharacters];
+        this.sentLines = new char [this.noOfLines] [this.noOfCharacters];
+        this.lineLengths = new int [this.noOfLines];
+        this.sentLineLengths = new int [this.noOfLines];
+        // Nothing to send before the first row is set
+        Arrays.fill (this.lineLengths, -1);
+        Arrays.fill (this.sentLineLengths, -1);
+
+        this.renderScheduler = new RenderScheduler (host, this::render);
+    }
+
+
+    /**
+     * Set the number of characters of each cell. The cells of a row are placed next to each other
+     * into one character buffer per row which is written in place by the cell and block methods.
+     *
+     * @param widths The number of characters of each cell
+     */
+    protected void setCellWidths (final int [] widths)
+    {
+        this.cellOffsets = new int [widths.length + 1];
+        for (int i = 0; i < widths.length; i++)
+            this.cellOffsets[i + 1] = this.cellOffsets[i] + widths[i];
+        this.cellLines = new char [this.noOfLines] [this.cellOffsets[widths.length]];
+        for (final char [] cellLine: this.cellLines)
+            Arrays.fill (cellLine, ' ');
+    }
+
+
+    /**
+     * Writes a text into consecutive cells of a row. The text is cut after the given number of
+     * characters and the rest of the cells is filled with spaces.
+     *
+     * @param row The row
+     * @param cell The first cell to write
+     * @param numCells The number of cells to fill
+     * @param text The text to write, null is treated as empty
+     * @param maxTextLength The maximum number of characters to take from the text
+     */
+    protected void writeCells (final int row, final int cell, final int numCells, final String text, final int maxTextLength)
+    {
+        final char [] cellLine = this.cellLines[row];
+        final int start = this.cellOffsets[cell];
+        final int end = this.cellOffsets[cell + numCells];
+        final int length = text == null ? 0 : Math.min (Math.min (text.length (), maxTextLength), end - start);
+        if (length > 0)
+            text.getChars (0, length, cellLine, start);
+        Arrays.fill (cellLine, start + length, end, ' ');
+    }
+
+
+    /**
+     * Limit the number of updates sent to the display. All changes within one frame are sent
+     * together.
+     *
+     * @param framesPerSecond The maximum number of frames per second, 0 for no limit
+     */
+    public void setMaxFrameRate (final int framesPerSecond)
+    {
+        this.renderScheduler.setMaxFrameRate (framesPerSecond);
+    }
+
 
-        this.message = new String [this.noOfLines];
-        this.cells = new String [this.noOfLines * this.noOfCells];
+    /**
+     * Get the scheduler which limits the frame rate, e.g. to query its frame counters.
+     *
+     * @return The scheduler
+     */
+    public RenderScheduler getRenderScheduler ()
+    {
+        return this.renderScheduler;
     }
 
 
@@ -70,7 +148,15 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay setRow (final int row, final String str)
     {
-        this.message[row] = str;
+        if (str == null)
+        {
+            this.lineLengths[row] = -1;
+            return this;
+        }
+        final int length = str.length ();
+        this.ensureLineCapacity (row, length);
+        str.getChars (0, length, this.lines[row], 0);
+        this.lineLengths[row] = length;
         return this;
     }
 
@@ -120,10 +206,10 @@ public abstract class AbstractDisplay implements Display
     @Override
     public AbstractDisplay done (final int row)
     {
-        final int index = row * this.noOfCells;
-        this.message[row] = "";
-        for (int i = 0; i < this.noOfCells; i++)
-            this.message[row] += this.cells[index + i];
+        final int length = this.cellLines[row].length;
+        this.ensureLineCapacity (row, length);
+        System.arraycopy (this.cellLines[row], 0, this.lines[row], 0, length);
+        this.lineLengths[row] = length;
         return this;
     }
 
@@ -163,7 +249,8 @@ public abstract class AbstractDisplay implements Display
         final String padding = padLength > 0 ? this.emptyLine.substring (0, padLength) : "";
         this.notificationMessage = (padding + message + padding).substring (0, this.noOfCharacters);
         this.isNotificationActive = true;
-        this.flush ();
+        // Notifications are not delayed by the frame rate limit
+        this.renderScheduler.renderNow ();
         this.host.scheduleTask ( () -> {
             this.isNotificationActive = false;
             this.forceFlush ();
@@ -174,6 +261,15 @@ public abstract class AbstractDisplay implements Display
     /** {@inheritDoc} */
     @Override
     public void flush ()
+    {
+        this.renderScheduler.requestRender ();
+    }
+
+
+    /**
+     * Sends all changed rows to the display.
+     */
+    protected void render ()
     {
         if (this.isNotificationActive)
         {
@@ -185,21 +281,61 @@ public abstract class AbstractDisplay implements Display
 
         for (int row = 0; row < this.noOfLines; row++)
         {
-            // Has anything changed?
-            if (this.currentMessage[row] != null && this.currentMessage[row].equals (this.message[row]))
+            final int length = this.lineLengths[row];
+            if (length < 0)
                 continue;
-            this.currentMessage[row] = this.message[row];
-            if (this.currentMessage[row] != null)
-                this.writeLine (row, this.currentMessage[row]);
+
+            // Find the range of characters which have changed since the last update
+            final char [] line = this.lines[row];
+            int start = 0;
+            int end = length;
+            if (this.sentLineLengths[row] == length)
+            {
+                final char [] sentLine = this.sentLines[row];
+                while (start < length && line[start] == sentLine[start])
+                    start++;
+                if (start == length)
+                    continue;
+                while (line[end - 1] == sentLine[end - 1])
+                    end--;
+            }
+
+            if (this.sentLines[row].length < length)
+                this.sentLines[row] = new char [length];
+            System.arraycopy (line, start, this.sentLines[row], start, end - start);
+            this.sentLineLengths[row] = length;
+            this.writeLine (row, line, length, start, end);
         }
     }
 
 
+    /**
+     * Sends the changed characters of a row to the display. The default implementation sends the
+     * whole row as a string. Overwrite to only send the changed range.
+     *
+     * @param row The row
+     * @param line The characters of the row, the array might be longer than the row
+     * @param length The number of characters of the row
+     * @param start The index of the first changed character
+     * @param end The index after the last changed character
+     */
+    protected void writeLine (final int row, final char [] line, final int length, final int start, final int end)
+    {
+        this.writeLine (row, new String (line, 0, length));
+    }
+
+
+    private void ensureLineCapacity (final int row, final int length)
+    {
+        if (this.lines[row].length < length)
+            this.lines[row] = new char [length];
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void forceFlush ()
     {
-        for (int row = 0; row < this.noOfLines; row++)
-            this.currentMessage[row] = "";
+        Arrays.fill (this.sentLineLengths, -1);
     }
 }
\ No newline at end of file
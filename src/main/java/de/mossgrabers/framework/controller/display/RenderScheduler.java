@@ -0,0 +1,140 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.display;
+
+import de.mossgrabers.framework.daw.IHost;
+
+
+/**
+ * Limits the rendering of a display to a maximum frame rate. If a render request arrives before
+ * the next frame is due, rendering is delayed until then. All requests which arrive in the
+ * meantime are coalesced into this one frame.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class RenderScheduler
+{
+    private final IHost    host;
+    private final Runnable renderer;
+    private final Runnable frameTask = this::renderFrame;
+
+    private int            frameInterval;
+    private long           lastFrameTime;
+    private boolean        isFramePending;
+
+    private int            renderedFrames;
+    private int            droppedFrames;
+    private int            coalescedUpdates;
+
+
+    /**
+     * Constructor. The frame rate is not limited until a maximum frame rate is set.
+     *
+     * @param host The host to schedule delayed frames
+     * @param renderer Renders the current state of the display
+     */
+    public RenderScheduler (final IHost host, final Runnable renderer)
+    {
+        this.host = host;
+        this.renderer = renderer;
+    }
+
+
+    /**
+     * Set the maximum frame rate.
+     *
+     * @param framesPerSecond The maximum number of frames per second, 0 for no limit
+     */
+    public void setMaxFrameRate (final int framesPerSecond)
+    {
+        this.frameInterval = framesPerSecond <= 0 ? 0 : 1000 / framesPerSecond;
+    }
+
+
+    /**
+     * Request to render the display. Renders immediately if the next frame is due, otherwise the
+     * rendering is delayed until the next frame.
+     */
+    public void requestRender ()
+    {
+        if (this.isFramePending)
+        {
+            this.coalescedUpdates++;
+            return;
+        }
+
+        final long now = System.currentTimeMillis ();
+        final long delay = this.lastFrameTime + this.frameInterval - now;
+        if (this.frameInterval == 0 || delay <= 0)
+        {
+            this.render (now);
+            return;
+        }
+
+        this.isFramePending = true;
+        this.droppedFrames++;
+        this.host.scheduleTask (this.frameTask, delay);
+    }
+
+
+    /**
+     * Renders immediately independent of the frame rate, e.g. for notifications.
+     */
+    public void renderNow ()
+    {
+        this.render (System.currentTimeMillis ());
+    }
+
+
+    /**
+     * Get the number of rendered frames.
+     *
+     * @return The number of frames
+     */
+    public int getRenderedFrames ()
+    {
+        return this.renderedFrames;
+    }
+
+
+    /**
+     * Get the number of frames which were not rendered immediately, since they arrived before the
+     * next frame was due.
+     *
+     * @return The number of frames
+     */
+    public int getDroppedFrames ()
+    {
+        return this.droppedFrames;
+    }
+
+
+    /**
+     * Get the number of render requests which were merged into an already pending frame.
+     *
+     * @return The number of requests
+     */
+    public int getCoalescedUpdates ()
+    {
+        return this.coalescedUpdates;
+    }
+
+
+    private void renderFrame ()
+    {
+        if (!this.isFramePending)
+            return;
+        this.isFramePending = false;
+        this.render (System.currentTimeMillis ());
+    }
+
+
+    private void render (final long now)
+    {
+        this.lastFrameTime = now;
+        this.renderedFrames++;
+        this.renderer.run ();
+    }
+}
@@ -0,0 +1,119 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.controller.grid;
+
+import java.util.Arrays;
+
+
+/**
+ * Translates between the notes of the pad grid (36-99) and the notes which are sent and received
+ * by the controller. Both directions are looked up in a table with 128 entries.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NoteTranslation
+{
+    /** Marks a note which has no counterpart. */
+    public static final int NO_NOTE      = -1;
+
+    private final int []    toController = new int [128];
+    private final int []    toGrid       = new int [128];
+
+
+    /**
+     * Constructor. Creates a translation which does not change the notes.
+     */
+    public NoteTranslation ()
+    {
+        for (int i = 0; i < 128; i++)
+        {
+            this.toController[i] = i;
+            this.toGrid[i] = i;
+        }
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param firstGridNote The first note of the grid
+     * @param controllerNotes The controller notes of the grid notes, starting with the first note
+     *            of the grid
+     */
+    public NoteTranslation (final int firstGridNote, final int [] controllerNotes)
+    {
+        Arrays.fill (this.toController, NO_NOTE);
+        Arrays.fill (this.toGrid, NO_NOTE);
+        for (int i = 0; i < controllerNotes.length; i++)
+        {
+            final int controllerNote = controllerNotes[i];
+            this.toController[firstGridNote + i] = controllerNote;
+            this.toGrid[controllerNote] = firstGridNote + i;
+        }
+    }
+
+
+    /**
+     * Create a translation which shifts a range of grid notes.
+     *
+     * @param firstGridNote The first note of the grid
+     * @param firstControllerNote The controller note of the first grid note
+     * @param numNotes The number of notes in the range
+     * @return The translation
+     */
+    public static NoteTranslation createShifted (final int firstGridNote, final int firstControllerNote, final int numNotes)
+    {
+        final int [] controllerNotes = new int [numNotes];
+        for (int i = 0; i < numNotes; i++)
+            controllerNotes[i] = firstControllerNote + i;
+        return new NoteTranslation (firstGridNote, controllerNotes);
+    }
+
+
+    /**
+     * Translate a note of the grid to the note of the controller.
+     *
+     * @param note The grid note (0-127)
+     * @return The controller note or NO_NOTE
+     */
+    public int toController (final int note)
+    {
+        return this.toController[note];
+    }
+
+
+    /**
+     * Translate a note of the controller to the note of the grid.
+     *
+     * @param note The controller note (0-127)
+     * @return The grid note or NO_NOTE
+     */
+    public int toGrid (final int note)
+    {
+        return this.toGrid[note];
+    }
+
+
+    /**
+     * Move the entries of a matrix which is indexed by grid notes to the controller notes, e.g. to
+     * create a key translation table for the controller.
+     *
+     * @param matrix The matrix with 128 entries indexed by grid notes
+     * @return The matrix with 128 entries indexed by controller notes, unmapped notes are set to
+     *         NO_NOTE
+     */
+    public int [] translateMatrix (final int [] matrix)
+    {
+        final int [] result = new int [128];
+        Arrays.fill (result, NO_NOTE);
+        for (int i = 0; i < 128; i++)
+        {
+            final int controllerNote = this.toController[i];
+            if (controllerNote != NO_NOTE)
+                result[controllerNote] = matrix[i];
+        }
+        return result;
+    }
+}
@@ -99,6 +99,50 @@ public interface PadGrid
     void lightEx (int x, int y, String colorID, String blinkColorID, boolean fast);
 
 
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param note The midi note of the pad
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     */
+    void lightHandle (int note, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     */
+    void lightHandleEx (int x, int y, int colorHandle);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param note The midi note of the pad
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     * @param blinkColorHandle The handle of a registered blinking color ID or
+     *            ColorManager.NO_HANDLE
+     * @param fast Blinking is fast if true
+     */
+    void lightHandle (int note, int colorHandle, int blinkColorHandle, boolean fast);
+
+
+    /**
+     * Set the lighting state of a pad.
+     *
+     * @param x The x position of the pad in the grid
+     * @param y The y position of the pad in the grid
+     * @param colorHandle The handle of a registered color ID, see ColorManager.getHandle
+     * @param blinkColorHandle The handle of a registered blinking color ID or
+     *            ColorManager.NO_HANDLE
+     * @param fast Blinking is fast if true
+     */
+    void lightHandleEx (int x, int y, int colorHandle, int blinkColorHandle, boolean fast);
+
+
     /**
      * Flush out all changes of the pad states.
      */
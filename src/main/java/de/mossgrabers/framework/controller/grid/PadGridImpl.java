@@ -17,15 +17,25 @@ import java.util.Arrays;
  */
 public class PadGridImpl implements PadGrid
 {
-    protected IMidiOutput  output;
-    protected ColorManager colorManager;
+    private static final NoteTranslation IDENTITY        = new NoteTranslation ();
 
-    protected int []       currentButtonColors;
-    protected int []       buttonColors;
-    protected int []       currentBlinkColors;
-    protected int []       blinkColors;
-    protected boolean []   currentBlinkFast;
-    protected boolean []   blinkFast;
+    protected IMidiOutput                output;
+    protected ColorManager               colorManager;
+    protected final NoteTranslation      translation;
+
+    protected int []                     currentButtonColors;
+    protected int []                     buttonColors;
+    protected int []                     currentBlinkColors;
+    protected int []                     blinkColors;
+    protected boolean []                 currentBlinkFast;
+    protected boolean []                 blinkFast;
+
+    private int                          batchThreshold  = Integer.MAX_VALUE;
+    private final int []                 flushNotes      = new int [64];
+    private final int []                 flushColors     = new int [64];
+    private final int []                 blinkNotes      = new int [64];
+    private final int []                 blinkStates     = new int [64];
+    private final boolean []             blinkFastStates = new boolean [64];
 
 
     /**
@@ -35,9 +45,23 @@ public class PadGridImpl implements PadGrid
      * @param output The midi output which can address the pad states
      */
     public PadGridImpl (final ColorManager colorManager, final IMidiOutput output)
+    {
+        this (colorManager, output, IDENTITY);
+    }
+
+
+    /**
+     * Constructor.
+     *
+     * @param colorManager The color manager for accessing specific colors to use
+     * @param output The midi output which can address the pad states
+     * @param translation Translates between the grid and the controller notes
+     */
+    public PadGridImpl (final ColorManager colorManager, final IMidiOutput output, final NoteTranslation translation)
     {
         this.colorManager = colorManager;
         this.output = output;
+        this.translation = translation;
 
         // Note: The grid contains only 64 pads but is more efficient to use
         // the 128 note values the pads understand
@@ -123,6 +147,38 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandle (final int note, final int colorHandle)
+    {
+        this.light (note, this.colorManager.getColorByHandle (colorHandle), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandleEx (final int x, final int y, final int colorHandle)
+    {
+        this.lightEx (x, y, this.colorManager.getColorByHandle (colorHandle), -1, false);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandle (final int note, final int colorHandle, final int blinkColorHandle, final boolean fast)
+    {
+        this.light (note, this.colorManager.getColorByHandle (colorHandle), blinkColorHandle == ColorManager.NO_HANDLE ? -1 : this.colorManager.getColorByHandle (blinkColorHandle), fast);
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void lightHandleEx (final int x, final int y, final int colorHandle, final int blinkColorHandle, final boolean fast)
+    {
+        this.lightEx (x, y, this.colorManager.getColorByHandle (colorHandle), blinkColorHandle == ColorManager.NO_HANDLE ? -1 : this.colorManager.getColorByHandle (blinkColorHandle), fast);
+    }
+
+
     /**
      * Set the lighting state of a pad.
      *
@@ -170,32 +226,62 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /**
+     * Enable sending the changed pads with one message, e.g. a SysEx message which sets several
+     * LEDs. If less pads have changed, the pads are sent one by one. The device specific grid
+     * needs to override sendNoteStates to send the combined message.
+     *
+     * @param minPads The minimum number of changed pads to send them in one message
+     */
+    protected void enableBatchFlush (final int minPads)
+    {
+        this.batchThreshold = minPads;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void flush ()
     {
+        int numFlushNotes = 0;
+        int numBlinkNotes = 0;
+
+        final int offColor = this.colorManager.getColor (GRID_OFF);
         for (int i = 36; i < 100; i++)
         {
+            final boolean baseChanged = this.currentButtonColors[i] != this.buttonColors[i];
+            // Blinking color needs a base color, therefore it is sent as well
+            if (!baseChanged && this.currentBlinkColors[i] == this.blinkColors[i] && this.currentBlinkFast[i] == this.blinkFast[i])
+                continue;
+
+            this.currentButtonColors[i] = this.buttonColors[i];
+            this.currentBlinkColors[i] = this.blinkColors[i];
+            this.currentBlinkFast[i] = this.blinkFast[i];
+
             final int note = this.translateToController (i);
+            this.flushNotes[numFlushNotes] = note;
+            this.flushColors[numFlushNotes] = this.buttonColors[i];
+            numFlushNotes++;
 
-            boolean baseChanged = false;
-            if (this.currentButtonColors[i] != this.buttonColors[i])
+            if (this.blinkColors[i] != offColor)
             {
-                this.currentButtonColors[i] = this.buttonColors[i];
-                this.sendNoteState (note, this.buttonColors[i]);
-                baseChanged = true;
+                this.blinkNotes[numBlinkNotes] = note;
+                this.blinkStates[numBlinkNotes] = this.blinkColors[i];
+                this.blinkFastStates[numBlinkNotes] = this.blinkFast[i];
+                numBlinkNotes++;
             }
-            // No "else" here: Blinking color needs a base color
-            if (baseChanged || this.currentBlinkColors[i] != this.blinkColors[i] || this.currentBlinkFast[i] != this.blinkFast[i])
-            {
-                this.currentBlinkColors[i] = this.blinkColors[i];
-                this.currentBlinkFast[i] = this.blinkFast[i];
+        }
 
-                this.sendNoteState (note, this.currentButtonColors[i]);
-                if (this.blinkColors[i] != this.colorManager.getColor (GRID_OFF))
-                    this.sendBlinkState (note, this.blinkColors[i], this.blinkFast[i]);
-            }
+        if (numFlushNotes >= this.batchThreshold)
+            this.sendNoteStates (this.flushNotes, this.flushColors, numFlushNotes);
+        else
+        {
+            for (int i = 0; i < numFlushNotes; i++)
+                this.sendNoteState (this.flushNotes[i], this.flushColors[i]);
         }
+
+        if (numBlinkNotes > 0)
+            this.sendBlinkStates (this.blinkNotes, this.blinkStates, this.blinkFastStates, numBlinkNotes);
     }
 
 
@@ -211,6 +297,21 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /**
+     * Send the updates of several notes/pads to the controller. Only called if batch flushing is
+     * enabled. Sends the pads one by one by default.
+     *
+     * @param notes The notes
+     * @param colors The colors
+     * @param count The number of notes to send
+     */
+    protected void sendNoteStates (final int [] notes, final int [] colors, final int count)
+    {
+        for (int i = 0; i < count; i++)
+            this.sendNoteState (notes[i], colors[i]);
+    }
+
+
     /**
      * Set the given pad/note to blink.
      *
@@ -224,6 +325,22 @@ public class PadGridImpl implements PadGrid
     }
 
 
+    /**
+     * Set several pads/notes to blink. Called after the base colors of the pads were sent. Sends
+     * the pads one by one by default.
+     *
+     * @param notes The notes
+     * @param blinkColors The colors to use for blinking
+     * @param fast Blink fast or slow
+     * @param count The number of notes to send
+     */
+    protected void sendBlinkStates (final int [] notes, final int [] blinkColors, final boolean [] fast, final int count)
+    {
+        for (int i = 0; i < count; i++)
+            this.sendBlinkState (notes[i], blinkColors[i], fast[i]);
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void turnOff ()
@@ -239,7 +356,7 @@ public class PadGridImpl implements PadGrid
     @Override
     public int translateToGrid (final int note)
     {
-        return note;
+        return this.translation.toGrid (note);
     }
 
 
@@ -247,6 +364,6 @@ public class PadGridImpl implements PadGrid
     @Override
     public int translateToController (final int note)
     {
-        return note;
+        return this.translation.toController (note);
     }
 }
\ No newline at end of file
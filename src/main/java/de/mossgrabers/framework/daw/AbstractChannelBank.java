@@ -8,7 +8,6 @@ import de.mossgrabers.framework.controller.IValueChanger;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -20,10 +19,6 @@ import java.util.Set;
  */
 public abstract class AbstractChannelBank implements IChannelBank
 {
-    protected static final int                  NOTE_OFF      = 0;
-    protected static final int                  NOTE_ON       = 1;
-    protected static final int                  NOTE_ON_NEW   = 2;
-
     protected int                               numTracks;
     protected int                               numScenes;
     protected int                               numSends;
@@ -34,7 +29,9 @@ public abstract class AbstractChannelBank implements IChannelBank
     protected final IValueChanger               valueChanger;
     protected final Set<NoteObserver>           noteObservers = new HashSet<> ();
     protected final Set<TrackSelectionObserver> observers     = new HashSet<> ();
-    protected final int [] []                   noteCache;
+    protected final long [] []                  playingNotes;
+    protected final ValueChangeNotifier         notifier      = new ValueChangeNotifier ();
+    private final long []                       changedNotes  = new long [2];
 
 
     /**
@@ -53,12 +50,15 @@ public abstract class AbstractChannelBank implements IChannelBank
         this.numScenes = numScenes;
         this.numSends = numSends;
 
-        this.noteCache = new int [numTracks] [];
-        for (int i = 0; i < numTracks; i++)
-        {
-            this.noteCache[i] = new int [128];
-            Arrays.fill (this.noteCache[i], NOTE_OFF);
-        }
+        this.playingNotes = new long [numTracks] [2];
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return this.notifier.getVersion ();
     }
 
 
@@ -240,16 +240,52 @@ public abstract class AbstractChannelBank implements IChannelBank
     }
 
 
+    /**
+     * Update the playing notes of a track. Notifies all registered note observers about the notes
+     * which started or stopped since the last update.
+     *
+     * @param index The index of the track
+     * @param notes The currently playing notes, one bit for each of the 128 notes in 2 longs
+     * @param velocities The velocities of the playing notes, the velocities of the stopped notes
+     *            are set to 0
+     */
+    protected void updatePlayingNotes (final int index, final long [] notes, final int [] velocities)
+    {
+        final long [] playing = this.playingNotes[index];
+        boolean hasChanged = false;
+        for (int i = 0; i < 2; i++)
+        {
+            final long changed = playing[i] ^ notes[i];
+            this.changedNotes[i] = changed;
+            if (changed == 0)
+                continue;
+            hasChanged = true;
+
+            long stopped = changed & playing[i];
+            while (stopped != 0)
+            {
+                velocities[i * 64 + Long.numberOfTrailingZeros (stopped)] = 0;
+                stopped &= stopped - 1;
+            }
+            playing[i] = notes[i];
+        }
+
+        if (hasChanged)
+            this.notifyNoteObservers (this.changedNotes, velocities);
+    }
+
+
     /**
      * Notify all registered note observers.
      *
-     * @param note The note which is playing or stopped
-     * @param velocity The velocity of the note, note is stopped if 0
+     * @param notes The notes which started or stopped, one bit for each of the 128 notes in 2
+     *            longs
+     * @param velocities The velocities of all notes, a note is stopped if 0
      */
-    protected void notifyNoteObservers (final int note, final int velocity)
+    protected void notifyNoteObservers (final long [] notes, final int [] velocities)
     {
         for (final NoteObserver noteObserver: this.noteObservers)
-            noteObserver.call (note, velocity);
+            noteObserver.callNotes (notes, velocities);
     }
 
 
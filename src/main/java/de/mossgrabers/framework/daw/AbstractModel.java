@@ -337,4 +337,16 @@ public abstract class AbstractModel implements IModel
         }
         return false;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public void enableObservers (final ObservedData data, final boolean enable)
+    {
+        this.trackBank.enableObservers (data, enable);
+        if (this.effectTrackBank != null)
+            this.effectTrackBank.enableObservers (data, enable);
+        this.cursorDevice.enableObservers (data, enable);
+        this.browser.enableObservers (data, enable);
+    }
 }
@@ -0,0 +1,130 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.Arrays;
+
+
+/**
+ * Finds the nearest entry of a color palette for RGB values. The results are cached by the RGB
+ * value packed into an integer (8 bit per channel), therefore the same color is looked up in
+ * constant time after it has been searched once.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ColorQuantizer
+{
+    /** The result if no palette entry is near enough. */
+    public static final int    NO_INDEX    = -1;
+
+    // Must be a power of 2
+    private static final int   CACHE_SIZE  = 256;
+
+    private final double [] [] palette;
+    private final double       maxError;
+    private final int []       cacheKeys   = new int [CACHE_SIZE];
+    private final int []       cacheValues = new int [CACHE_SIZE];
+
+
+    /**
+     * Constructor.
+     *
+     * @param palette The colors of the palette, each entry contains the red, green and blue value
+     *            in the range of [0..1]
+     * @param maxError A palette entry is only used if the squared distance to the color is smaller
+     */
+    public ColorQuantizer (final double [] [] palette, final double maxError)
+    {
+        this.palette = palette;
+        this.maxError = maxError;
+
+        // No valid packed RGB value is negative
+        Arrays.fill (this.cacheKeys, -1);
+    }
+
+
+    /**
+     * Get the index of the palette entry which is nearest to the given RGB values.
+     *
+     * @param red The red value in the range of [0..1]
+     * @param green The green value in the range of [0..1]
+     * @param blue The blue value in the range of [0..1]
+     * @return The index of the palette entry or NO_INDEX if none is near enough
+     */
+    public int quantize (final double red, final double green, final double blue)
+    {
+        final int rgb = toRGB (red, green, blue);
+        // Spread the channels over the bits of the cache index
+        final int slot = (rgb ^ rgb >>> 8 ^ rgb >>> 16) & CACHE_SIZE - 1;
+        if (this.cacheKeys[slot] == rgb)
+            return this.cacheValues[slot];
+
+        final int index = this.findNearest ((rgb >> 16) / 255.0, (rgb >> 8 & 0xFF) / 255.0, (rgb & 0xFF) / 255.0);
+        this.cacheKeys[slot] = rgb;
+        this.cacheValues[slot] = index;
+        return index;
+    }
+
+
+    /**
+     * Searches the palette entry which is nearest to the given RGB values without using the
+     * cache.
+     *
+     * @param red The red value in the range of [0..1]
+     * @param green The green value in the range of [0..1]
+     * @param blue The blue value in the range of [0..1]
+     * @return The index of the palette entry or NO_INDEX if none is near enough
+     */
+    public int findNearest (final double red, final double green, final double blue)
+    {
+        int index = NO_INDEX;
+        double minError = this.maxError;
+        for (int i = 0; i < this.palette.length; i++)
+        {
+            final double [] color = this.palette[i];
+            final double r = color[0] - red;
+            final double g = color[1] - green;
+            final double b = color[2] - blue;
+            final double error = r * r + g * g + b * b;
+            if (error < minError)
+            {
+                index = i;
+                minError = error;
+            }
+        }
+        return index;
+    }
+
+
+    /**
+     * Get the number of entries of the palette.
+     *
+     * @return The number of entries
+     */
+    public int getSize ()
+    {
+        return this.palette.length;
+    }
+
+
+    /**
+     * Packs RGB values into one integer with 8 bit per channel.
+     *
+     * @param red The red value in the range of [0..1]
+     * @param green The green value in the range of [0..1]
+     * @param blue The blue value in the range of [0..1]
+     * @return The packed value
+     */
+    public static int toRGB (final double red, final double green, final double blue)
+    {
+        return toByte (red) << 16 | toByte (green) << 8 | toByte (blue);
+    }
+
+
+    private static int toByte (final double value)
+    {
+        return (int) Math.round (Math.max (0, Math.min (1, value)) * 255);
+    }
+}
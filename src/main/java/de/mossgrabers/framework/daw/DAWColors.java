@@ -4,6 +4,10 @@
 
 package de.mossgrabers.framework.daw;
 
+import java.util.HashMap;
+import java.util.Map;
+
+
 /**
  * Support for handling the colors used in the DAW.
  *
@@ -12,7 +16,7 @@ package de.mossgrabers.framework.daw;
 public class DAWColors
 {
     /** All track colors. */
-    private static final Object [] COLORS                  =
+    private static final double [] []           COLORS                  =
     {
         // Gray - not assigned
         new double []
@@ -207,62 +211,62 @@ public class DAWColors
     };
 
     /** Color off. */
-    public static final String     COLOR_OFF               = "COLOR_OFF";
+    public static final String                  COLOR_OFF               = "COLOR_OFF";
     /** Color dark grey. */
-    public static final String     DAW_COLOR_DARK_GRAY     = "DAW_COLOR_DARK_GRAY";
+    public static final String                  DAW_COLOR_DARK_GRAY     = "DAW_COLOR_DARK_GRAY";
     /** Color grey. */
-    public static final String     DAW_COLOR_GRAY          = "DAW_COLOR_GRAY";
+    public static final String                  DAW_COLOR_GRAY          = "DAW_COLOR_GRAY";
     /** Color light grey. */
-    public static final String     DAW_COLOR_LIGHT_GRAY    = "DAW_COLOR_LIGHT_GRAY";
+    public static final String                  DAW_COLOR_LIGHT_GRAY    = "DAW_COLOR_LIGHT_GRAY";
     /** Color silver. */
-    public static final String     DAW_COLOR_SILVER        = "DAW_COLOR_SILVER";
+    public static final String                  DAW_COLOR_SILVER        = "DAW_COLOR_SILVER";
     /** Color dark brown. */
-    public static final String     DAW_COLOR_DARK_BROWN    = "DAW_COLOR_DARK_BROWN";
+    public static final String                  DAW_COLOR_DARK_BROWN    = "DAW_COLOR_DARK_BROWN";
     /** Color brown. */
-    public static final String     DAW_COLOR_BROWN         = "DAW_COLOR_BROWN";
+    public static final String                  DAW_COLOR_BROWN         = "DAW_COLOR_BROWN";
     /** Color dark blue. */
-    public static final String     DAW_COLOR_DARK_BLUE     = "DAW_COLOR_DARK_BLUE";
+    public static final String                  DAW_COLOR_DARK_BLUE     = "DAW_COLOR_DARK_BLUE";
     /** Color purple blue. */
-    public static final String     DAW_COLOR_PURPLE_BLUE   = "DAW_COLOR_PURPLE_BLUE";
+    public static final String                  DAW_COLOR_PURPLE_BLUE   = "DAW_COLOR_PURPLE_BLUE";
     /** Color purple. */
-    public static final String     DAW_COLOR_PURPLE        = "DAW_COLOR_PURPLE";
+    public static final String                  DAW_COLOR_PURPLE        = "DAW_COLOR_PURPLE";
     /** Color pink. */
-    public static final String     DAW_COLOR_PINK          = "DAW_COLOR_PINK";
+    public static final String                  DAW_COLOR_PINK          = "DAW_COLOR_PINK";
     /** Color red. */
-    public static final String     DAW_COLOR_RED           = "DAW_COLOR_RED";
+    public static final String                  DAW_COLOR_RED           = "DAW_COLOR_RED";
     /** Color orange. */
-    public static final String     DAW_COLOR_ORANGE        = "DAW_COLOR_ORANGE";
+    public static final String                  DAW_COLOR_ORANGE        = "DAW_COLOR_ORANGE";
     /** Color light orange. */
-    public static final String     DAW_COLOR_LIGHT_ORANGE  = "DAW_COLOR_LIGHT_ORANGE";
+    public static final String                  DAW_COLOR_LIGHT_ORANGE  = "DAW_COLOR_LIGHT_ORANGE";
     /** Color moss green. */
-    public static final String     DAW_COLOR_MOSS_GREEN    = "DAW_COLOR_MOSS_GREEN";
+    public static final String                  DAW_COLOR_MOSS_GREEN    = "DAW_COLOR_MOSS_GREEN";
     /** Color green. */
-    public static final String     DAW_COLOR_GREEN         = "DAW_COLOR_GREEN";
+    public static final String                  DAW_COLOR_GREEN         = "DAW_COLOR_GREEN";
     /** Color cold green. */
-    public static final String     DAW_COLOR_COLD_GREEN    = "DAW_COLOR_COLD_GREEN";
+    public static final String                  DAW_COLOR_COLD_GREEN    = "DAW_COLOR_COLD_GREEN";
     /** Color blue. */
-    public static final String     DAW_COLOR_BLUE          = "DAW_COLOR_BLUE";
+    public static final String                  DAW_COLOR_BLUE          = "DAW_COLOR_BLUE";
     /** Color purple. */
-    public static final String     DAW_COLOR_LIGHT_PURPLE  = "DAW_COLOR_LIGHT_PURPLE";
+    public static final String                  DAW_COLOR_LIGHT_PURPLE  = "DAW_COLOR_LIGHT_PURPLE";
     /** Color light pink. */
-    public static final String     DAW_COLOR_LIGHT_PINK    = "DAW_COLOR_LIGHT_PINK";
+    public static final String                  DAW_COLOR_LIGHT_PINK    = "DAW_COLOR_LIGHT_PINK";
     /** Color skin. */
-    public static final String     DAW_COLOR_SKIN          = "DAW_COLOR_SKIN";
+    public static final String                  DAW_COLOR_SKIN          = "DAW_COLOR_SKIN";
     /** Color reddish brown. */
-    public static final String     DAW_COLOR_REDDISH_BROWN = "DAW_COLOR_REDDISH_BROWN";
+    public static final String                  DAW_COLOR_REDDISH_BROWN = "DAW_COLOR_REDDISH_BROWN";
     /** Color light brown. */
-    public static final String     DAW_COLOR_LIGHT_BROWN   = "DAW_COLOR_LIGHT_BROWN";
+    public static final String                  DAW_COLOR_LIGHT_BROWN   = "DAW_COLOR_LIGHT_BROWN";
     /** Color light green. */
-    public static final String     DAW_COLOR_LIGHT_GREEN   = "DAW_COLOR_LIGHT_GREEN";
+    public static final String                  DAW_COLOR_LIGHT_GREEN   = "DAW_COLOR_LIGHT_GREEN";
     /** Color bluish green. */
-    public static final String     DAW_COLOR_BLUISH_GREEN  = "DAW_COLOR_BLUISH_GREEN";
+    public static final String                  DAW_COLOR_BLUISH_GREEN  = "DAW_COLOR_BLUISH_GREEN";
     /** Color green blue. */
-    public static final String     DAW_COLOR_GREEN_BLUE    = "DAW_COLOR_GREEN_BLUE";
+    public static final String                  DAW_COLOR_GREEN_BLUE    = "DAW_COLOR_GREEN_BLUE";
     /** Color light blue. */
-    public static final String     DAW_COLOR_LIGHT_BLUE    = "DAW_COLOR_LIGHT_BLUE";
+    public static final String                  DAW_COLOR_LIGHT_BLUE    = "DAW_COLOR_LIGHT_BLUE";
 
     /** All IDs for the track colors. */
-    public static final String []  DAW_COLORS              = new String []
+    public static final String []               DAW_COLORS              = new String []
     {
         DAW_COLOR_GRAY,
         DAW_COLOR_DARK_GRAY,
@@ -293,6 +297,15 @@ public class DAWColors
         DAW_COLOR_LIGHT_BLUE
     };
 
+    private static final ColorQuantizer         QUANTIZER               = new ColorQuantizer (COLORS, 1.0);
+    private static final Map<String, double []> COLOR_ENTRIES           = new HashMap<> (DAW_COLORS.length);
+
+    static
+    {
+        for (int i = 0; i < DAW_COLORS.length; i++)
+            COLOR_ENTRIES.putIfAbsent (DAW_COLORS[i], COLORS[i]);
+    }
+
 
     /**
      * Private due to utility class.
@@ -311,12 +324,8 @@ public class DAWColors
      */
     public static double [] getColorEntry (final String colorId)
     {
-        for (int i = 0; i < DAW_COLORS.length; i++)
-        {
-            if (DAW_COLORS[i] == colorId)
-                return (double []) COLORS[i];
-        }
-        return (double []) COLORS[0];
+        final double [] entry = COLOR_ENTRIES.get (colorId);
+        return entry == null ? COLORS[0] : entry;
     }
 
 
@@ -342,18 +351,22 @@ public class DAWColors
      */
     public static String getColorIndex (final double red, final double green, final double blue)
     {
-        String cid = COLOR_OFF;
-        double minError = 1.0;
-        for (int i = 0; i < COLORS.length; i++)
-        {
-            final double [] color = (double []) COLORS[i];
-            final double error = Math.pow (color[0] - red, 2.0) + Math.pow (color[1] - green, 2.0) + Math.pow (color[2] - blue, 2.0);
-            if (error < minError)
-            {
-                cid = DAW_COLORS[i];
-                minError = error;
-            }
-        }
-        return cid;
+        final int index = QUANTIZER.quantize (red, green, blue);
+        return index == ColorQuantizer.NO_INDEX ? COLOR_OFF : DAW_COLORS[index];
+    }
+
+
+    /**
+     * Get the position in the DAW_COLORS array of the color that is assigned to the given RGB
+     * values.
+     *
+     * @param red The red value
+     * @param green The green value
+     * @param blue The blue value
+     * @return The position or ColorQuantizer.NO_INDEX if none is mapped
+     */
+    public static int getColorPosition (final double red, final double green, final double blue)
+    {
+        return QUANTIZER.quantize (red, green, blue);
     }
 }
@@ -247,4 +247,21 @@ public interface IApplication extends ObserverManagement
      * Increase the track height.
      */
     void incTrackHeight ();
+
+
+    /**
+     * Add an observer which is notified if the engine state or the panel layout changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the application states. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
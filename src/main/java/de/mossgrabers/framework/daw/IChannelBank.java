@@ -274,4 +274,15 @@ public interface IChannelBank extends ObserverManagement
      * @return The name to display
      */
     String getEditSendName (int sendIndex);
+
+
+    /**
+     * Get the aggregated version of the bank. It is increased whenever one of the tracks, their
+     * slots and sends, the scenes or the bank position change. Therefore, nothing in the bank has
+     * changed as long as the version stays the same. Changes of the VU meters and the playing notes
+     * are not included.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
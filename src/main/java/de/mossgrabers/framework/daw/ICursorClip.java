@@ -297,6 +297,28 @@ public interface ICursorClip extends ObserverManagement
     int getUpperRowWithData ();
 
 
+    /**
+     * Get the first step of a row which contains data (a note starts or continues), starting the
+     * search at the given step.
+     *
+     * @param row The row
+     * @param fromStep The step to start the search (inclusive)
+     * @return The step or -1 if there is no step with data at or after the given step
+     */
+    int getNextStepWithData (int row, int fromStep);
+
+
+    /**
+     * Get the last step of a row which contains data (a note starts or continues), searching
+     * backwards from the given step.
+     *
+     * @param row The row
+     * @param fromStep The step to start the search (inclusive)
+     * @return The step or -1 if there is no step with data at or before the given step
+     */
+    int getPreviousStepWithData (int row, int fromStep);
+
+
     /**
      * Set the length of a step.
      *
@@ -1246,4 +1246,22 @@ public interface ICursorDevice extends ObserverManagement
      * @return The number
      */
     int getNumParameters ();
+
+
+    /**
+     * Add an observer which is notified if one of the states of the cursor device (existence, name,
+     * enabled, expanded, window, ...) changes. Use the parameters to observe their values.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the cursor device states. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
@@ -291,4 +291,14 @@ public interface IModel
      * @return The slot or null
      */
     ISlot getSelectedSlot ();
+
+
+    /**
+     * Dis-/Enable the observers of a part of the data in the track banks, the cursor device and
+     * the browser.
+     *
+     * @param data The part of the data
+     * @param enable True to enable
+     */
+    void enableObservers (ObservedData data, boolean enable);
 }
\ No newline at end of file
@@ -501,4 +501,22 @@ public interface ITransport extends ObserverManagement
      * @return The quarters per measure.
      */
     int getQuartersPerMeasure ();
+
+
+    /**
+     * Add an observer which is notified if one of the transport states (play, record, loop,
+     * metronome, crossfade, tempo, ...) changes. Changes of the play position are not notified.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the transport states. It is increased whenever the value change observers
+     * are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
@@ -19,4 +19,26 @@ public interface NoteObserver
      * @param velocity The played velocity
      */
     void call (int note, int velocity);
+
+
+    /**
+     * The callback function for several notes which started or stopped at once. Calls call for
+     * each of the notes by default.
+     *
+     * @param notes The changed notes, one bit for each of the 128 notes in 2 longs
+     * @param velocities The velocities of all 128 notes, 0 if a note stopped
+     */
+    default void callNotes (final long [] notes, final int [] velocities)
+    {
+        for (int i = 0; i < notes.length; i++)
+        {
+            long bits = notes[i];
+            while (bits != 0)
+            {
+                final int note = i * 64 + Long.numberOfTrailingZeros (bits);
+                this.call (note, velocities[note]);
+                bits &= bits - 1;
+            }
+        }
+    }
 }
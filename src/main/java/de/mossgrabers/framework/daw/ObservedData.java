@@ -0,0 +1,25 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+/**
+ * Parts of the DAW data which can be subscribed independently. Modes and views declare which of
+ * them they read, all others can be unsubscribed to reduce the update traffic from the DAW.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public enum ObservedData
+{
+    /** The sends of the tracks in the track banks. */
+    TRACK_SENDS,
+    /** The clip launcher slots of the tracks in the track banks. */
+    TRACK_SLOTS,
+    /** The parameter page of the cursor device. */
+    DEVICE_PARAMETERS,
+    /** The layers and drum pads of the cursor device. */
+    DEVICE_LAYERS,
+    /** The columns and results of the browser. */
+    BROWSER
+}
@@ -18,4 +18,16 @@ public interface ObserverManagement
      * @param enable True to enable
      */
     void enableObservers (final boolean enable);
+
+
+    /**
+     * Dis-/Enable a part of the attributes. Does nothing if the object does not contain the data.
+     *
+     * @param data The part of the data
+     * @param enable True to enable
+     */
+    default void enableObservers (final ObservedData data, final boolean enable)
+    {
+        // Intentionally empty
+    }
 }
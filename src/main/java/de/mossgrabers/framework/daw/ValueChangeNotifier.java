@@ -0,0 +1,57 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Manages the value change observers of a model object. Additionally, counts the notifications as
+ * a version of the values. Consumers can store the version and skip their work as long as it did
+ * not change.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class ValueChangeNotifier
+{
+    private final List<ValueChangeObserver> observers = new ArrayList<> ();
+    private long                            version;
+
+
+    /**
+     * Add an observer.
+     *
+     * @param observer The observer
+     */
+    public void addObserver (final ValueChangeObserver observer)
+    {
+        this.observers.add (observer);
+    }
+
+
+    /**
+     * Notify all registered observers about a value change.
+     */
+    public void notifyObservers ()
+    {
+        this.version++;
+
+        // Index based to not create an iterator on each notification
+        for (int i = 0; i < this.observers.size (); i++)
+            this.observers.get (i).call ();
+    }
+
+
+    /**
+     * Get the version of the values. It is increased with each notification.
+     *
+     * @return The version
+     */
+    public long getVersion ()
+    {
+        return this.version;
+    }
+}
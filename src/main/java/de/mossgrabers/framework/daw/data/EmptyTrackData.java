@@ -4,6 +4,7 @@
 
 package de.mossgrabers.framework.daw.data;
 
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 
@@ -312,6 +313,22 @@ public class EmptyTrackData implements ITrack
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public void addValueChangeObserver (final ValueChangeObserver observer)
+    {
+        // Intentionally empty
+    }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public long getVersion ()
+    {
+        return 0;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean isPlaying ()
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 import de.mossgrabers.framework.daw.resource.ChannelType;
 
 
@@ -361,4 +362,23 @@ public interface IChannel extends ObserverManagement
      * @return The send
      */
     ISend getSend (int sendIndex);
+
+
+    /**
+     * Add an observer which is notified if one of the values of the channel (existence, name,
+     * activation, volume, panorama, mute, solo, sends, selection, ...) changes. Changes of the VU
+     * meters are not notified.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the values of the channel. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
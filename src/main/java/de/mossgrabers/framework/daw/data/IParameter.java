@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 
 
 /**
@@ -118,4 +119,22 @@ public interface IParameter extends ObserverManagement
      * @param enable True in case visual indications should be shown
      */
     void setIndication (boolean enable);
+
+
+    /**
+     * Add an observer which is notified if the existence, the name or the value of the parameter
+     * changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the values of the parameter. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 
 
 /**
@@ -53,4 +54,21 @@ public interface IScene extends ObserverManagement
      * @return True if selected
      */
     boolean isSelected ();
+
+
+    /**
+     * Add an observer which is notified if one of the values of the scene changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the values of the scene. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
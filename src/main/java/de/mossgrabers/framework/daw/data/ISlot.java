@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.daw.data;
 
 import de.mossgrabers.framework.daw.ObserverManagement;
+import de.mossgrabers.framework.daw.ValueChangeObserver;
 
 
 /**
@@ -163,4 +164,21 @@ public interface ISlot extends ObserverManagement
      * Opens the context browser to insert a clip.
      */
     void browse ();
+
+
+    /**
+     * Add an observer which is notified if one of the values of the slot changes.
+     *
+     * @param observer The observer
+     */
+    void addValueChangeObserver (ValueChangeObserver observer);
+
+
+    /**
+     * Get the version of the values of the slot. It is increased whenever the value change
+     * observers are notified. Therefore, nothing has changed as long as the version stays the same.
+     *
+     * @return The version
+     */
+    long getVersion ();
 }
\ No newline at end of file
@@ -0,0 +1,221 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.daw.midi;
+
+/**
+ * Builds system exclusive messages directly as bytes. The header (manufacturer, device, etc.) is
+ * copied into the buffer once, each message is then started with start, filled with the add
+ * methods and sent with send. The message arrays are reused for each length, therefore a builder
+ * must only be used from one thread.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class SysExBuilder
+{
+    /** The start of a system exclusive message. */
+    public static final int  SYSEX_START = 0xF0;
+    /** The end of a system exclusive message. */
+    public static final int  SYSEX_END   = 0xF7;
+
+    private final byte []    buffer;
+    private final byte [] [] messages;
+    private final int        headerLength;
+    private int              position;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of data bytes following the header
+     * @param header The header bytes following the start byte (F0), e.g. the manufacturer ID and
+     *            the device ID
+     */
+    public SysExBuilder (final int capacity, final int... header)
+    {
+        this.headerLength = 1 + header.length;
+        this.buffer = new byte [this.headerLength + capacity + 1];
+        this.messages = new byte [this.buffer.length + 1] [];
+
+        this.buffer[0] = (byte) SYSEX_START;
+        for (int i = 0; i < header.length; i++)
+            this.buffer[1 + i] = (byte) header[i];
+        this.position = this.headerLength;
+    }
+
+
+    /**
+     * Start a new message. Keeps the header.
+     *
+     * @return The builder for chaining
+     */
+    public SysExBuilder start ()
+    {
+        this.position = this.headerLength;
+        return this;
+    }
+
+
+    /**
+     * Add a 7 bit value.
+     *
+     * @param value The value
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int value)
+    {
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several 7 bit values.
+     *
+     * @param values The values
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int... values)
+    {
+        return this.add (values, 0, values.length);
+    }
+
+
+    /**
+     * Add several 7 bit values.
+     *
+     * @param values The values
+     * @param offset The index of the first value to add
+     * @param length The number of values to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final int [] values, final int offset, final int length)
+    {
+        for (int i = 0; i < length; i++)
+            this.buffer[this.position++] = (byte) (values[offset + i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add several bytes, e.g. a pre-calculated block of data.
+     *
+     * @param data The bytes
+     * @return The builder for chaining
+     */
+    public SysExBuilder add (final byte [] data)
+    {
+        System.arraycopy (data, 0, this.buffer, this.position, data.length);
+        this.position += data.length;
+        return this;
+    }
+
+
+    /**
+     * Add a value in 2 bytes: the lower 7 bits followed by the upper 5 bits.
+     *
+     * @param value The value in the range of 0-4095
+     * @return The builder for chaining
+     */
+    public SysExBuilder add7L5M (final int value)
+    {
+        this.buffer[this.position++] = (byte) (value & 0x7F);
+        this.buffer[this.position++] = (byte) (value >> 7 & 0x1F);
+        return this;
+    }
+
+
+    /**
+     * Add the characters of a text, each one reduced to 7 bit ASCII.
+     *
+     * @param text The text
+     * @return The builder for chaining
+     */
+    public SysExBuilder addASCII (final String text)
+    {
+        return this.addASCII (text, 0, text.length ());
+    }
+
+
+    /**
+     * Add characters of a text, each one reduced to 7 bit ASCII.
+     *
+     * @param text The text
+     * @param offset The index of the first character to add
+     * @param length The number of characters to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder addASCII (final String text, final int offset, final int length)
+    {
+        for (int i = 0; i < length; i++)
+            this.buffer[this.position++] = (byte) (text.charAt (offset + i) & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Add characters, each one reduced to 7 bit ASCII.
+     *
+     * @param chars The characters
+     * @param offset The index of the first character to add
+     * @param length The number of characters to add
+     * @return The builder for chaining
+     */
+    public SysExBuilder addASCII (final char [] chars, final int offset, final int length)
+    {
+        for (int i = 0; i < length; i++)
+            this.buffer[this.position++] = (byte) (chars[offset + i] & 0x7F);
+        return this;
+    }
+
+
+    /**
+     * Finish the message with the end byte (F7).
+     *
+     * @return The message, the array is reused for the next message of the same length
+     */
+    public byte [] build ()
+    {
+        this.buffer[this.position++] = (byte) SYSEX_END;
+        final int length = this.position;
+        this.position = this.headerLength;
+
+        byte [] message = this.messages[length];
+        if (message == null)
+        {
+            message = new byte [length];
+            this.messages[length] = message;
+        }
+        System.arraycopy (this.buffer, 0, message, 0, length);
+        return message;
+    }
+
+
+    /**
+     * Finish the message and send it.
+     *
+     * @param output The output to send the message to
+     */
+    public void send (final IMidiOutput output)
+    {
+        output.sendSysex (this.build ());
+    }
+
+
+    /**
+     * Convert a message in hex notation (e.g. "F0 7E 7F 06 01 F7") into bytes. Use it to
+     * pre-calculate constant messages.
+     *
+     * @param hex The message in hex notation, the bytes might be separated by spaces
+     * @return The bytes
+     */
+    public static byte [] toBytes (final String hex)
+    {
+        final String data = hex.replace (" ", "");
+        final byte [] bytes = new byte [data.length () / 2];
+        for (int i = 0; i < bytes.length; i++)
+            bytes[i] = (byte) Integer.parseInt (data.substring (2 * i, 2 * i + 2), 16);
+        return bytes;
+    }
+}
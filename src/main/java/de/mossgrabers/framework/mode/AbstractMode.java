@@ -8,9 +8,13 @@ import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 
 /**
  * Abstract class for all modes.
@@ -23,21 +27,22 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractMode<S extends IControlSurface<C>, C extends Configuration> implements Mode
 {
     /** Color identifier for a mode button which is off. */
-    public static final String BUTTON_COLOR_OFF       = "BUTTON_COLOR_OFF";
+    public static final String  BUTTON_COLOR_OFF       = "BUTTON_COLOR_OFF";
     /** Color identifier for a mode button which is on. */
-    public static final String BUTTON_COLOR_ON        = "BUTTON_COLOR_ON";
+    public static final String  BUTTON_COLOR_ON        = "BUTTON_COLOR_ON";
     /** Color identifier for a mode button which is hilighted. */
-    public static final String BUTTON_COLOR_HI        = "BUTTON_COLOR_HI";
+    public static final String  BUTTON_COLOR_HI        = "BUTTON_COLOR_HI";
     /** Color identifier for a mode button which is on (second row). */
-    public static final String BUTTON_COLOR2_ON       = "BUTTON_COLOR2_ON";
+    public static final String  BUTTON_COLOR2_ON       = "BUTTON_COLOR2_ON";
     /** Color identifier for a mode button which is hilighted (second row). */
-    public static final String BUTTON_COLOR2_HI       = "BUTTON_COLOR2_HI";
+    public static final String  BUTTON_COLOR2_HI       = "BUTTON_COLOR2_HI";
 
-    private static final int   BUTTON_REPEAT_INTERVAL = 75;
+    private static final int    BUTTON_REPEAT_INTERVAL = 75;
 
-    protected S                surface;
-    protected IModel           model;
-    protected boolean          isTemporary;
+    protected S                 surface;
+    protected IModel            model;
+    protected boolean           isTemporary;
+    protected Set<ObservedData> observedData           = EnumSet.noneOf (ObservedData.class);
 
 
     /**
@@ -110,6 +115,14 @@ public abstract class AbstractMode<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ObservedData> getObservedData ()
+    {
+        return this.observedData;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void onRowButton (final int row, final int index, final ButtonEvent event)
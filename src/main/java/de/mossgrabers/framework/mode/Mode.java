@@ -4,9 +4,12 @@
 
 package de.mossgrabers.framework.mode;
 
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Set;
+
 
 /**
  * Interface to a mode. A mode has a display and two rows of buttons to navigate it.
@@ -35,6 +38,14 @@ public interface Mode
     boolean isTemporary ();
 
 
+    /**
+     * Get the parts of the DAW data which are read by this mode.
+     *
+     * @return The parts of the data
+     */
+    Set<ObservedData> getObservedData ();
+
+
     /**
      * Update the display.
      */
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.osc;
 
 import de.mossgrabers.framework.configuration.AbstractConfiguration;
 import de.mossgrabers.framework.configuration.IEnumSetting;
+import de.mossgrabers.framework.configuration.IIntegerSetting;
 import de.mossgrabers.framework.configuration.ISettingsUI;
 import de.mossgrabers.framework.controller.IValueChanger;
 
@@ -23,12 +24,16 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     public static final Integer   LOG_OUTPUT_COMMANDS       = Integer.valueOf (41);
     /** ID for filtering heartbeat OSC messages from logging. */
     public static final Integer   FILTER_HEARTBEAT_COMMANDS = Integer.valueOf (42);
+    /** ID for the maximum packet size setting. */
+    public static final Integer   MAX_PACKET_SIZE           = Integer.valueOf (43);
 
     protected static final String DEFAULT_SERVER            = "127.0.0.1";
 
     private boolean               logInputCommands          = false;
     private boolean               logOutputCommands         = false;
     private boolean               filterHeartbeatCommands   = false;
+    // Fits into an ethernet or WLAN frame (1500 bytes) together with the IP and UDP headers
+    private int                   maxPacketSize             = 1400;
 
 
     /**
@@ -67,6 +72,22 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     }
 
 
+    /**
+     * Activate the maximum packet size setting.
+     *
+     * @param settingsUI The settings
+     * @param category The category to put the setting in
+     */
+    protected void activateMaxPacketSizeSetting (final ISettingsUI settingsUI, final String category)
+    {
+        final IIntegerSetting maxPacketSizeSetting = settingsUI.getRangeSetting ("Max. packet size", category, 512, 65000, 1, "bytes", 1400);
+        maxPacketSizeSetting.addValueObserver (value -> {
+            this.maxPacketSize = value.intValue ();
+            this.notifyObservers (MAX_PACKET_SIZE);
+        });
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public boolean shouldLogInputCommands ()
@@ -89,4 +110,12 @@ public abstract class AbstractOpenSoundControlConfiguration extends AbstractConf
     {
         return this.filterHeartbeatCommands;
     }
+
+
+    /** {@inheritDoc} */
+    @Override
+    public int getMaxPacketSize ()
+    {
+        return this.maxPacketSize;
+    }
 }
@@ -9,8 +9,10 @@ import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.StringUtils;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,14 +25,29 @@ import java.util.Map;
  */
 public abstract class AbstractOpenSoundControlWriter implements IOpenSoundControlWriter
 {
+    /** The maximum number of packets to send with one flush. */
+    protected static final int                     MAX_PACKETS_PER_FLUSH = 16;
+
+    // '#bundle' and the time tag
+    private static final int                       BUNDLE_HEADER_SIZE    = 16;
+
     protected final IHost                          host;
     protected final IModel                         model;
     protected final IOpenSoundControlConfiguration configuration;
 
     protected final IOpenSoundControlServer        oscServer;
-    protected final Map<String, Object>            oldValues = new HashMap<> ();
+    protected final Map<String, Object>            oldValues             = new HashMap<> ();
+    protected final OpenSoundControlAddress        rootAddress           = new OpenSoundControlAddress ("");
+
+    private final Deque<IOpenSoundControlMessage>  fastMessages          = new ArrayDeque<> ();
+    private final MessageQueue                     messages              = new MessageQueue ();
+    private final MessageQueue                     lowPriorityMessages   = new MessageQueue ();
+    private final List<IOpenSoundControlMessage>   packet                = new ArrayList<> ();
+    private boolean                                isLowPriority;
 
-    private final List<IOpenSoundControlMessage>   messages  = new ArrayList<> ();
+    private int                                    flushedMessages;
+    private int                                    flushedPackets;
+    private int                                    flushedBytes;
 
 
     /**
@@ -51,21 +68,147 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
 
     /**
-     * Send all collected messages.
+     * Send the collected messages. The messages are combined into bundles which do not exceed the
+     * configured maximum packet size. To not flood the network with a full dump of all values, at
+     * most MAX_PACKETS_PER_FLUSH packets are sent, the remaining messages are sent with the next
+     * flush. Messages which were sent with fastSendOSC are sent first, messages with a low priority
+     * are sent after all other messages.
      */
     public void flush ()
+    {
+        final int maxPacketSize = this.configuration.getMaxPacketSize ();
+
+        synchronized (this.messages)
+        {
+            this.flushedMessages = 0;
+            this.flushedPackets = 0;
+            this.flushedBytes = 0;
+
+            int packetSize = BUNDLE_HEADER_SIZE;
+            while (this.flushedPackets < MAX_PACKETS_PER_FLUSH)
+            {
+                final IOpenSoundControlMessage message = this.peekMessage ();
+                if (message == null)
+                    break;
+
+                // Each message of a bundle is prefixed with its size
+                final int messageSize = 4 + getEncodedSize (message);
+                if (!this.packet.isEmpty () && packetSize + messageSize > maxPacketSize)
+                {
+                    this.sendPacket (packetSize);
+                    packetSize = BUNDLE_HEADER_SIZE;
+                    continue;
+                }
+
+                this.removeMessage ();
+                this.packet.add (message);
+                packetSize += messageSize;
+            }
+
+            if (!this.packet.isEmpty ())
+                this.sendPacket (packetSize);
+        }
+
+        if (this.flushedPackets > 0 && this.configuration.shouldLogOutputCommands ())
+            this.model.getHost ().println (new StringBuilder ("Flushed ").append (this.flushedMessages).append (" messages in ").append (this.flushedPackets).append (" packets (").append (this.flushedBytes).append (" bytes), pending: ").append (this.getPendingMessages ()).toString ());
+    }
+
+
+    /**
+     * Get the number of messages sent with the last flush.
+     *
+     * @return The number of messages
+     */
+    public int getFlushedMessages ()
+    {
+        return this.flushedMessages;
+    }
+
+
+    /**
+     * Get the number of packets (bundles) sent with the last flush.
+     *
+     * @return The number of packets
+     */
+    public int getFlushedPackets ()
+    {
+        return this.flushedPackets;
+    }
+
+
+    /**
+     * Get the number of bytes sent with the last flush.
+     *
+     * @return The number of bytes
+     */
+    public int getFlushedBytes ()
+    {
+        return this.flushedBytes;
+    }
+
+
+    /**
+     * Get the number of messages which are waiting to be sent with the next flush.
+     *
+     * @return The number of messages
+     */
+    public int getPendingMessages ()
+    {
+        synchronized (this.messages)
+        {
+            return this.fastMessages.size () + this.messages.size () + this.lowPriorityMessages.size ();
+        }
+    }
+
+
+    private IOpenSoundControlMessage peekMessage ()
+    {
+        if (!this.fastMessages.isEmpty ())
+            return this.fastMessages.peekFirst ();
+        final IOpenSoundControlMessage message = this.messages.peek ();
+        return message == null ? this.lowPriorityMessages.peek () : message;
+    }
+
+
+    private void removeMessage ()
+    {
+        if (!this.fastMessages.isEmpty ())
+            this.fastMessages.removeFirst ();
+        else if (!this.messages.isEmpty ())
+            this.messages.remove ();
+        else
+            this.lowPriorityMessages.remove ();
+    }
+
+
+    private void sendPacket (final int packetSize)
     {
         try
         {
-            this.logMessages (this.messages);
-            this.oscServer.sendBundle (this.messages);
+            this.logMessages (this.packet);
+            this.oscServer.sendBundle (this.packet);
         }
         catch (final IOException ex)
         {
             this.model.getHost ().error ("Could not send UDP message.", ex);
         }
 
-        this.messages.clear ();
+        this.flushedMessages += this.packet.size ();
+        this.flushedPackets++;
+        this.flushedBytes += packetSize;
+        this.packet.clear ();
+    }
+
+
+    /**
+     * Messages which are added after calling this method with true are sent after all other
+     * messages, e.g. to send browser data after transport and track data.
+     *
+     * @param isLowPriority True to add the following messages with a low priority
+     */
+    protected void setLowPriority (final boolean isLowPriority)
+    {
+        this.isLowPriority = isLowPriority;
     }
 
 
@@ -90,7 +233,15 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
 
     protected void fastSendOSC (final String address, final List<Object> parameters)
     {
-        this.sendOSC (address, parameters, true);
+        this.oldValues.put (address, parameters);
+        final IOpenSoundControlMessage message = this.host.createOSCMessage (address, parameters);
+        synchronized (this.messages)
+        {
+            // Do not send an older value of the address after this one
+            this.messages.remove (address);
+            this.lowPriorityMessages.remove (address);
+            this.fastMessages.add (message);
+        }
         this.flush ();
     }
 
@@ -152,11 +303,110 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
         if (!dump && compareValues (this.oldValues.get (cacheAddress), testValue))
             return;
         this.oldValues.put (cacheAddress, testValue);
+        final Object converted = convertBooleanToInt (value);
+        this.addMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted));
+    }
+
+
+    protected void sendOSC (final OpenSoundControlAddress address, final boolean value, final boolean dump)
+    {
+        final int intValue = value ? 1 : 0;
+        if (address.update (intValue) || dump)
+            this.addMessage (address.getAddress (), Collections.singletonList (Integer.valueOf (intValue)));
+    }
+
+
+    protected void sendOSC (final OpenSoundControlAddress address, final int value, final boolean dump)
+    {
+        if (address.update (value) || dump)
+            this.addMessage (address.getAddress (), Collections.singletonList (Integer.valueOf (value)));
+    }
+
+
+    protected void sendOSC (final OpenSoundControlAddress address, final double value, final boolean dump)
+    {
+        // Using float here since Double seems to be always received as 0 in Max.
+        final float floatValue = (float) value;
+        if (address.update (Float.floatToIntBits (floatValue)) || dump)
+            this.addMessage (address.getAddress (), Collections.singletonList (Float.valueOf (floatValue)));
+    }
+
+
+    protected void sendOSC (final OpenSoundControlAddress address, final String value, final boolean dump)
+    {
+        // Compare the original string, the ASCII conversion is only necessary if it has changed
+        if (address.update ((Object) value) || dump)
+            this.addMessage (address.getAddress (), Collections.singletonList (StringUtils.fixASCII (value)));
+    }
+
+
+    protected void sendOSCColor (final OpenSoundControlAddress address, final double red, final double green, final double blue, final boolean dump)
+    {
+        final int r = (int) Math.round (red * 255.0);
+        final int g = (int) Math.round (green * 255.0);
+        final int b = (int) Math.round (blue * 255.0);
+        if (address.update (r << 16 | g << 8 | b) || dump)
+            this.addMessage (address.getAddress (), Collections.singletonList ("rgb(" + r + "," + g + "," + b + ")"));
+    }
+
+
+    private void addMessage (final String address, final List<Object> values)
+    {
+        final IOpenSoundControlMessage message = this.host.createOSCMessage (address, values);
         synchronized (this.messages)
         {
-            final Object converted = convertBooleanToInt (value);
-            this.messages.add (this.host.createOSCMessage (address, converted instanceof List ? (List<Object>) converted : Collections.singletonList (converted)));
+            if (this.isLowPriority)
+            {
+                this.messages.remove (address);
+                this.lowPriorityMessages.add (message);
+            }
+            else
+            {
+                this.lowPriorityMessages.remove (address);
+                this.messages.add (message);
+            }
+        }
+    }
+
+
+    /**
+     * Calculate the size of the binary encoding of an OSC message: the address, the type tags and
+     * the arguments, each padded to a multiple of 4 bytes.
+     *
+     * @param message The message
+     * @return The size in bytes
+     */
+    protected static int getEncodedSize (final IOpenSoundControlMessage message)
+    {
+        final Object [] values = message.getValues ();
+        // Type tags start with a comma
+        int size = getPaddedSize (message.getAddress ()) + pad (values.length + 2);
+        for (final Object value: values)
+        {
+            if (value instanceof String)
+                size += getPaddedSize ((String) value);
+            else if (value instanceof Double || value instanceof Long)
+                size += 8;
+            else if (value instanceof byte [])
+                size += 4 + pad (((byte []) value).length);
+            else if (value instanceof Number)
+                size += 4;
+            // Boolean and null are only encoded in the type tags
         }
+        return size;
+    }
+
+
+    private static int getPaddedSize (final String text)
+    {
+        // Null terminated, characters are sent as single bytes
+        return text == null ? 4 : pad (text.length () + 1);
+    }
+
+
+    private static int pad (final int size)
+    {
+        return size + 3 & ~3;
     }
 
 
@@ -261,4 +511,90 @@ public abstract class AbstractOpenSoundControlWriter implements IOpenSoundContro
     {
         return false;
     }
+
+
+    /**
+     * A queue of OSC messages, which contains only the latest message of each address. A message
+     * which replaces an older one keeps the position of the older one in the queue.
+     */
+    private static class MessageQueue
+    {
+        private final Deque<String>                         addresses = new ArrayDeque<> ();
+        private final Map<String, IOpenSoundControlMessage> messages  = new HashMap<> ();
+
+
+        /**
+         * Add a message. Replaces a queued message with the same address.
+         *
+         * @param message The message
+         */
+        public void add (final IOpenSoundControlMessage message)
+        {
+            final String address = message.getAddress ();
+            if (this.messages.put (address, message) == null)
+                this.addresses.add (address);
+        }
+
+
+        /**
+         * Remove the queued message of an address.
+         *
+         * @param address The address
+         */
+        public void remove (final String address)
+        {
+            // The address is skipped when it reaches the head of the queue
+            this.messages.remove (address);
+        }
+
+
+        /**
+         * Get the first message without removing it.
+         *
+         * @return The message or null if the queue is empty
+         */
+        public IOpenSoundControlMessage peek ()
+        {
+            while (!this.addresses.isEmpty ())
+            {
+                final IOpenSoundControlMessage message = this.messages.get (this.addresses.peekFirst ());
+                if (message != null)
+                    return message;
+                this.addresses.removeFirst ();
+            }
+            return null;
+        }
+
+
+        /**
+         * Remove the first message.
+         */
+        public void remove ()
+        {
+            if (this.peek () != null)
+                this.messages.remove (this.addresses.removeFirst ());
+        }
+
+
+        /**
+         * Get the number of queued messages.
+         *
+         * @return The number of messages
+         */
+        public int size ()
+        {
+            return this.messages.size ();
+        }
+
+
+        /**
+         * Test if there are no queued messages.
+         *
+         * @return True if empty
+         */
+        public boolean isEmpty ()
+        {
+            return this.messages.isEmpty ();
+        }
+    }
 }
@@ -33,4 +33,13 @@ public interface IOpenSoundControlConfiguration
      * @return True to enable filtering
      */
     boolean filterHeartbeatMessages ();
+
+
+    /**
+     * Get the maximum size of an UDP packet which is sent to the OSC server. Several messages are
+     * combined into a bundle up to this size.
+     *
+     * @return The maximum size in bytes
+     */
+    int getMaxPacketSize ();
 }
@@ -0,0 +1,23 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+/**
+ * Interface for a handler of an OSC route.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+@FunctionalInterface
+public interface IOpenSoundControlRouteHandler
+{
+    /**
+     * Handle a message which matched the route.
+     *
+     * @param numbers The numbers captured by the '#' segments of the route in the order of their
+     *            appearance, the array is re-used and must not be stored
+     * @param values The values of the message, might be null
+     */
+    void handle (int [] numbers, Object [] values);
+}
@@ -25,7 +25,8 @@ public interface IOpenSoundControlServer
 
 
     /**
-     * Send several messages to the server as an OSC bundle.
+     * Send several messages to the server as an OSC bundle. The caller needs to make sure that the
+     * bundle fits into one packet (see AbstractOpenSoundControlWriter).
      *
      * @param messages The messages to send
      * @throws IOException Could not send the messages
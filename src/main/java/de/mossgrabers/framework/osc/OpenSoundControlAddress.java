@@ -0,0 +1,125 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+
+/**
+ * An interned OSC address, which also caches the last value sent to it. The address string of a
+ * node and its children are only created once when they are requested the first time. Values are
+ * compared as primitive bits (booleans, integers, floats, colors) or as a reference to the original
+ * object (e.g. a string), therefore testing for a change does not create any objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlAddress
+{
+    private final String                               address;
+    private final Map<String, OpenSoundControlAddress> namedChildren   = new HashMap<> ();
+    private OpenSoundControlAddress []                 indexedChildren = new OpenSoundControlAddress [0];
+
+    private boolean                                    hasValue;
+    private long                                       value;
+    private Object                                     objectValue;
+
+
+    /**
+     * Constructor.
+     *
+     * @param address The full OSC address
+     */
+    public OpenSoundControlAddress (final String address)
+    {
+        this.address = address;
+    }
+
+
+    /**
+     * Get the full OSC address.
+     *
+     * @return The address
+     */
+    public String getAddress ()
+    {
+        return this.address;
+    }
+
+
+    /**
+     * Get a child address, e.g. 'name' for '/track/1' is '/track/1/name'. The name might also
+     * contain several levels like 'overdub/launcher'.
+     *
+     * @param name The name of the child
+     * @return The child address
+     */
+    public OpenSoundControlAddress get (final String name)
+    {
+        OpenSoundControlAddress child = this.namedChildren.get (name);
+        if (child == null)
+        {
+            child = new OpenSoundControlAddress (this.address + "/" + name);
+            this.namedChildren.put (name, child);
+        }
+        return child;
+    }
+
+
+    /**
+     * Get a numbered child address, e.g. 1 for '/track' is '/track/1'.
+     *
+     * @param index The index of the child, must not be negative
+     * @return The child address
+     */
+    public OpenSoundControlAddress get (final int index)
+    {
+        if (index >= this.indexedChildren.length)
+            this.indexedChildren = Arrays.copyOf (this.indexedChildren, index + 1);
+        OpenSoundControlAddress child = this.indexedChildren[index];
+        if (child == null)
+        {
+            child = new OpenSoundControlAddress (this.address + "/" + index);
+            this.indexedChildren[index] = child;
+        }
+        return child;
+    }
+
+
+    /**
+     * Store a primitive value, given as its bits.
+     *
+     * @param newValue The new value
+     * @return True if the value is different from the previously stored one or if there was no
+     *         value stored yet
+     */
+    public boolean update (final long newValue)
+    {
+        if (this.hasValue && this.value == newValue)
+            return false;
+        this.hasValue = true;
+        this.value = newValue;
+        return true;
+    }
+
+
+    /**
+     * Store an object value. The objects are compared with equals.
+     *
+     * @param newValue The new value, might be null
+     * @return True if the value is different from the previously stored one or if there was no
+     *         value stored yet
+     */
+    public boolean update (final Object newValue)
+    {
+        if (this.hasValue && Objects.equals (this.objectValue, newValue))
+            return false;
+        this.hasValue = true;
+        this.objectValue = newValue;
+        return true;
+    }
+}
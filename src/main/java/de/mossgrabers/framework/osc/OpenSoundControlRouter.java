@@ -0,0 +1,328 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.osc;
+
+import java.util.Arrays;
+
+
+/**
+ * Dispatches OSC messages by their address to registered handlers. The routes are stored in a
+ * tree of address segments. A route segment is either a literal text or '#', which matches a
+ * positive number and captures it for the handler, e.g. '/track/#/send/#/volume'.
+ *
+ * Incoming addresses are scanned in place, therefore dispatching a message does not create any
+ * objects. The address of an incoming message might also be an OSC 1.0 pattern ('*', '?', '[]'
+ * and '{}'), which is then matched against all routes. Numbered segments are matched against the
+ * numbers 1 to the maximum number given to the constructor.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class OpenSoundControlRouter
+{
+    /** The route segment which matches and captures a number. */
+    public static final String NUMBER     = "#";
+
+    private static final int   MAX_DEPTH  = 16;
+    private static final int   MAX_DIGITS = 9;
+
+    private final Node         root       = new Node (null);
+    private final String []    numberTexts;
+    private final int []       numbers    = new int [MAX_DEPTH];
+
+
+    /**
+     * Constructor.
+     *
+     * @param maxNumber The highest number to which numbered segments are expanded if the incoming
+     *            address is a pattern
+     */
+    public OpenSoundControlRouter (final int maxNumber)
+    {
+        this.numberTexts = new String [maxNumber + 1];
+        for (int i = 0; i <= maxNumber; i++)
+            this.numberTexts[i] = Integer.toString (i);
+    }
+
+
+    /**
+     * Register a handler for a route. An already registered handler of the same route is
+     * replaced.
+     *
+     * @param route The route, e.g. '/track/#/volume'
+     * @param handler The handler to call for matching messages
+     */
+    public void addRoute (final String route, final IOpenSoundControlRouteHandler handler)
+    {
+        if (route.isEmpty () || route.charAt (0) != '/')
+            throw new IllegalArgumentException ("A route must start with a slash: " + route);
+
+        Node node = this.root;
+        for (final String segment: route.substring (1).split ("/"))
+            node = node.getOrCreateChild (segment);
+        node.handler = handler;
+    }
+
+
+    /**
+     * Dispatch a message to the handler(s) of the matching route(s).
+     *
+     * @param address The address of the message, might be an OSC pattern
+     * @param values The values of the message
+     * @return True if at least one handler was called
+     */
+    public boolean route (final String address, final Object [] values)
+    {
+        if (address == null || address.isEmpty () || address.charAt (0) != '/')
+            return false;
+        return this.route (this.root, address, 0, 0, values);
+    }
+
+
+    private boolean route (final Node node, final String address, final int position, final int numberIndex, final Object [] values)
+    {
+        final int length = address.length ();
+        if (position >= length)
+        {
+            if (node.handler == null)
+                return false;
+            node.handler.handle (this.numbers, values);
+            return true;
+        }
+
+        final int start = position + 1;
+        int end = address.indexOf ('/', start);
+        if (end < 0)
+            end = length;
+
+        if (isPattern (address, start, end))
+            return this.routePattern (node, address, start, end, numberIndex, values);
+
+        final int segmentLength = end - start;
+        for (final Node child: node.children)
+        {
+            if (child.segment.length () == segmentLength && address.regionMatches (start, child.segment, 0, segmentLength))
+                return this.route (child, address, end, numberIndex, values);
+        }
+
+        if (node.numberChild == null || numberIndex >= MAX_DEPTH)
+            return false;
+        final int number = parseNumber (address, start, end);
+        if (number < 0)
+            return false;
+        this.numbers[numberIndex] = number;
+        return this.route (node.numberChild, address, end, numberIndex + 1, values);
+    }
+
+
+    private boolean routePattern (final Node node, final String address, final int start, final int end, final int numberIndex, final Object [] values)
+    {
+        boolean handled = false;
+        for (final Node child: node.children)
+        {
+            if (matches (address, start, end, child.segment, 0))
+                handled |= this.route (child, address, end, numberIndex, values);
+        }
+
+        if (node.numberChild == null || numberIndex >= MAX_DEPTH)
+            return handled;
+        for (int i = 1; i < this.numberTexts.length; i++)
+        {
+            if (!matches (address, start, end, this.numberTexts[i], 0))
+                continue;
+            this.numbers[numberIndex] = i;
+            handled |= this.route (node.numberChild, address, end, numberIndex + 1, values);
+        }
+        return handled;
+    }
+
+
+    private static boolean isPattern (final String address, final int start, final int end)
+    {
+        for (int i = start; i < end; i++)
+        {
+            switch (address.charAt (i))
+            {
+                case '*':
+                case '?':
+                case '[':
+                case '{':
+                    return true;
+                default:
+                    // Not a pattern character
+                    break;
+            }
+        }
+        return false;
+    }
+
+
+    private static int parseNumber (final String address, final int start, final int end)
+    {
+        if (start == end || end - start > MAX_DIGITS)
+            return -1;
+        int number = 0;
+        for (int i = start; i < end; i++)
+        {
+            final char c = address.charAt (i);
+            if (c < '0' || c > '9')
+                return -1;
+            number = number * 10 + c - '0';
+        }
+        return number;
+    }
+
+
+    /**
+     * Matches a text against an OSC 1.0 address pattern.
+     *
+     * @param pattern The string containing the pattern
+     * @param patternStart The start index of the pattern
+     * @param patternEnd The end index (exclusive) of the pattern
+     * @param text The text to match
+     * @param textStart The index of the text from which to start matching
+     * @return True if the (rest of) the text matches the pattern
+     */
+    static boolean matches (final String pattern, final int patternStart, final int patternEnd, final String text, final int textStart)
+    {
+        int p = patternStart;
+        int t = textStart;
+        final int textEnd = text.length ();
+        while (p < patternEnd)
+        {
+            final char c = pattern.charAt (p);
+            switch (c)
+            {
+                case '*':
+                    p++;
+                    if (p == patternEnd)
+                        return true;
+                    for (int i = t; i <= textEnd; i++)
+                    {
+                        if (matches (pattern, p, patternEnd, text, i))
+                            return true;
+                    }
+                    return false;
+
+                case '?':
+                    if (t >= textEnd)
+                        return false;
+                    p++;
+                    t++;
+                    break;
+
+                case '[':
+                    final int close = pattern.indexOf (']', p);
+                    if (t >= textEnd || close < 0 || close >= patternEnd)
+                        return false;
+                    if (!matchesCharacterSet (pattern, p + 1, close, text.charAt (t)))
+                        return false;
+                    p = close + 1;
+                    t++;
+                    break;
+
+                case '{':
+                    final int end = pattern.indexOf ('}', p);
+                    if (end < 0 || end >= patternEnd)
+                        return false;
+                    int alternative = p + 1;
+                    while (alternative <= end)
+                    {
+                        int comma = pattern.indexOf (',', alternative);
+                        if (comma < 0 || comma > end)
+                            comma = end;
+                        final int length = comma - alternative;
+                        if (text.regionMatches (t, pattern, alternative, length) && matches (pattern, end + 1, patternEnd, text, t + length))
+                            return true;
+                        alternative = comma + 1;
+                    }
+                    return false;
+
+                default:
+                    if (t >= textEnd || text.charAt (t) != c)
+                        return false;
+                    p++;
+                    t++;
+                    break;
+            }
+        }
+        return t == textEnd;
+    }
+
+
+    private static boolean matchesCharacterSet (final String pattern, final int start, final int end, final char c)
+    {
+        int i = start;
+        final boolean negate = i < end && pattern.charAt (i) == '!';
+        if (negate)
+            i++;
+
+        boolean isMatch = false;
+        while (i < end)
+        {
+            final char first = pattern.charAt (i);
+            if (i + 2 < end && pattern.charAt (i + 1) == '-')
+            {
+                if (c >= first && c <= pattern.charAt (i + 2))
+                    isMatch = true;
+                i += 3;
+            }
+            else
+            {
+                if (c == first)
+                    isMatch = true;
+                i++;
+            }
+        }
+        return isMatch != negate;
+    }
+
+
+    /** A segment of a route. */
+    private static class Node
+    {
+        private final String                  segment;
+        private Node []                       children = new Node [0];
+        private Node                          numberChild;
+        private IOpenSoundControlRouteHandler handler;
+
+
+        /**
+         * Constructor.
+         *
+         * @param segment The text of the segment
+         */
+        Node (final String segment)
+        {
+            this.segment = segment;
+        }
+
+
+        /**
+         * Get the child node for a route segment. Creates it if it does not exist yet.
+         *
+         * @param childSegment The segment
+         * @return The child node
+         */
+        Node getOrCreateChild (final String childSegment)
+        {
+            if (NUMBER.equals (childSegment))
+            {
+                if (this.numberChild == null)
+                    this.numberChild = new Node (childSegment);
+                return this.numberChild;
+            }
+
+            for (final Node child: this.children)
+            {
+                if (child.segment.equals (childSegment))
+                    return child;
+            }
+            final Node child = new Node (childSegment);
+            this.children = Arrays.copyOf (this.children, this.children.length + 1);
+            this.children[this.children.length - 1] = child;
+            return child;
+        }
+    }
+}
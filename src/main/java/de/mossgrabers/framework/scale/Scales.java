@@ -5,6 +5,7 @@
 package de.mossgrabers.framework.scale;
 
 import de.mossgrabers.framework.controller.IValueChanger;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.scale.ScaleGrid.Orientation;
 
 import java.util.Arrays;
@@ -114,6 +115,20 @@ public class Scales
     /** Color index when the pad is a note which is not part of the scale. */
     public static final String          SCALE_COLOR_OUT_OF_SCALE = "SCALE_COLOR_OUT_OF_SCALE";
 
+    private static final String []      SCALE_COLOR_IDS          =
+    {
+        SCALE_COLOR_OFF,
+        SCALE_COLOR_OCTAVE,
+        SCALE_COLOR_NOTE,
+        SCALE_COLOR_OUT_OF_SCALE
+    };
+    private static final int []         SCALE_COLOR_HANDLES      = new int [SCALE_COLOR_IDS.length];
+    static
+    {
+        for (int i = 0; i < SCALE_COLOR_IDS.length; i++)
+            SCALE_COLOR_HANDLES[i] = ColorManager.getHandle (SCALE_COLOR_IDS[i]);
+    }
+
     /** Number of octaves which can be transposed up and down. */
     public static final int             OCTAVE_RANGE             = 4;
     /** Number of octaves which can be transposed up and down in the piano layout. */
@@ -604,24 +619,50 @@ public class Scales
      * @return The color index
      */
     public String getColor (final int [] noteMap, final int note)
+    {
+        return SCALE_COLOR_IDS[this.getColorPosition (noteMap, note)];
+    }
+
+
+    /**
+     * Get the handle of the color index for the given note respecting the note map.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The handle of the color index, see ColorManager.getHandle
+     */
+    public int getColorHandle (final int [] noteMap, final int note)
+    {
+        return SCALE_COLOR_HANDLES[this.getColorPosition (noteMap, note)];
+    }
+
+
+    /**
+     * Get the position of the color ID for the given note in SCALE_COLOR_IDS.
+     *
+     * @param noteMap The note map
+     * @param note A note
+     * @return The position
+     */
+    private int getColorPosition (final int [] noteMap, final int note)
     {
         final int midiNote = noteMap[note];
         if (midiNote == -1)
-            return Scales.SCALE_COLOR_OFF;
+            return 0;
         final int n = (midiNote - Scales.OFFSETS[this.scaleOffset]) % 12;
         if (n == 0)
-            return Scales.SCALE_COLOR_OCTAVE;
+            return 1;
         if (this.isChromatic ())
         {
             final int [] notes = this.selectedScale.getIntervals ();
             for (final int note2: notes)
             {
                 if (note2 == n)
-                    return Scales.SCALE_COLOR_NOTE;
+                    return 2;
             }
-            return Scales.SCALE_COLOR_OUT_OF_SCALE;
+            return 3;
         }
-        return Scales.SCALE_COLOR_NOTE;
+        return 2;
     }
 
 
@@ -0,0 +1,159 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * One thread which is shared by all displays to send their output without blocking the caller.
+ * Tasks are submitted with a key, e.g. one for each row of a display of a surface. If a task for a
+ * key is still waiting for execution when a new one arrives, only the latest one is executed.
+ *
+ * Get the executor with acquire and call release when the display is shut down. The thread is
+ * stopped after all tasks are executed when the last display has released it.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class DisplayExecutor
+{
+    private static DisplayExecutor      instance;
+    private static int                  users;
+
+    private final ExecutorService       executor;
+    private final Map<Object, Runnable> pendingTasks    = new ConcurrentHashMap<> ();
+    private final AtomicLong            submittedTasks  = new AtomicLong ();
+    private final AtomicLong            executedTasks   = new AtomicLong ();
+    private final AtomicLong            supersededTasks = new AtomicLong ();
+
+
+    /**
+     * Constructor.
+     */
+    private DisplayExecutor ()
+    {
+        this.executor = Executors.newSingleThreadExecutor (runnable -> {
+            final Thread thread = new Thread (runnable, "Display Output");
+            thread.setDaemon (true);
+            return thread;
+        });
+    }
+
+
+    /**
+     * Get the shared executor. Must be released again with release.
+     *
+     * @return The executor
+     */
+    public static synchronized DisplayExecutor acquire ()
+    {
+        if (instance == null)
+            instance = new DisplayExecutor ();
+        users++;
+        return instance;
+    }
+
+
+    /**
+     * Release the shared executor. If there are no more users the already submitted tasks are
+     * executed and the thread is stopped.
+     */
+    public static synchronized void release ()
+    {
+        if (users == 0 || --users > 0)
+            return;
+        instance.executor.shutdown ();
+        instance = null;
+    }
+
+
+    /**
+     * Execute a task. If a task with the same key is still waiting for execution it is replaced.
+     *
+     * @param key The key, e.g. one object for each row of a display
+     * @param task The task to execute
+     */
+    public void execute (final Object key, final Runnable task)
+    {
+        this.submittedTasks.incrementAndGet ();
+
+        // If there is a task waiting for this key, the already scheduled execution runs the new one
+        if (this.pendingTasks.put (key, task) != null)
+        {
+            this.supersededTasks.incrementAndGet ();
+            return;
+        }
+
+        try
+        {
+            this.executor.execute ( () -> this.runPendingTask (key));
+        }
+        catch (final RejectedExecutionException ex)
+        {
+            // Already shut down
+            this.pendingTasks.remove (key);
+        }
+    }
+
+
+    /**
+     * Get the number of submitted tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getSubmittedTasks ()
+    {
+        return this.submittedTasks.get ();
+    }
+
+
+    /**
+     * Get the number of executed tasks.
+     *
+     * @return The number of tasks
+     */
+    public long getExecutedTasks ()
+    {
+        return this.executedTasks.get ();
+    }
+
+
+    /**
+     * Get the number of tasks which were not executed since a newer task with the same key
+     * arrived before.
+     *
+     * @return The number of tasks
+     */
+    public long getSupersededTasks ()
+    {
+        return this.supersededTasks.get ();
+    }
+
+
+    /**
+     * Get the number of tasks waiting for execution.
+     *
+     * @return The number of tasks
+     */
+    public int getPendingTasks ()
+    {
+        return this.pendingTasks.size ();
+    }
+
+
+    private void runPendingTask (final Object key)
+    {
+        final Runnable task = this.pendingTasks.remove (key);
+        if (task == null)
+            return;
+        this.executedTasks.incrementAndGet ();
+        task.run ();
+    }
+}
@@ -0,0 +1,143 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+/**
+ * Formats numbers into character buffers. Neither format objects nor strings are created, which
+ * allows to update e.g. a transport display on each flush without producing garbage. All methods
+ * write at the given offset and return the offset after the last written character. The buffer
+ * must be large enough.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class NumberFormatter
+{
+    /**
+     * Constructor, private due to helper class.
+     */
+    private NumberFormatter ()
+    {
+        // Intentionally empty
+    }
+
+
+    /**
+     * Format an integer. Negative numbers start with a minus.
+     *
+     * @param value The value to format
+     * @param minDigits The minimum number of digits, the number is padded with leading zeros
+     * @param buffer The buffer to write to
+     * @param offset The position in the buffer where to start
+     * @return The position after the formatted number
+     */
+    public static int formatInt (final int value, final int minDigits, final char [] buffer, final int offset)
+    {
+        if (value >= 0)
+            return formatLong (value, minDigits, buffer, offset);
+        buffer[offset] = '-';
+        return formatLong (-(long) value, minDigits, buffer, offset + 1);
+    }
+
+
+    /**
+     * Format a decimal number with a fixed number of fraction digits. The value is rounded to the
+     * nearest number with the given fraction digits, ties are rounded to the even one.
+     *
+     * @param value The value to format
+     * @param fractionDigits The number of fraction digits
+     * @param buffer The buffer to write to
+     * @param offset The position in the buffer where to start
+     * @return The position after the formatted number
+     */
+    public static int formatDecimal (final double value, final int fractionDigits, final char [] buffer, final int offset)
+    {
+        long scale = 1;
+        for (int i = 0; i < fractionDigits; i++)
+            scale *= 10;
+        final long scaled = (long) Math.rint (Math.abs (value) * scale);
+
+        int pos = offset;
+        if (value < 0 && scaled != 0)
+            buffer[pos++] = '-';
+        pos = formatLong (scaled / scale, 1, buffer, pos);
+        if (fractionDigits == 0)
+            return pos;
+        buffer[pos++] = '.';
+        return formatLong (scaled % scale, fractionDigits, buffer, pos);
+    }
+
+
+    /**
+     * Format a tempo with 2 fraction digits, e.g. 120.00.
+     *
+     * @param tempo The tempo to format
+     * @param buffer The buffer to write to
+     * @param offset The position in the buffer where to start
+     * @return The position after the formatted tempo
+     */
+    public static int formatTempo (final double tempo, final char [] buffer, final int offset)
+    {
+        return formatDecimal (tempo, 2, buffer, offset);
+    }
+
+
+    /**
+     * Format a tempo without fraction digits, e.g. 120.
+     *
+     * @param tempo The tempo to format
+     * @param minDigits The minimum number of digits, the tempo is padded with leading zeros
+     * @param buffer The buffer to write to
+     * @param offset The position in the buffer where to start
+     * @return The position after the formatted tempo
+     */
+    public static int formatTempoNoFraction (final double tempo, final int minDigits, final char [] buffer, final int offset)
+    {
+        return formatInt ((int) Math.rint (tempo), minDigits, buffer, offset);
+    }
+
+
+    /**
+     * Format the given time as measure.quarters.eights.
+     *
+     * @param quartersPerMeasure The number of quarters of a measure
+     * @param time The time to format
+     * @param startOffset An offset that is added to the measure, quarter and eights values
+     * @param buffer The buffer to write to
+     * @param offset The position in the buffer where to start
+     * @return The position after the formatted time
+     */
+    public static int formatMeasures (final int quartersPerMeasure, final double time, final int startOffset, final char [] buffer, final int offset)
+    {
+        final int measure = (int) Math.floor (time / quartersPerMeasure);
+        double t = time - measure * quartersPerMeasure;
+        final int quarters = (int) Math.floor (t); // :1
+        t = t - quarters; // *1
+        final int eights = (int) Math.floor (t / 0.25);
+
+        int pos = formatInt (measure + startOffset, 1, buffer, offset);
+        buffer[pos++] = '.';
+        pos = formatInt (quarters + startOffset, 1, buffer, pos);
+        buffer[pos++] = '.';
+        return formatInt (eights + startOffset, 1, buffer, pos);
+    }
+
+
+    private static int formatLong (final long value, final int minDigits, final char [] buffer, final int offset)
+    {
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10)
+            digits++;
+        if (digits < minDigits)
+            digits = minDigits;
+
+        long v = value;
+        for (int i = offset + digits - 1; i >= offset; i--)
+        {
+            buffer[i] = (char) ('0' + v % 10);
+            v /= 10;
+        }
+        return offset + digits;
+    }
+}
@@ -0,0 +1,165 @@
+// Written by Jürgen Moßgraber - mossgrabers.de
+// (c) 2017-2018
+// Licensed under LGPLv3 - http://www.gnu.org/licenses/lgpl-3.0.txt
+
+package de.mossgrabers.framework.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+
+/**
+ * A bounded cache for converted texts, e.g. shortened names. The texts are stored by the original
+ * text and an additional integer (e.g. the length). If the cache is full, the least recently used
+ * entry is removed. The cache can be used from several threads, lookups do not create objects.
+ *
+ * @author J&uuml;rgen Mo&szlig;graber
+ */
+public class StringCache
+{
+    private final Map<Key, String> entries;
+    private final Key              lookupKey = new Key ();
+    private long                   hits;
+    private long                   misses;
+
+
+    /**
+     * Constructor.
+     *
+     * @param capacity The maximum number of cached texts
+     */
+    public StringCache (final int capacity)
+    {
+        this.entries = new LinkedHashMap<Key, String> (capacity * 4 / 3 + 1, 0.75f, true)
+        {
+            private static final long serialVersionUID = 1L;
+
+
+            /** {@inheritDoc} */
+            @Override
+            protected boolean removeEldestEntry (final Map.Entry<Key, String> eldest)
+            {
+                return this.size () > capacity;
+            }
+        };
+    }
+
+
+    /**
+     * Get a cached text.
+     *
+     * @param text The original text
+     * @param parameter The additional parameter of the conversion
+     * @return The cached converted text or null if not cached
+     */
+    public synchronized String get (final String text, final int parameter)
+    {
+        this.lookupKey.set (text, parameter);
+        final String result = this.entries.get (this.lookupKey);
+        this.lookupKey.set (null, 0);
+        if (result == null)
+            this.misses++;
+        else
+            this.hits++;
+        return result;
+    }
+
+
+    /**
+     * Store a converted text.
+     *
+     * @param text The original text
+     * @param parameter The additional parameter of the conversion
+     * @param result The converted text
+     */
+    public synchronized void put (final String text, final int parameter, final String result)
+    {
+        final Key key = new Key ();
+        key.set (text, parameter);
+        this.entries.put (key, result);
+    }
+
+
+    /**
+     * Get the number of cached texts.
+     *
+     * @return The number
+     */
+    public synchronized int size ()
+    {
+        return this.entries.size ();
+    }
+
+
+    /**
+     * Get the number of lookups which found a cached text.
+     *
+     * @return The number of hits
+     */
+    public synchronized long getHits ()
+    {
+        return this.hits;
+    }
+
+
+    /**
+     * Get the number of lookups which did not find a cached text.
+     *
+     * @return The number of misses
+     */
+    public synchronized long getMisses ()
+    {
+        return this.misses;
+    }
+
+
+    /**
+     * Remove all cached texts and reset the counters.
+     */
+    public synchronized void clear ()
+    {
+        this.entries.clear ();
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+
+    /**
+     * The key of a cache entry. The lookup key is reused, therefore it is mutable.
+     */
+    private static class Key
+    {
+        private String text;
+        private int    parameter;
+        private int    hash;
+
+
+        void set (final String text, final int parameter)
+        {
+            this.text = text;
+            this.parameter = parameter;
+            this.hash = text == null ? 0 : 31 * text.hashCode () + parameter;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode ()
+        {
+            return this.hash;
+        }
+
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals (final Object obj)
+        {
+            if (this == obj)
+                return true;
+            if (!(obj instanceof Key))
+                return false;
+            final Key other = (Key) obj;
+            return this.parameter == other.parameter && this.text != null && this.text.equals (other.text);
+        }
+    }
+}
@@ -11,7 +11,15 @@ package de.mossgrabers.framework.utils;
  */
 public class StringUtils
 {
-    private static final char [] REMOVABLE_CHARS =
+    /** The maximum number of converted names which are cached. */
+    public static final int          NAME_CACHE_SIZE = 1024;
+
+    // The cache parameter for fixASCII, the shortened names use their length
+    private static final int         FIX_ASCII       = -1;
+
+    private static final StringCache NAME_CACHE      = new StringCache (NAME_CACHE_SIZE);
+
+    private static final char []     REMOVABLE_CHARS =
     {
         ' ',
         'e',
@@ -31,6 +39,18 @@ public class StringUtils
     }
 
 
+    /**
+     * Get the cache of the converted names of fixASCII and optimizeName, e.g. to monitor the hits
+     * and misses.
+     *
+     * @return The cache
+     */
+    public static StringCache getNameCache ()
+    {
+        return NAME_CACHE;
+    }
+
+
     /**
      * First replaces umlauts with alternative writing, then shortens a text to the given length.
      *
@@ -54,7 +74,14 @@ public class StringUtils
     {
         if (name == null)
             return null;
-        final StringBuilder str = new StringBuilder ();
+        if (isASCII (name))
+            return name;
+
+        final String cached = NAME_CACHE.get (name, FIX_ASCII);
+        if (cached != null)
+            return cached;
+
+        final StringBuilder str = new StringBuilder (name.length () + 4);
         for (int i = 0; i < name.length (); i++)
         {
             final char c = name.charAt (i);
@@ -99,7 +126,9 @@ public class StringUtils
             else
                 str.append (c);
         }
-        return str.toString ();
+        final String result = str.toString ();
+        NAME_CACHE.put (name, FIX_ASCII, result);
+        return result;
     }
 
 
@@ -114,21 +143,63 @@ public class StringUtils
     {
         if (text == null)
             return "";
+        if (text.length () <= length)
+            return text;
+
+        final String cached = NAME_CACHE.get (text, length);
+        if (cached != null)
+            return cached;
+
+        final String result = removeChars (text, length);
+        NAME_CACHE.put (text, length, result);
+        return result;
+    }
+
 
-        String shortened = text;
+    /**
+     * Removes the removable characters in their order until the text fits the given length. If it
+     * is still too long it is cut.
+     *
+     * @param text The text to shorten
+     * @param length The length to shorten to
+     * @return The shortened text
+     */
+    private static String removeChars (final String text, final int length)
+    {
+        final char [] chars = text.toCharArray ();
+        int size = chars.length;
         for (final char element: REMOVABLE_CHARS)
         {
-            if (shortened.length () <= length)
-                return shortened;
-            int pos;
-            while ((pos = shortened.indexOf (element)) != -1)
+            // Removes the occurrences from left to right, stops as soon as it fits
+            int target = 0;
+            for (int i = 0; i < size; i++)
             {
-                shortened = shortened.substring (0, pos) + shortened.substring (pos + 1, shortened.length ());
-                if (shortened.length () <= length)
-                    return shortened;
+                if (chars[i] == element && size - (i - target) > length)
+                    continue;
+                chars[target++] = chars[i];
             }
+            size = target;
+            if (size <= length)
+                return new String (chars, 0, size);
+        }
+        return new String (chars, 0, length);
+    }
+
+
+    /**
+     * Check if the text contains only ASCII characters.
+     *
+     * @param text The text to check
+     * @return True if all characters are ASCII
+     */
+    private static boolean isASCII (final String text)
+    {
+        for (int i = 0; i < text.length (); i++)
+        {
+            if (text.charAt (i) > 127)
+                return false;
         }
-        return shortened.length () <= length ? shortened : shortened.substring (0, length);
+        return true;
     }
 
 
@@ -185,11 +256,7 @@ public class StringUtils
      */
     public static String formatMeasures (final int quartersPerMeasure, final double time, final int startOffset)
     {
-        final int measure = (int) Math.floor (time / quartersPerMeasure);
-        double t = time - measure * quartersPerMeasure;
-        final int quarters = (int) Math.floor (t); // :1
-        t = t - quarters; // *1
-        final int eights = (int) Math.floor (t / 0.25);
-        return measure + startOffset + "." + (quarters + startOffset) + "." + (eights + startOffset);
+        final char [] buffer = new char [36];
+        return new String (buffer, 0, NumberFormatter.formatMeasures (quartersPerMeasure, time, startOffset, buffer, 0));
     }
 }
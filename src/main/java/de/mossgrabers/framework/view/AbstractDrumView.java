@@ -6,8 +6,8 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGrid;
-import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.ICursorDevice;
 import de.mossgrabers.framework.daw.IModel;
@@ -32,25 +32,34 @@ import java.util.Arrays;
 public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends Configuration> extends AbstractSequencerView<S, C> implements TransposeView
 {
     /** The color ID for the recording state. */
-    public static final String COLOR_PAD_RECORD      = "COLOR_PAD_RECORD";
+    public static final String COLOR_PAD_RECORD             = "COLOR_PAD_RECORD";
     /** The color ID for the play state. */
-    public static final String COLOR_PAD_PLAY        = "COLOR_PAD_PLAY";
+    public static final String COLOR_PAD_PLAY               = "COLOR_PAD_PLAY";
     /** The color ID for the selected state. */
-    public static final String COLOR_PAD_SELECTED    = "COLOR_PAD_SELECTED";
+    public static final String COLOR_PAD_SELECTED           = "COLOR_PAD_SELECTED";
     /** The color ID for the mute state. */
-    public static final String COLOR_PAD_MUTED       = "COLOR_PAD_MUTED";
+    public static final String COLOR_PAD_MUTED              = "COLOR_PAD_MUTED";
     /** The color ID for the has-content state. */
-    public static final String COLOR_PAD_HAS_CONTENT = "COLOR_PAD_HAS_CONTENT";
+    public static final String COLOR_PAD_HAS_CONTENT        = "COLOR_PAD_HAS_CONTENT";
     /** The color ID for the no-content state. */
-    public static final String COLOR_PAD_NO_CONTENT  = "COLOR_PAD_NO_CONTENT";
+    public static final String COLOR_PAD_NO_CONTENT         = "COLOR_PAD_NO_CONTENT";
     /** The color ID for the off state. */
-    public static final String COLOR_PAD_OFF         = "COLOR_PAD_OFF";
+    public static final String COLOR_PAD_OFF                = "COLOR_PAD_OFF";
 
-    static final int           DRUM_START_KEY        = 36;
-    static final int           GRID_COLUMNS          = 8;
+    // Handles of the color IDs, see ColorManager.getHandle
+    protected static final int COLOR_PAD_RECORD_HANDLE      = ColorManager.getHandle (COLOR_PAD_RECORD);
+    protected static final int COLOR_PAD_PLAY_HANDLE        = ColorManager.getHandle (COLOR_PAD_PLAY);
+    protected static final int COLOR_PAD_SELECTED_HANDLE    = ColorManager.getHandle (COLOR_PAD_SELECTED);
+    protected static final int COLOR_PAD_MUTED_HANDLE       = ColorManager.getHandle (COLOR_PAD_MUTED);
+    protected static final int COLOR_PAD_HAS_CONTENT_HANDLE = ColorManager.getHandle (COLOR_PAD_HAS_CONTENT);
+    protected static final int COLOR_PAD_NO_CONTENT_HANDLE  = ColorManager.getHandle (COLOR_PAD_NO_CONTENT);
+    protected static final int COLOR_PAD_OFF_HANDLE         = ColorManager.getHandle (COLOR_PAD_OFF);
+
+    static final int           DRUM_START_KEY               = 36;
+    static final int           GRID_COLUMNS                 = 8;
 
     protected int              selectedPad;
-    private int                loopPadPressed        = -1;
+    private int                loopPadPressed               = -1;
     private int                sequencerLines;
     private int                playLines;
     private int                allLines;
@@ -227,7 +236,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             for (int x = 0; x < this.halfColumns; x++)
             {
                 final int index = this.halfColumns * y + x;
-                padGrid.lightEx (x, this.allLines - 1 - y, this.getPadColor (index, primary, isSoloed, isRecording));
+                padGrid.lightHandleEx (x, this.allLines - 1 - y, this.getPadColor (index, primary, isSoloed, isRecording));
             }
         }
 
@@ -235,44 +244,44 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
     }
 
 
-    protected String getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
+    protected int getPadColor (final int index, final ICursorDevice primary, final boolean isSoloed, final boolean isRecording)
     {
         // Playing note?
         if (this.pressedKeys[this.offsetY + index] > 0)
-            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD : AbstractDrumView.COLOR_PAD_PLAY;
+            return isRecording ? AbstractDrumView.COLOR_PAD_RECORD_HANDLE : AbstractDrumView.COLOR_PAD_PLAY_HANDLE;
         // Selected?
         if (this.selectedPad == index)
-            return AbstractDrumView.COLOR_PAD_SELECTED;
+            return AbstractDrumView.COLOR_PAD_SELECTED_HANDLE;
         // Exists and active?
         final IChannel drumPad = primary.getDrumPad (index);
         if (!drumPad.doesExist () || !drumPad.isActivated ())
-            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF : AbstractDrumView.COLOR_PAD_NO_CONTENT;
+            return this.surface.getConfiguration ().isTurnOffEmptyDrumPads () ? AbstractDrumView.COLOR_PAD_OFF_HANDLE : AbstractDrumView.COLOR_PAD_NO_CONTENT_HANDLE;
         // Muted or soloed?
         if (drumPad.isMute () || isSoloed && !drumPad.isSolo ())
-            return AbstractDrumView.COLOR_PAD_MUTED;
+            return AbstractDrumView.COLOR_PAD_MUTED_HANDLE;
         return this.getPadContentColor (drumPad);
     }
 
 
-    protected String getPadContentColor (final IChannel drumPad)
+    protected int getPadContentColor (final IChannel drumPad)
     {
-        return DAWColors.getColorIndex (drumPad.getColor ());
+        return ColorManager.getDAWColorHandle (drumPad.getColor ());
     }
 
 
-    protected String getStepColor (final int isSet, final boolean hilite)
+    protected int getStepColor (final int isSet, final boolean hilite)
     {
         switch (isSet)
         {
             // Note continues
             case 1:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT_CONT;
+                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE : AbstractSequencerView.COLOR_CONTENT_CONT_HANDLE;
             // Note starts
             case 2:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT : AbstractSequencerView.COLOR_CONTENT;
+                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_CONTENT_HANDLE : AbstractSequencerView.COLOR_CONTENT_HANDLE;
             // Empty
             default:
-                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT : AbstractSequencerView.COLOR_NO_CONTENT;
+                return hilite ? AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT_HANDLE : AbstractSequencerView.COLOR_NO_CONTENT_HANDLE;
         }
     }
 
@@ -450,7 +459,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
         {
             final int x = this.halfColumns + pad % this.halfColumns;
             final int y = this.sequencerLines + pad / this.halfColumns;
-            padGrid.lightEx (x, y, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            padGrid.lightHandleEx (x, y, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
         }
 
         // Paint the sequencer steps
@@ -461,7 +470,7 @@ public abstract class AbstractDrumView<S extends IControlSurface<C>, C extends C
             final boolean hilite = col == hiStep;
             final int x = col % GRID_COLUMNS;
             final int y = col / GRID_COLUMNS;
-            padGrid.lightEx (x, y, this.getStepColor (isSet, hilite));
+            padGrid.lightHandleEx (x, y, this.getStepColor (isSet, hilite));
         }
     }
 }
@@ -161,7 +161,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
             {
                 // 0: not set, 1: note continues playing, 2: start of note
                 final int isSet = clip.getStep (x, this.noteMap[y]);
-                gridPad.lightEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, selectedTrack));
+                gridPad.lightHandleEx (x, this.numDisplayRows - 1 - y, this.getStepColor (isSet, x == hiStep, y, selectedTrack));
             }
         }
 
@@ -174,7 +174,7 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
         final int loopEndPad = (int) Math.ceil ((loopStart + clip.getLoopLength ()) / lengthOfOnePad);
         final int currentPage = step / this.numDisplayCols;
         for (int pad = 0; pad < 8; pad++)
-            gridPad.lightEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
+            gridPad.lightHandleEx (pad, 0, this.getPageColor (loopStartPad, loopEndPad, currentPage, clip.getEditPage (), pad));
     }
 
 
@@ -185,21 +185,21 @@ public abstract class AbstractNoteSequencerView<S extends IControlSurface<C>, C
      * @param hilite The step should be highlighted
      * @param note The note of the step
      * @param track A track from which to use the color
-     * @return The color
+     * @return The handle of the color ID
      */
-    protected String getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
+    protected int getStepColor (final int isSet, final boolean hilite, final int note, final ITrack track)
     {
         switch (isSet)
         {
             // Note continues
             case 1:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT_CONT;
+                return hilite ? COLOR_STEP_HILITE_CONTENT_HANDLE : COLOR_CONTENT_CONT_HANDLE;
             // Note starts
             case 2:
-                return hilite ? COLOR_STEP_HILITE_CONTENT : COLOR_CONTENT;
+                return hilite ? COLOR_STEP_HILITE_CONTENT_HANDLE : COLOR_CONTENT_HANDLE;
             // Empty
             default:
-                return hilite ? COLOR_STEP_HILITE_NO_CONTENT : this.getColor (note, this.useTrackColor ? track : null);
+                return hilite ? COLOR_STEP_HILITE_NO_CONTENT_HANDLE : this.getColor (note, this.useTrackColor ? track : null);
         }
     }
 
@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.controller.grid.PadGrid;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.daw.ITrackBank;
@@ -29,11 +30,16 @@ import java.util.List;
 public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements TransposeView
 {
     /** ID of the color to use when a pad is played. */
-    public static final String COLOR_PLAY   = "PLAY_VIEW_COLOR_PLAY";
+    public static final String COLOR_PLAY          = "PLAY_VIEW_COLOR_PLAY";
     /** ID of the color to use when a pad is played and recording is enabled. */
-    public static final String COLOR_RECORD = "PLAY_VIEW_COLOR_RECORD";
+    public static final String COLOR_RECORD        = "PLAY_VIEW_COLOR_RECORD";
     /** ID of the color to use when a pad does not contain a note. */
-    public static final String COLOR_OFF    = "PLAY_VIEW_COLOR_OFF";
+    public static final String COLOR_OFF           = "PLAY_VIEW_COLOR_OFF";
+
+    // Handles of the color IDs, see ColorManager.getHandle
+    protected static final int COLOR_PLAY_HANDLE   = ColorManager.getHandle (COLOR_PLAY);
+    protected static final int COLOR_RECORD_HANDLE = ColorManager.getHandle (COLOR_RECORD);
+    protected static final int COLOR_OFF_HANDLE    = ColorManager.getHandle (COLOR_OFF);
 
     protected int []           pressedKeys;
     protected int []           defaultVelocity;
@@ -92,7 +98,7 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
         final ITrack selectedTrack = this.model.getSelectedTrack ();
         final PadGrid gridPad = this.surface.getPadGrid ();
         for (int i = this.scales.getStartNote (); i < this.scales.getEndNote (); i++)
-            gridPad.light (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
+            gridPad.lightHandle (i, this.getGridColor (isKeyboardEnabled, isRecording, selectedTrack, i));
     }
 
 
@@ -103,17 +109,17 @@ public abstract class AbstractPlayView<S extends IControlSurface<C>, C extends C
      * @param isRecording Is recording enabled?
      * @param track The track to use the color for octaves
      * @param note The note of the pad
-     * @return The ID of the color
+     * @return The handle of the color ID
      */
-    protected String getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
+    protected int getGridColor (final boolean isKeyboardEnabled, final boolean isRecording, final ITrack track, final int note)
     {
         if (isKeyboardEnabled)
         {
             if (this.pressedKeys[note] > 0)
-                return isRecording ? AbstractPlayView.COLOR_RECORD : AbstractPlayView.COLOR_PLAY;
+                return isRecording ? AbstractPlayView.COLOR_RECORD_HANDLE : AbstractPlayView.COLOR_PLAY_HANDLE;
             return this.getColor (note, this.useTrackColor ? track : null);
         }
-        return AbstractPlayView.COLOR_OFF;
+        return AbstractPlayView.COLOR_OFF_HANDLE;
     }
 
 
@@ -126,15 +126,15 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
             for (int y = 0; y < this.numDisplayRows; y++)
             {
-                String colorID = y == 0 ? this.getColor (x, selectedTrack) : AbstractSequencerView.COLOR_NO_CONTENT;
+                int colorHandle = y == 0 ? this.getColor (x, selectedTrack) : AbstractSequencerView.COLOR_NO_CONTENT_HANDLE;
                 if (isOn)
                 {
                     if (y == distance)
-                        colorID = AbstractSequencerView.COLOR_CONTENT;
+                        colorHandle = AbstractSequencerView.COLOR_CONTENT_HANDLE;
                     if (left <= distance && y == left || left > distance && y == sum - left)
-                        colorID = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT;
+                        colorHandle = AbstractSequencerView.COLOR_STEP_HILITE_NO_CONTENT_HANDLE;
                 }
-                this.surface.getPadGrid ().lightEx (x, this.numDisplayRows - 1 - y, colorID);
+                this.surface.getPadGrid ().lightHandleEx (x, this.numDisplayRows - 1 - y, colorHandle);
             }
         }
     }
@@ -178,20 +178,12 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
 
     protected int getNoteDistance (final int row, final int length)
     {
-        int step;
-        for (step = 0; step < length; step++)
-        {
-            if (this.getClip ().getStep (step, row) > 0)
-                break;
-        }
-        if (step >= length)
+        final ICursorClip clip = this.getClip ();
+        final int step = clip.getNextStepWithData (row, 0);
+        if (step < 0 || step >= length)
             return -1;
-        for (int step2 = step + 1; step2 < length; step2++)
-        {
-            if (this.getClip ().getStep (step2, row) > 0)
-                return step2 - step;
-        }
-        return -1;
+        final int step2 = clip.getNextStepWithData (row, step + 1);
+        return step2 < 0 || step2 >= length ? -1 : step2 - step;
     }
 
 
@@ -199,18 +191,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
     {
         if (start < 0 || start >= length)
             return -1;
-        int step = start;
-        int counter = 0;
-        do
-        {
-            if (this.getClip ().getStep (step, row) > 0)
-                return counter;
-            step++;
-            counter++;
-            if (step >= length)
-                step = 0;
-        } while (step != start);
-        return -1;
+        final ICursorClip clip = this.getClip ();
+        int step = clip.getNextStepWithData (row, start);
+        if (step >= 0 && step < length)
+            return step - start;
+        // Wrap around
+        step = clip.getNextStepWithData (row, 0);
+        return step >= 0 && step < start ? step + length - start : -1;
     }
 
 
@@ -219,18 +206,13 @@ public abstract class AbstractRaindropsView<S extends IControlSurface<C>, C exte
         if (start < 0 || start >= length)
             return -1;
         final int s = start == 0 ? length - 1 : start - 1;
-        int step = s;
-        int counter = 0;
-        do
-        {
-            if (this.getClip ().getStep (step, row) > 0)
-                return counter;
-            step--;
-            counter++;
-            if (step < 0)
-                step = length - 1;
-        } while (step != s);
-        return -1;
+        final ICursorClip clip = this.getClip ();
+        int step = clip.getPreviousStepWithData (row, s);
+        if (step >= 0)
+            return s - step;
+        // Wrap around
+        step = clip.getPreviousStepWithData (row, length - 1);
+        return step > s ? s + length - step : -1;
     }
 
 
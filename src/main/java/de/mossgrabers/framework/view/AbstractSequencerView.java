@@ -6,6 +6,7 @@ package de.mossgrabers.framework.view;
 
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.ICursorClip;
 import de.mossgrabers.framework.daw.IModel;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -22,23 +23,33 @@ import de.mossgrabers.framework.utils.ButtonEvent;
 public abstract class AbstractSequencerView<S extends IControlSurface<C>, C extends Configuration> extends AbstractView<S, C> implements SceneView
 {
     /** The color for highlighting a step with no content. */
-    public static final String       COLOR_STEP_HILITE_NO_CONTENT = "COLOR_STEP_HILITE_NO_CONTENT";
+    public static final String       COLOR_STEP_HILITE_NO_CONTENT        = "COLOR_STEP_HILITE_NO_CONTENT";
     /** The color for highlighting a step with with content. */
-    public static final String       COLOR_STEP_HILITE_CONTENT    = "COLOR_STEP_HILITE_CONTENT";
+    public static final String       COLOR_STEP_HILITE_CONTENT           = "COLOR_STEP_HILITE_CONTENT";
     /** The color for a step with no content. */
-    public static final String       COLOR_NO_CONTENT             = "COLOR_NO_CONTENT";
+    public static final String       COLOR_NO_CONTENT                    = "COLOR_NO_CONTENT";
     /** The color for a step with content. */
-    public static final String       COLOR_CONTENT                = "COLOR_CONTENT";
+    public static final String       COLOR_CONTENT                       = "COLOR_CONTENT";
     /** The color for a step with content which is not the start of the note. */
-    public static final String       COLOR_CONTENT_CONT           = "COLOR_CONTENT_CONT";
+    public static final String       COLOR_CONTENT_CONT                  = "COLOR_CONTENT_CONT";
     /** The color for a page. */
-    public static final String       COLOR_PAGE                   = "COLOR_PAGE";
+    public static final String       COLOR_PAGE                          = "COLOR_PAGE";
     /** The color for an active page. */
-    public static final String       COLOR_ACTIVE_PAGE            = "COLOR_ACTIVE_PAGE";
+    public static final String       COLOR_ACTIVE_PAGE                   = "COLOR_ACTIVE_PAGE";
     /** The color for a selected page. */
-    public static final String       COLOR_SELECTED_PAGE          = "COLOR_SELECTED_PAGE";
-
-    protected static final double [] RESOLUTIONS                  =
+    public static final String       COLOR_SELECTED_PAGE                 = "COLOR_SELECTED_PAGE";
+
+    // Handles of the color IDs, see ColorManager.getHandle
+    protected static final int       COLOR_STEP_HILITE_NO_CONTENT_HANDLE = ColorManager.getHandle (COLOR_STEP_HILITE_NO_CONTENT);
+    protected static final int       COLOR_STEP_HILITE_CONTENT_HANDLE    = ColorManager.getHandle (COLOR_STEP_HILITE_CONTENT);
+    protected static final int       COLOR_NO_CONTENT_HANDLE             = ColorManager.getHandle (COLOR_NO_CONTENT);
+    protected static final int       COLOR_CONTENT_HANDLE                = ColorManager.getHandle (COLOR_CONTENT);
+    protected static final int       COLOR_CONTENT_CONT_HANDLE           = ColorManager.getHandle (COLOR_CONTENT_CONT);
+    protected static final int       COLOR_PAGE_HANDLE                   = ColorManager.getHandle (COLOR_PAGE);
+    protected static final int       COLOR_ACTIVE_PAGE_HANDLE            = ColorManager.getHandle (COLOR_ACTIVE_PAGE);
+    protected static final int       COLOR_SELECTED_PAGE_HANDLE          = ColorManager.getHandle (COLOR_SELECTED_PAGE);
+
+    protected static final double [] RESOLUTIONS                         =
     {
         1,
         2.0 / 3.0,
@@ -50,7 +61,7 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
         1.0 / 12.0
     };
 
-    protected static final String [] RESOLUTION_TEXTS             =
+    protected static final String [] RESOLUTION_TEXTS                    =
     {
         "1/4",
         "1/4t",
@@ -231,19 +242,19 @@ public abstract class AbstractSequencerView<S extends IControlSurface<C>, C exte
      * @param playPage The page which contains the currently played step
      * @param selectedPage The page selected fpr editing
      * @param page The page for which to get the color
-     * @return The color to use
+     * @return The handle of the color ID to use
      */
-    protected String getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
+    protected int getPageColor (final int loopStartPage, final int loopEndPage, final int playPage, final int selectedPage, final int page)
     {
         if (page == playPage)
-            return AbstractSequencerView.COLOR_ACTIVE_PAGE;
+            return AbstractSequencerView.COLOR_ACTIVE_PAGE_HANDLE;
 
         if (page == selectedPage)
-            return AbstractSequencerView.COLOR_SELECTED_PAGE;
+            return AbstractSequencerView.COLOR_SELECTED_PAGE_HANDLE;
 
         if (page < loopStartPage || page >= loopEndPage)
-            return AbstractSequencerView.COLOR_NO_CONTENT;
+            return AbstractSequencerView.COLOR_NO_CONTENT_HANDLE;
 
-        return AbstractSequencerView.COLOR_PAGE;
+        return AbstractSequencerView.COLOR_PAGE_HANDLE;
     }
 }
\ No newline at end of file
@@ -7,9 +7,9 @@ package de.mossgrabers.framework.view;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
 import de.mossgrabers.framework.controller.color.ColorManager;
-import de.mossgrabers.framework.daw.DAWColors;
 import de.mossgrabers.framework.daw.IChannelBank;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ISlot;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.utils.ButtonEvent;
@@ -57,6 +57,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
         this.rows = rows;
         this.columns = columns;
         this.useClipColor = useClipColor;
+
+        this.observedData.add (ObservedData.TRACK_SLOTS);
     }
 
 
@@ -253,8 +255,6 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
     protected SessionColor getPadColor (final ISlot slot, final boolean isArmed)
     {
-        final double [] slotColor = slot.getColor ();
-        final String colorIndex = DAWColors.getColorIndex (slotColor[0], slotColor[1], slotColor[2]);
         final ColorManager cm = this.model.getColorManager ();
 
         if (slot.isRecordingQueued ())
@@ -262,8 +262,8 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
         if (slot.isRecording ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slot.getColor ()), this.clipColorIsRecording.getBlink (), this.clipColorIsRecording.isFast ());
             return this.clipColorIsRecording;
         }
 
@@ -272,15 +272,15 @@ public abstract class AbstractSessionView<S extends IControlSurface<C>, C extend
 
         if (slot.isPlaying ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slot.getColor ()), this.clipColorIsPlaying.getBlink (), this.clipColorIsPlaying.isFast ());
             return this.clipColorIsPlaying;
         }
 
         if (slot.hasContent ())
         {
-            if (this.useClipColor && colorIndex != null)
-                return new SessionColor (cm.getColor (colorIndex), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
+            if (this.useClipColor)
+                return new SessionColor (cm.getColor (slot.getColor ()), this.clipColorHasContent.getBlink (), this.clipColorHasContent.isFast ());
             return this.clipColorHasContent;
         }
 
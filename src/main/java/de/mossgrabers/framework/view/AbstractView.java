@@ -10,15 +10,17 @@ import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
 import de.mossgrabers.framework.configuration.Configuration;
 import de.mossgrabers.framework.controller.IControlSurface;
-import de.mossgrabers.framework.daw.DAWColors;
+import de.mossgrabers.framework.controller.color.ColorManager;
 import de.mossgrabers.framework.daw.IModel;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.daw.data.ITrack;
 import de.mossgrabers.framework.mode.Mode;
 import de.mossgrabers.framework.scale.Scales;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 /**
@@ -31,26 +33,31 @@ import java.util.Map;
  */
 public abstract class AbstractView<S extends IControlSurface<C>, C extends Configuration> implements View
 {
-    private static final int []                   EMPTY_TABLE        = Scales.getEmptyMatrix ();
+    private static final int []  EMPTY_TABLE         = Scales.getEmptyMatrix ();
 
-    protected S                                   surface;
-    protected IModel                              model;
-    private AftertouchCommand                     aftertouchCommand;
-    private PitchbendCommand                      pitchbendCommand;
+    /** The handle of the color ID for the base note of the scale. */
+    protected static final int   OCTAVE_COLOR_HANDLE = ColorManager.getHandle (Scales.SCALE_COLOR_OCTAVE);
 
-    private final Map<Integer, TriggerCommand>    triggerCommands    = new HashMap<> ();
-    private final Map<Integer, TriggerCommand>    noteCommands       = new HashMap<> ();
-    private final Map<Integer, ContinuousCommand> continuousCommands = new HashMap<> ();
+    protected S                  surface;
+    protected IModel             model;
+    private AftertouchCommand    aftertouchCommand;
+    private PitchbendCommand     pitchbendCommand;
 
-    protected boolean                             canScrollLeft;
-    protected boolean                             canScrollRight;
-    protected boolean                             canScrollUp;
-    protected boolean                             canScrollDown;
+    // Commands indexed by their command ID
+    private TriggerCommand []    triggerCommands     = new TriggerCommand [0];
+    private TriggerCommand []    noteCommands        = new TriggerCommand [0];
+    private ContinuousCommand [] continuousCommands  = new ContinuousCommand [0];
 
-    protected Scales                              scales;
-    protected int []                              noteMap;
+    protected boolean            canScrollLeft;
+    protected boolean            canScrollRight;
+    protected boolean            canScrollUp;
+    protected boolean            canScrollDown;
 
-    private final String                          name;
+    protected Scales             scales;
+    protected int []             noteMap;
+    protected Set<ObservedData>  observedData        = EnumSet.noneOf (ObservedData.class);
+
+    private final String         name;
 
 
     /**
@@ -97,6 +104,14 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     }
 
 
+    /** {@inheritDoc} */
+    @Override
+    public Set<ObservedData> getObservedData ()
+    {
+        return this.observedData;
+    }
+
+
     /** {@inheritDoc} */
     @Override
     public void selectTrack (final int index)
@@ -187,7 +202,10 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerTriggerCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.triggerCommands.put (commandID, command);
+        final int id = commandID.intValue ();
+        if (id >= this.triggerCommands.length)
+            this.triggerCommands = Arrays.copyOf (this.triggerCommands, id + 1);
+        this.triggerCommands[id] = command;
     }
 
 
@@ -195,7 +213,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeTriggerCommand (final Integer commandID, final ButtonEvent event)
     {
-        final TriggerCommand triggerCommand = this.triggerCommands.get (commandID);
+        final TriggerCommand triggerCommand = this.getTriggerCommand (commandID);
         if (triggerCommand != null)
             triggerCommand.execute (event);
     }
@@ -205,7 +223,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getTriggerCommand (final Integer commandID)
     {
-        return this.triggerCommands.get (commandID);
+        return lookupCommand (this.triggerCommands, commandID);
     }
 
 
@@ -213,7 +231,10 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerContinuousCommand (final Integer commandID, final ContinuousCommand command)
     {
-        this.continuousCommands.put (commandID, command);
+        final int id = commandID.intValue ();
+        if (id >= this.continuousCommands.length)
+            this.continuousCommands = Arrays.copyOf (this.continuousCommands, id + 1);
+        this.continuousCommands[id] = command;
     }
 
 
@@ -221,7 +242,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public ContinuousCommand getContinuousCommand (final Integer commandID)
     {
-        return this.continuousCommands.get (commandID);
+        return lookupCommand (this.continuousCommands, commandID);
     }
 
 
@@ -229,7 +250,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeContinuousCommand (final Integer commandID, final int value)
     {
-        final ContinuousCommand continuousCommand = this.continuousCommands.get (commandID);
+        final ContinuousCommand continuousCommand = this.getContinuousCommand (commandID);
         if (continuousCommand != null)
             continuousCommand.execute (value);
     }
@@ -239,7 +260,10 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void registerNoteCommand (final Integer commandID, final TriggerCommand command)
     {
-        this.noteCommands.put (commandID, command);
+        final int id = commandID.intValue ();
+        if (id >= this.noteCommands.length)
+            this.noteCommands = Arrays.copyOf (this.noteCommands, id + 1);
+        this.noteCommands[id] = command;
     }
 
 
@@ -247,7 +271,7 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public void executeNoteCommand (final Integer commandID, final int value)
     {
-        final TriggerCommand command = this.noteCommands.get (commandID);
+        final TriggerCommand command = this.getNoteCommand (commandID);
         if (command != null)
             command.execute (value == 0 ? ButtonEvent.UP : ButtonEvent.DOWN);
     }
@@ -257,43 +281,55 @@ public abstract class AbstractView<S extends IControlSurface<C>, C extends Confi
     @Override
     public TriggerCommand getNoteCommand (final Integer commandID)
     {
-        return this.noteCommands.get (commandID);
+        return lookupCommand (this.noteCommands, commandID);
+    }
+
+
+    /**
+     * Lookup a command in a command array, which is indexed by the command ID.
+     *
+     * @param commands The commands
+     * @param commandID The ID of the command, might be null
+     * @param <T> The type of the command
+     * @return The command or null if none is registered for the ID
+     */
+    private static <T> T lookupCommand (final T [] commands, final Integer commandID)
+    {
+        if (commandID == null)
+            return null;
+        final int id = commandID.intValue ();
+        return id >= 0 && id < commands.length ? commands[id] : null;
     }
 
 
     /**
-     * Get the ID of the color to use for a pad with respect to the current scale settings.
+     * Get the handle of the color ID to use for a pad with respect to the current scale settings.
      *
      * @param pad The midi note of the pad
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @return The color ID
+     * @return The handle of the color ID, see ColorManager.getHandle
      */
-    protected String getColor (final int pad, final ITrack track)
+    protected int getColor (final int pad, final ITrack track)
     {
-        return replaceOctaveColorWithTrackColor (track, this.scales.getColor (this.noteMap, pad));
+        return replaceOctaveColorWithTrackColor (track, this.scales.getColorHandle (this.noteMap, pad));
     }
 
 
     /**
-     * If the given color ID is the octave color ID it will be replaced with the track color ID.
+     * If the given color handle is the handle of the octave color ID it will be replaced with the
+     * handle of the track color ID.
      *
      * @param track A track to use the track color for coloring the octave notes, set to null to use
      *            the default color
-     * @param colorID
-     * @return The color ID
+     * @param colorHandle The handle of a color ID
+     * @return The handle of the color ID
      */
-    protected static String replaceOctaveColorWithTrackColor (final ITrack track, final String colorID)
+    protected static int replaceOctaveColorWithTrackColor (final ITrack track, final int colorHandle)
     {
-        if (Scales.SCALE_COLOR_OCTAVE.equals (colorID))
-        {
-            if (track == null)
-                return Scales.SCALE_COLOR_OCTAVE;
-            final double [] color = track.getColor ();
-            final String c = DAWColors.getColorIndex (color[0], color[1], color[2]);
-            return c == null ? Scales.SCALE_COLOR_OCTAVE : c;
-        }
-        return colorID;
+        if (colorHandle == OCTAVE_COLOR_HANDLE && track != null)
+            return ColorManager.getDAWColorHandle (track.getColor ());
+        return colorHandle;
     }
 
 
@@ -8,8 +8,11 @@ import de.mossgrabers.framework.command.core.AftertouchCommand;
 import de.mossgrabers.framework.command.core.ContinuousCommand;
 import de.mossgrabers.framework.command.core.PitchbendCommand;
 import de.mossgrabers.framework.command.core.TriggerCommand;
+import de.mossgrabers.framework.daw.ObservedData;
 import de.mossgrabers.framework.utils.ButtonEvent;
 
+import java.util.Set;
+
 
 /**
  * Interface to a view. A view contains a grid of pads and a number of buttons to which commands can
@@ -39,6 +42,14 @@ public interface View
     void onDeactivate ();
 
 
+    /**
+     * Get the parts of the DAW data which are read by this view.
+     *
+     * @return The parts of the data
+     */
+    Set<ObservedData> getObservedData ();
+
+
     /**
      * Registers a command for this view.
      *